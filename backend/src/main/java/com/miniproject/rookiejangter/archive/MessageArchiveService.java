@@ -0,0 +1,288 @@
+package com.miniproject.rookiejangter.archive;
+
+import com.miniproject.rookiejangter.entity.MessageArchiveBlock;
+import com.miniproject.rookiejangter.exception.BusinessException;
+import com.miniproject.rookiejangter.exception.ErrorCode;
+import com.miniproject.rookiejangter.repository.MessageArchiveBlockRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 오래 활동이 없는 채팅방의 메시지를 세그먼트 파일로 옮기고, 옮긴 메시지를 테이블에 남은 메시지와 합쳐 조회합니다.
+ * 메시지는 오래된 것부터 옮기므로 한 채팅방에서 보관된 메시지는 모두 테이블에 남은 메시지보다 앞섭니다.
+ * 보관 작업은 Redis 잠금으로 한 서버에서만 실행되며, chat.archive.dir은 모든 서버가 같은 파일을 보도록 공유 저장소여야 합니다.
+ * 잠금은 세그먼트에 덧붙이기 직전마다 연장하고, 그 사이 잠금을 잃었으면 덧붙이지 않고 작업을 멈춥니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MessageArchiveService {
+
+    private static final String LOCK_KEY = "chat:archive:lock";
+
+    private static final RedisScript<Long> RELEASE_LOCK = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0", Long.class);
+    private static final RedisScript<Long> RENEW_LOCK = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end return 0", Long.class);
+
+    // 채팅방별 마지막 활동 시각은 요약 두 행 중 최근 값
+    private static final String SELECT_INACTIVE_CHATS = "SELECT s.chat_id FROM chat_summaries s "
+            + "WHERE EXISTS (SELECT 1 FROM messages m WHERE m.chat_id = s.chat_id) "
+            + "GROUP BY s.chat_id HAVING MAX(s.last_message_at) < ? LIMIT ?";
+    private static final String SELECT_ARCHIVABLE = "SELECT message_id, sender_id, content, created_at FROM messages "
+            + "WHERE chat_id = ? AND created_at < ? ORDER BY message_id LIMIT ?";
+    private static final String DELETE_ARCHIVED = "DELETE FROM messages WHERE chat_id = ? AND message_id <= ? AND created_at < ?";
+    // 보관된 메시지는 읽음으로 보고 두 참여자의 읽은 위치를 마지막 보관 메시지까지 옮긴 뒤, 안 읽은 수를 남은 메시지로 다시 계산
+    private static final String ADVANCE_READ_PAST_ARCHIVED = "UPDATE chat_summaries SET last_read_message_id = ?, "
+            + "unread_count = (SELECT COUNT(*) FROM messages m WHERE m.chat_id = chat_summaries.chat_id "
+            + "AND m.sender_id <> chat_summaries.user_id AND m.message_id > ?) "
+            + "WHERE chat_id = ? AND (last_read_message_id IS NULL OR last_read_message_id < ?)";
+    private static final String SELECT_LIVE_ASC = "SELECT message_id, sender_id, content, created_at FROM messages "
+            + "WHERE chat_id = ? ORDER BY created_at ASC, message_id ASC LIMIT ? OFFSET ?";
+    private static final String SELECT_LIVE_DESC = "SELECT message_id, sender_id, content, created_at FROM messages "
+            + "WHERE chat_id = ? ORDER BY created_at DESC, message_id DESC LIMIT ? OFFSET ?";
+    private static final String COUNT_LIVE = "SELECT COUNT(*) FROM messages WHERE chat_id = ?";
+
+    private static final RowMapper<MessageRecord> RECORD_MAPPER = (rs, rowNum) -> {
+        long senderId = rs.getLong("sender_id");
+        Long sender = rs.wasNull() ? null : senderId;
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new MessageRecord(rs.getLong("message_id"), sender, rs.getString("content"),
+                createdAt != null ? createdAt.toLocalDateTime() : null);
+    };
+
+    private final MessageSegmentStore segmentStore;
+    private final MessageArchiveBlockRepository blockRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final String lockToken = UUID.randomUUID().toString();
+
+    @Value("${chat.archive.enabled:false}")
+    private boolean enabled;
+
+    @Value("${chat.archive.inactive-days:180}")
+    private int inactiveDays;
+
+    @Value("${chat.archive.chats-per-run:100}")
+    private int chatsPerRun;
+
+    @Value("${chat.archive.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${chat.archive.lock-ttl-ms:3600000}")
+    private long lockTtlMillis;
+
+    /**
+     * 마지막 활동이 inactive-days보다 오래된 채팅방의 메시지를 세그먼트 파일로 옮깁니다.
+     * 채팅방마다 chunk-size개씩 블록을 덧붙여 디스크에 기록한 뒤, 같은 트랜잭션에서 블록 인덱스를 저장하고 옮긴 행을 지웁니다.
+     * 보관된 메시지는 더 이상 읽음 처리할 수 없으므로, 같은 트랜잭션에서 두 참여자 모두 읽은 것으로 처리합니다.
+     */
+    @Scheduled(initialDelayString = "${chat.archive.initial-delay-ms:600000}",
+            fixedDelayString = "${chat.archive.interval-ms:3600000}")
+    public void archiveInactiveChats() {
+        if (!enabled) {
+            return;
+        }
+        Boolean locked = stringRedisTemplate.opsForValue()
+                .setIfAbsent(LOCK_KEY, lockToken, Duration.ofMillis(lockTtlMillis));
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(inactiveDays);
+            List<Long> chatIds = jdbcTemplate.queryForList(SELECT_INACTIVE_CHATS, Long.class,
+                    Timestamp.valueOf(cutoff), chatsPerRun);
+            long archived = 0;
+            for (Long chatId : chatIds) {
+                try {
+                    archived += archiveChat(chatId, cutoff);
+                } catch (ArchiveLockLostException e) {
+                    log.warn("Lost message archive lock, stopping this run after {} messages", archived);
+                    return;
+                } catch (Exception e) {
+                    // 실패한 채팅방은 메시지가 테이블에 그대로 남으므로 다음 실행에서 다시 시도
+                    log.error("Failed to archive messages of chat {}: {}", chatId, e.getMessage(), e);
+                }
+            }
+            if (archived > 0) {
+                log.info("Archived {} messages from {} inactive chats", archived, chatIds.size());
+            }
+        } finally {
+            stringRedisTemplate.execute(RELEASE_LOCK, List.of(LOCK_KEY), lockToken);
+        }
+    }
+
+    private long archiveChat(Long chatId, LocalDateTime cutoff) throws IOException {
+        Timestamp before = Timestamp.valueOf(cutoff);
+        long archived = 0;
+        while (true) {
+            List<MessageRecord> chunk = jdbcTemplate.query(SELECT_ARCHIVABLE, RECORD_MAPPER, chatId, before, chunkSize);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            // 잠금이 만료되어 다른 서버가 보관을 시작했을 수 있으면 같은 세그먼트에 함께 덧붙이지 않도록 멈춤
+            if (!renewLock()) {
+                throw new ArchiveLockLostException();
+            }
+            List<MessageArchiveBlock> blocks = segmentStore.append(chatId, chunk);
+            long lastMessageId = chunk.get(chunk.size() - 1).getMessageId();
+            transactionTemplate.executeWithoutResult(status -> {
+                blockRepository.saveAll(blocks);
+                jdbcTemplate.update(DELETE_ARCHIVED, chatId, lastMessageId, before);
+                jdbcTemplate.update(ADVANCE_READ_PAST_ARCHIVED, lastMessageId, lastMessageId, chatId, lastMessageId);
+            });
+            archived += chunk.size();
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+        }
+        return archived;
+    }
+
+    private boolean renewLock() {
+        try {
+            Long renewed = stringRedisTemplate.execute(RENEW_LOCK, List.of(LOCK_KEY), lockToken, String.valueOf(lockTtlMillis));
+            return renewed != null && renewed == 1L;
+        } catch (RuntimeException e) {
+            log.warn("Failed to renew message archive lock: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 채팅방의 보관된 메시지 수를 반환합니다.
+     *
+     * @param chatId 채팅방 ID
+     */
+    public long countArchived(Long chatId) {
+        return blockRepository.sumMessageCountByChatId(chatId);
+    }
+
+    /**
+     * 보관된 메시지와 테이블에 남은 메시지를 (createdAt, messageId) 순서로 이어 붙인 페이지를 조회합니다.
+     * 정렬 방향은 첫 정렬 조건의 방향을 따르며, 오름차순이면 보관된 메시지가 먼저, 내림차순이면 남은 메시지가 먼저입니다.
+     *
+     * @param chatId   채팅방 ID
+     * @param archived 보관된 메시지 수 (countArchived 결과)
+     * @param pageable 페이징 및 정렬 정보
+     * @return 메시지 페이지
+     */
+    public Page<MessageRecord> findMergedPage(Long chatId, long archived, Pageable pageable) {
+        boolean ascending = pageable.getSort().stream().findFirst().map(Sort.Order::isAscending).orElse(true);
+        Long live = jdbcTemplate.queryForObject(COUNT_LIVE, Long.class, chatId);
+        long liveCount = live != null ? live : 0;
+        long offset = pageable.getOffset();
+        int size = pageable.getPageSize();
+
+        List<MessageRecord> rows = new ArrayList<>(size);
+        long firstPart = ascending ? archived : liveCount;
+        if (offset < firstPart) {
+            rows.addAll(ascending
+                    ? readArchived(chatId, archived, offset, size, true)
+                    : readLive(chatId, offset, size, false));
+        }
+        int remaining = size - rows.size();
+        if (remaining > 0) {
+            long secondOffset = Math.max(0, offset - firstPart);
+            rows.addAll(ascending
+                    ? readLive(chatId, secondOffset, remaining, true)
+                    : readArchived(chatId, archived, secondOffset, remaining, false));
+        }
+        return new PageImpl<>(rows, pageable, archived + liveCount);
+    }
+
+    /**
+     * 커서 위치보다 오래된 보관 메시지를 최신순으로 조회합니다.
+     *
+     * @param chatId          채팅방 ID
+     * @param cursorCreatedAt 커서 위치의 생성 시각 (null이면 가장 최근 보관 메시지부터)
+     * @param cursorId        커서 위치의 메시지 ID
+     * @param limit           최대 개수
+     * @return 보관 메시지 (최신순)
+     */
+    public List<MessageRecord> readArchivedBefore(Long chatId, LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+        List<MessageArchiveBlock> blocks = blockRepository.findByChatIdOrderByFirstMessageIdAsc(chatId);
+        List<MessageRecord> rows = new ArrayList<>(limit);
+        for (int i = blocks.size() - 1; i >= 0 && rows.size() < limit; i--) {
+            MessageArchiveBlock block = blocks.get(i);
+            MessageRecord first = new MessageRecord(block.getFirstMessageId(), null, null, block.getFirstCreatedAt());
+            if (cursorId != null && !first.isBefore(cursorCreatedAt, cursorId)) {
+                continue; // 블록 전체가 커서 이후
+            }
+            List<MessageRecord> messages = readBlock(block);
+            for (int j = messages.size() - 1; j >= 0 && rows.size() < limit; j--) {
+                MessageRecord message = messages.get(j);
+                if (cursorId == null || message.isBefore(cursorCreatedAt, cursorId)) {
+                    rows.add(message);
+                }
+            }
+        }
+        return rows;
+    }
+
+    // 보관 메시지에서 정렬 방향 기준 offset번째부터 limit개: 블록별 개수로 건너뛰고 겹치는 블록만 압축 해제
+    private List<MessageRecord> readArchived(Long chatId, long archived, long offset, int limit, boolean ascending) {
+        long from = ascending ? offset : Math.max(0, archived - offset - limit);
+        long to = ascending ? Math.min(archived, offset + limit) : archived - offset;
+        List<MessageRecord> rows = new ArrayList<>();
+        long position = 0;
+        for (MessageArchiveBlock block : blockRepository.findByChatIdOrderByFirstMessageIdAsc(chatId)) {
+            long blockEnd = position + block.getMessageCount();
+            if (blockEnd > from && position < to) {
+                List<MessageRecord> messages = readBlock(block);
+                int start = (int) Math.max(0, from - position);
+                int end = (int) Math.min(messages.size(), to - position);
+                rows.addAll(messages.subList(start, end));
+            }
+            position = blockEnd;
+            if (position >= to) {
+                break;
+            }
+        }
+        if (!ascending) {
+            Collections.reverse(rows);
+        }
+        return rows;
+    }
+
+    private List<MessageRecord> readLive(Long chatId, long offset, int limit, boolean ascending) {
+        return jdbcTemplate.query(ascending ? SELECT_LIVE_ASC : SELECT_LIVE_DESC, RECORD_MAPPER, chatId, limit, offset);
+    }
+
+    private List<MessageRecord> readBlock(MessageArchiveBlock block) {
+        try {
+            return segmentStore.read(block);
+        } catch (IOException e) {
+            log.error("Failed to read archive block {}: {}", block.getBlockId(), e.getMessage(), e);
+            throw new BusinessException(ErrorCode.CHAT_ARCHIVE_READ_FAILED, block.getChatId());
+        }
+    }
+
+    // 보관 도중 잠금을 잃음: 이번 실행을 멈추고 남은 채팅방은 다음 실행에서 처리
+    private static class ArchiveLockLostException extends RuntimeException {
+    }
+}
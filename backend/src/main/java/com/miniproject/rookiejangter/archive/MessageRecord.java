@@ -0,0 +1,33 @@
+package com.miniproject.rookiejangter.archive;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 메시지 목록 조회와 보관에 쓰는 메시지 한 건의 값입니다. 보관된 메시지와 테이블에 남은 메시지를 같은 형태로 다룹니다.
+ */
+@Getter
+public final class MessageRecord {
+
+    private final Long messageId;
+    private final Long senderId;
+    private final String content;
+    private final LocalDateTime createdAt;
+
+    public MessageRecord(Long messageId, Long senderId, String content, LocalDateTime createdAt) {
+        this.messageId = messageId;
+        this.senderId = senderId;
+        this.content = content;
+        this.createdAt = createdAt;
+    }
+
+    // (createdAt, messageId) 순서에서 커서 위치보다 앞(오래된 쪽)인지
+    boolean isBefore(LocalDateTime cursorCreatedAt, Long cursorId) {
+        if (cursorCreatedAt == null || createdAt == null) {
+            return messageId < cursorId;
+        }
+        int cmp = createdAt.compareTo(cursorCreatedAt);
+        return cmp < 0 || (cmp == 0 && messageId < cursorId);
+    }
+}
@@ -0,0 +1,300 @@
+package com.miniproject.rookiejangter.archive;
+
+import com.miniproject.rookiejangter.entity.MessageArchiveBlock;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 보관된 채팅 메시지를 담는 세그먼트 파일 저장소입니다.
+ * 한 채팅방의 연속된 메시지를 block-bytes 크기 단위로 묶어 Deflate로 압축한 블록을 세그먼트 파일 끝에만 덧붙이고,
+ * 세그먼트가 segment-bytes를 넘으면 다음 번호의 파일로 넘어갑니다. 블록 위치는 호출한 쪽이 인덱스(MessageArchiveBlock)로 저장합니다.
+ * 읽기는 세그먼트를 메모리 매핑해 필요한 블록만 그 자리에서 압축 해제합니다.
+ *
+ * <pre>
+ * 블록: [원본 길이 int][압축 길이 int][원본 CRC32 int][Deflate 데이터]
+ * 메시지: [message_id long][sender_id long, 없으면 -1][created_at 유무 boolean][epoch 초 long][나노초 int][content UTF]
+ * </pre>
+ */
+@Slf4j
+@Component
+public class MessageSegmentStore {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final int HEADER_BYTES = 12;
+    private static final long NO_SENDER = -1L;
+
+    @Value("${chat.archive.enabled:false}")
+    private boolean enabled;
+
+    // 기본값이 없음: 서버마다 다른 로컬 경로에 보관되지 않도록 공유 저장소 경로를 명시해야 함
+    @Value("${chat.archive.dir:}")
+    private String dir;
+
+    @Value("${chat.archive.block-bytes:65536}")
+    private int blockBytes;
+
+    // 매핑 하나로 읽을 수 있도록 2GB 미만이어야 함
+    @Value("${chat.archive.segment-bytes:268435456}")
+    private long segmentBytes;
+
+    private Path root;
+    private int activeSegment;
+    private FileChannel activeChannel;
+
+    // 세그먼트 번호 → 읽기 전용 매핑 (쓰는 중인 세그먼트는 더 긴 위치를 읽을 때 다시 매핑)
+    private final Map<Integer, MappedByteBuffer> mappings = new ConcurrentHashMap<>();
+    private final Object mappingLock = new Object();
+
+    @PostConstruct
+    void open() throws IOException {
+        if (dir == null || dir.isBlank()) {
+            if (enabled) {
+                throw new IllegalStateException("chat.archive.dir must point to storage shared by all servers when chat.archive.enabled is true");
+            }
+            return;
+        }
+        root = Paths.get(dir);
+        Files.createDirectories(root);
+        try (Stream<Path> files = Files.list(root)) {
+            activeSegment = files.map(path -> segmentNo(path.getFileName().toString()))
+                    .filter(no -> no > 0)
+                    .max(Integer::compare)
+                    .orElse(1);
+        }
+        activeChannel = openForAppend(activeSegment);
+    }
+
+    @PreDestroy
+    synchronized void close() throws IOException {
+        if (activeChannel != null) {
+            activeChannel.close();
+        }
+    }
+
+    /**
+     * 한 채팅방의 메시지를 압축 블록으로 세그먼트 끝에 덧붙이고 디스크에 기록될 때까지 기다립니다.
+     * 반환한 블록 인덱스가 저장되기 전에 실패하면 덧붙인 바이트는 어디서도 가리키지 않는 빈 공간으로 남습니다.
+     *
+     * @param chatId   채팅방 ID
+     * @param messages 메시지 ID 오름차순의 메시지
+     * @return 아직 저장되지 않은 블록 인덱스
+     */
+    public synchronized List<MessageArchiveBlock> append(Long chatId, List<MessageRecord> messages) throws IOException {
+        requireConfigured();
+        List<MessageArchiveBlock> blocks = new ArrayList<>();
+        ByteArrayOutputStream raw = new ByteArrayOutputStream(blockBytes);
+        DataOutputStream out = new DataOutputStream(raw);
+        int start = 0;
+        for (int i = 0; i < messages.size(); i++) {
+            write(out, messages.get(i));
+            if (raw.size() >= blockBytes || i == messages.size() - 1) {
+                out.flush();
+                blocks.add(writeBlock(chatId, messages.subList(start, i + 1), raw.toByteArray()));
+                raw.reset();
+                start = i + 1;
+            }
+        }
+        activeChannel.force(false);
+        return blocks;
+    }
+
+    /**
+     * 블록 하나의 메시지를 읽습니다.
+     *
+     * @param block 블록 인덱스
+     * @return 블록의 메시지 (메시지 ID 오름차순)
+     */
+    public List<MessageRecord> read(MessageArchiveBlock block) throws IOException {
+        requireConfigured();
+        ByteBuffer buffer = mapping(block.getSegmentNo(), block.getBlockOffset() + block.getBlockLength()).duplicate();
+        buffer.position(Math.toIntExact(block.getBlockOffset()));
+        int rawLength = buffer.getInt();
+        int compressedLength = buffer.getInt();
+        int checksum = buffer.getInt();
+        buffer.limit(buffer.position() + compressedLength);
+
+        byte[] raw = new byte[rawLength];
+        Inflater inflater = new Inflater();
+        try {
+            // 매핑된 영역에서 바로 압축 해제 (힙으로 복사하지 않음)
+            inflater.setInput(buffer);
+            int length = 0;
+            while (length < rawLength && !inflater.finished()) {
+                int n = inflater.inflate(raw, length, rawLength - length);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += n;
+            }
+            if (length != rawLength) {
+                throw new IOException("Truncated archive block " + block.getBlockId());
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupted archive block " + block.getBlockId(), e);
+        } finally {
+            inflater.end();
+        }
+        CRC32 crc = new CRC32();
+        crc.update(raw);
+        if ((int) crc.getValue() != checksum) {
+            throw new IOException("Checksum mismatch in archive block " + block.getBlockId());
+        }
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(raw));
+        List<MessageRecord> messages = new ArrayList<>(block.getMessageCount());
+        for (int i = 0; i < block.getMessageCount(); i++) {
+            messages.add(read(in));
+        }
+        return messages;
+    }
+
+    private void requireConfigured() throws IOException {
+        if (root == null) {
+            throw new IOException("Message archive directory (chat.archive.dir) is not configured");
+        }
+    }
+
+    private MessageArchiveBlock writeBlock(Long chatId, List<MessageRecord> messages, byte[] raw) throws IOException {
+        byte[] compressed = deflate(raw);
+        int length = HEADER_BYTES + compressed.length;
+        if (activeChannel.size() > 0 && activeChannel.size() + length > segmentBytes) {
+            activeChannel.force(false);
+            activeChannel.close();
+            activeSegment++;
+            activeChannel = openForAppend(activeSegment);
+            log.info("Started message archive segment {}", activeSegment);
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(raw);
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        buffer.putInt(raw.length).putInt(compressed.length).putInt((int) crc.getValue()).put(compressed).flip();
+        long offset = activeChannel.size();
+        long position = offset;
+        while (buffer.hasRemaining()) {
+            position += activeChannel.write(buffer, position);
+        }
+
+        MessageRecord first = messages.get(0);
+        MessageRecord last = messages.get(messages.size() - 1);
+        return MessageArchiveBlock.builder()
+                .chatId(chatId)
+                .firstMessageId(first.getMessageId())
+                .lastMessageId(last.getMessageId())
+                .firstCreatedAt(first.getCreatedAt())
+                .lastCreatedAt(last.getCreatedAt())
+                .messageCount(messages.size())
+                .segmentNo(activeSegment)
+                .blockOffset(offset)
+                .blockLength(length)
+                .build();
+    }
+
+    private MappedByteBuffer mapping(int segmentNo, long end) throws IOException {
+        MappedByteBuffer buffer = mappings.get(segmentNo);
+        if (buffer != null && buffer.capacity() >= end) {
+            return buffer;
+        }
+        synchronized (mappingLock) {
+            buffer = mappings.get(segmentNo);
+            if (buffer == null || buffer.capacity() < end) {
+                try (FileChannel channel = FileChannel.open(segmentPath(segmentNo), StandardOpenOption.READ)) {
+                    buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                }
+                if (buffer.capacity() < end) {
+                    throw new IOException("Archive segment " + segmentNo + " is shorter than indexed block end " + end);
+                }
+                mappings.put(segmentNo, buffer);
+            }
+            return buffer;
+        }
+    }
+
+    private FileChannel openForAppend(int segmentNo) throws IOException {
+        return FileChannel.open(segmentPath(segmentNo),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    private Path segmentPath(int segmentNo) {
+        return root.resolve(String.format("%s%06d%s", SEGMENT_PREFIX, segmentNo, SEGMENT_SUFFIX));
+    }
+
+    private static int segmentNo(String fileName) {
+        if (!fileName.startsWith(SEGMENT_PREFIX) || !fileName.endsWith(SEGMENT_SUFFIX)) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(fileName.substring(SEGMENT_PREFIX.length(), fileName.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 64);
+            byte[] chunk = new byte[8192];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(chunk);
+                out.write(chunk, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static void write(DataOutputStream out, MessageRecord message) throws IOException {
+        out.writeLong(message.getMessageId());
+        out.writeLong(message.getSenderId() != null ? message.getSenderId() : NO_SENDER);
+        LocalDateTime createdAt = message.getCreatedAt();
+        out.writeBoolean(createdAt != null);
+        out.writeLong(createdAt != null ? createdAt.toEpochSecond(ZoneOffset.UTC) : 0L);
+        out.writeInt(createdAt != null ? createdAt.getNano() : 0);
+        out.writeUTF(message.getContent() != null ? message.getContent() : "");
+    }
+
+    private static MessageRecord read(DataInputStream in) throws IOException {
+        long messageId = in.readLong();
+        long senderId = in.readLong();
+        boolean hasCreatedAt = in.readBoolean();
+        long epochSecond = in.readLong();
+        int nano = in.readInt();
+        String content = in.readUTF();
+        return new MessageRecord(messageId,
+                senderId != NO_SENDER ? senderId : null,
+                content,
+                hasCreatedAt ? LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC) : null);
+    }
+}
@@ -0,0 +1,63 @@
+package com.miniproject.rookiejangter.cache;
+
+import com.miniproject.rookiejangter.event.ProductChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 상품 목록 응답의 조건부 GET(ETag)에 쓰는 카탈로그 버전입니다.
+ * 상품이 생성/수정/삭제/끌어올리기/상태 변경되거나 이미지, 판매자 정보가 바뀌어 상품 변경 이벤트가 커밋될 때마다 Redis에서 증가합니다.
+ * 모든 서버가 같은 버전을 읽으므로, 요청이 어느 서버로 가든 같은 ETag로 304를 받을 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCatalogVersion {
+
+    private static final String VERSION_KEY = "product:catalog:version";
+
+    // 키가 없으면(Redis 재시작 등) 현재 시각 기반 값에서 다시 시작해, 예전에 발급한 ETag와 같은 버전이 나오지 않게 함
+    private static final RedisScript<Long> BUMP = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then redis.call('SET', KEYS[1], ARGV[1]) end "
+                    + "return redis.call('INCR', KEYS[1])", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 변경이 커밋된 서버에서만 한 번 버전을 올립니다. (다른 서버로 전파된 이벤트는 다시 올리지 않음)
+     *
+     * @param event 상품 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProductChanged(ProductChangedEvent event) {
+        try {
+            stringRedisTemplate.execute(BUMP, List.of(VERSION_KEY), String.valueOf(System.currentTimeMillis() * 1000));
+        } catch (RuntimeException e) {
+            log.warn("Failed to bump product catalog version: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 카탈로그 버전의 목록용 ETag를 반환합니다.
+     * 목록의 조회수는 버전을 바꾸지 않으므로 약한(weak) ETag입니다.
+     *
+     * @return 약한 ETag (예: W/"products-42"), 버전을 알 수 없으면 null (조건부 GET을 하지 않음)
+     */
+    public String listETag() {
+        try {
+            String version = stringRedisTemplate.opsForValue().get(VERSION_KEY);
+            return version != null ? "W/\"products-" + version + "\"" : null;
+        } catch (RuntimeException e) {
+            log.warn("Failed to read product catalog version: {}", e.getMessage());
+            return null;
+        }
+    }
+}
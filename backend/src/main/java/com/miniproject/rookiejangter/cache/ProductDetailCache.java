@@ -0,0 +1,265 @@
+package com.miniproject.rookiejangter.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.miniproject.rookiejangter.dto.ProductDTO;
+import com.miniproject.rookiejangter.event.ProductChangedEvent;
+import com.miniproject.rookiejangter.event.ProductIndexer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 상품 상세 응답의 2단계 캐시입니다. (로컬 LRU → Redis → DB)
+ * 상품 변경 이벤트로 무효화되며, 다른 서버의 변경은 ProductEventBroadcaster를 통해 전달됩니다.
+ * 같은 상품에 대한 동시 캐시 미스는 하나의 로딩으로 합쳐집니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductDetailCache implements ProductIndexer {
+
+    private static final String KEY_PREFIX = "product:detail:";
+    // 상품별 무효화 버전: 무효화할 때마다 올려, 그 전에 시작한 로딩이 Redis에 옛 값을 쓰지 못하게 함
+    private static final String VERSION_KEY_PREFIX = "product:detail:version:";
+
+    // 로딩을 시작할 때 읽은 버전이 그대로일 때만 저장
+    private static final RedisScript<Long> WRITE_IF_VERSION = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end "
+                    + "redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3]) return 1", Long.class);
+
+    private static final RedisScript<Long> EVICT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) redis.call('EXPIRE', KEYS[2], ARGV[1]) "
+                    + "return redis.call('DEL', KEYS[1])", Long.class);
+
+    // 캐시된 JSON의 viewCount가 더 작을 때만 바꾸고 남은 TTL은 유지 (배열이 바뀌지 않도록 cjson 대신 문자열 치환)
+    private static final RedisScript<Long> RAISE_VIEW_COUNT = new DefaultRedisScript<>(
+            "local json = redis.call('GET', KEYS[1]) "
+                    + "if not json then return 0 end "
+                    + "local current = tonumber(string.match(json, '\"viewCount\":(%-?%d+)')) "
+                    + "if current ~= nil and current >= tonumber(ARGV[1]) then return 0 end "
+                    + "local updated = string.gsub(json, '\"viewCount\":[%-%w]+', '\"viewCount\":' .. ARGV[1], 1) "
+                    + "local ttl = redis.call('PTTL', KEYS[1]) "
+                    + "if ttl > 0 then redis.call('SET', KEYS[1], updated, 'PX', ttl) else redis.call('SET', KEYS[1], updated) end "
+                    + "return 1", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${product.detail-cache.local-max-size:10000}")
+    private int localMaxSize;
+
+    @Value("${product.detail-cache.local-ttl-seconds:60}")
+    private long localTtlSeconds;
+
+    @Value("${product.detail-cache.redis-ttl-seconds:600}")
+    private long redisTtlSeconds;
+
+    private Map<Long, CachedDetail> local;
+
+    // 진행 중인 로딩: 같은 상품의 후속 요청은 이 결과를 기다림
+    private final ConcurrentHashMap<Long, CompletableFuture<ProductDTO.Response>> inFlight = new ConcurrentHashMap<>();
+
+    // 상품별 무효화 버전: 로딩 중 같은 상품이 무효화되면 로딩 결과를 로컬 캐시에 넣지 않음 (local 잠금 안에서만 변경)
+    private final Map<Long, Long> versions = new HashMap<>();
+
+    @PostConstruct
+    void init() {
+        local = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedDetail> eldest) {
+                return size() > localMaxSize;
+            }
+        });
+    }
+
+    /**
+     * 캐시된 상품 상세를 반환하고, 없으면 loader로 읽어 캐시에 저장합니다.
+     * 반환값은 호출자가 수정해도 캐시에 영향이 없는 복사본입니다.
+     *
+     * @param productId 상품 ID
+     * @param loader    캐시 미스 시 DB에서 상품 상세를 만드는 함수
+     * @return 상품 상세 응답
+     */
+    public ProductDTO.Response get(Long productId, Supplier<ProductDTO.Response> loader) {
+        CachedDetail cached = local.get(productId);
+        if (cached != null && !cached.isExpired()) {
+            return cached.copy();
+        }
+
+        CompletableFuture<ProductDTO.Response> mine = new CompletableFuture<>();
+        CompletableFuture<ProductDTO.Response> running = inFlight.putIfAbsent(productId, mine);
+        if (running != null) {
+            return join(running).toBuilder().build();
+        }
+
+        try {
+            ProductDTO.Response loaded = load(productId, loader);
+            mine.complete(loaded);
+            return loaded.toBuilder().build();
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(productId, mine);
+        }
+    }
+
+    /**
+     * DB에 반영된 조회수를 로컬 캐시와 Redis의 항목에 반영해, 캐시된 조회수가 뒤로 가지 않게 합니다.
+     * 조회수는 더 큰 값으로만 바뀌므로, 여러 서버가 반영하거나 순서가 뒤바뀌어도 결과가 같습니다.
+     *
+     * @param productId 상품 ID
+     * @param viewCount DB에 저장된 조회수
+     */
+    public void raiseViewCount(Long productId, int viewCount) {
+        synchronized (local) {
+            CachedDetail cached = local.get(productId);
+            if (cached != null) {
+                ProductDTO.Response response = cached.response;
+                if (response.getViewCount() == null || response.getViewCount() < viewCount) {
+                    response.setViewCount(viewCount);
+                }
+            }
+        }
+        try {
+            stringRedisTemplate.execute(RAISE_VIEW_COUNT, List.of(KEY_PREFIX + productId), String.valueOf(viewCount));
+        } catch (RuntimeException e) {
+            // Redis 항목은 TTL로 만료되면 DB 값으로 다시 채워짐
+            log.warn("Failed to update view count of product detail {} in Redis: {}", productId, e.getMessage());
+        }
+    }
+
+    /**
+     * 로컬 캐시와 Redis에서 상품 상세를 제거합니다.
+     *
+     * @param productId 상품 ID
+     */
+    public void evict(Long productId) {
+        synchronized (local) {
+            versions.merge(productId, 1L, Long::sum);
+            local.remove(productId);
+        }
+        try {
+            stringRedisTemplate.execute(EVICT, List.of(KEY_PREFIX + productId, VERSION_KEY_PREFIX + productId),
+                    String.valueOf(redisTtlSeconds));
+        } catch (RuntimeException e) {
+            // Redis 항목은 TTL로 만료되므로 로컬 무효화만으로 진행
+            log.warn("Failed to evict product detail {} from Redis: {}", productId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void apply(ProductChangedEvent event) {
+        if (event.getType() != ProductChangedEvent.Type.CREATED) {
+            evict(event.getProductId());
+        }
+    }
+
+    @Override
+    public void markReady() {
+        // 캐시는 기동 시 적재가 필요 없음
+    }
+
+    private ProductDTO.Response load(Long productId, Supplier<ProductDTO.Response> loader) {
+        long startVersion;
+        synchronized (local) {
+            startVersion = versions.getOrDefault(productId, 0L);
+        }
+
+        ProductDTO.Response response = readRedis(productId);
+        boolean fromRedis = response != null;
+        String redisVersion = null;
+        if (!fromRedis) {
+            // DB를 읽기 전에 버전을 읽어야, 그 사이 다른 서버가 무효화하면 쓰기가 거절됨
+            redisVersion = readRedisVersion(productId);
+            response = loader.get();
+        }
+
+        // 로딩 도중 무효화되었다면 이번 결과는 응답에만 쓰고 캐시하지 않음 (확인과 저장을 evict와 같은 잠금 안에서)
+        synchronized (local) {
+            if (versions.getOrDefault(productId, 0L) != startVersion) {
+                return response;
+            }
+            local.put(productId, new CachedDetail(response.toBuilder().build(),
+                    System.currentTimeMillis() + localTtlSeconds * 1000));
+        }
+        if (redisVersion != null) {
+            writeRedis(productId, response, redisVersion);
+        }
+        return response;
+    }
+
+    private ProductDTO.Response readRedis(Long productId) {
+        try {
+            String json = stringRedisTemplate.opsForValue().get(KEY_PREFIX + productId);
+            return json != null ? objectMapper.readValue(json, ProductDTO.Response.class) : null;
+        } catch (Exception e) {
+            log.warn("Failed to read product detail {} from Redis: {}", productId, e.getMessage());
+            return null;
+        }
+    }
+
+    private String readRedisVersion(Long productId) {
+        try {
+            String version = stringRedisTemplate.opsForValue().get(VERSION_KEY_PREFIX + productId);
+            return version != null ? version : "0";
+        } catch (RuntimeException e) {
+            // 버전을 모르면 Redis에는 쓰지 않음
+            log.warn("Failed to read product detail version {} from Redis: {}", productId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(Long productId, ProductDTO.Response response, String version) {
+        try {
+            stringRedisTemplate.execute(WRITE_IF_VERSION, List.of(KEY_PREFIX + productId, VERSION_KEY_PREFIX + productId),
+                    version, objectMapper.writeValueAsString(response), String.valueOf(redisTtlSeconds));
+        } catch (Exception e) {
+            log.warn("Failed to write product detail {} to Redis: {}", productId, e.getMessage());
+        }
+    }
+
+    private static ProductDTO.Response join(CompletableFuture<ProductDTO.Response> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class CachedDetail {
+        private final ProductDTO.Response response;
+        private final long expiresAt;
+
+        private CachedDetail(ProductDTO.Response response, long expiresAt) {
+            this.response = response;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+
+        private ProductDTO.Response copy() {
+            return response.toBuilder().build();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.miniproject.rookiejangter.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * clientInboundChannel의 실행기입니다.
+ * "/pub/chat/message/{chatId}" 메시지는 chatId를 해시해 고정된 단일 스레드 레인 중 하나에서 처리하므로,
+ * 같은 채팅방의 메시지는 이 서버에 도착한 순서대로 하나씩 처리됩니다. 그 밖의 메시지(CONNECT, SUBSCRIBE 등)는 공용 스레드 풀에서 처리합니다.
+ * 레인마다 대기 큐가 제한되어 있어 한 채팅방에 메시지가 몰려도 같은 레인을 쓰는 채팅방만 영향을 받고, 큐가 가득 차면 메시지를 거절합니다.
+ */
+@Slf4j
+@Component
+public class ChatRoomLaneExecutor implements Executor {
+
+    private static final String ROOM_DESTINATION_PREFIX = "/pub/chat/message/";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final ThreadPoolExecutor[] lanes;
+    private final ThreadPoolExecutor shared;
+    private final Counter rejected;
+
+    public ChatRoomLaneExecutor(MeterRegistry meterRegistry,
+                                @Value("${chat.inbound.lanes:16}") int laneCount,
+                                @Value("${chat.inbound.lane-capacity:1000}") int laneCapacity,
+                                @Value("${chat.inbound.shared-threads:0}") int sharedThreads) {
+        this.lanes = new ThreadPoolExecutor[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(laneCapacity), namedThreads("chat-lane-" + i + "-"));
+            int lane = i;
+            Gauge.builder("chat.inbound.lane.queue.size", lanes[i], executor -> executor.getQueue().size())
+                    .description("채팅방 레인에서 처리를 기다리는 STOMP 메시지 수")
+                    .tag("lane", String.valueOf(lane))
+                    .register(meterRegistry);
+        }
+        // 0이면 스프링 기본 clientInboundChannel과 같은 CPU 코어 수의 2배
+        int threads = sharedThreads > 0 ? sharedThreads : Runtime.getRuntime().availableProcessors() * 2;
+        this.shared = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), namedThreads("client-inbound-"));
+        this.rejected = Counter.builder("chat.inbound.lane.rejected")
+                .description("레인 대기 큐가 가득 차 거절된 채팅 메시지 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        Long chatId = chatId(task);
+        if (chatId == null) {
+            shared.execute(task);
+            return;
+        }
+        try {
+            lanes[Math.floorMod(Long.hashCode(chatId), lanes.length)].execute(task);
+        } catch (RejectedExecutionException e) {
+            // 채널이 MessageDeliveryException으로 감싸 해당 프레임만 실패 처리
+            rejected.increment();
+            log.warn("Rejected inbound message for chat {}: lane queue is full", chatId);
+            throw e;
+        }
+    }
+
+    /**
+     * 종료 시 레인과 공용 풀이 받아 둔 메시지를 처리할 때까지 잠시 기다립니다.
+     */
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+        shared.shutdown();
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        shared.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private static Long chatId(Runnable task) {
+        if (!(task instanceof MessageHandlingRunnable handling)) {
+            return null;
+        }
+        String destination = SimpMessageHeaderAccessor.getDestination(handling.getMessage().getHeaders());
+        if (destination == null || !destination.startsWith(ROOM_DESTINATION_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(destination.substring(ROOM_DESTINATION_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
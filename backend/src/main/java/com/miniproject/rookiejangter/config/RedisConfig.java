@@ -3,14 +3,13 @@ package com.miniproject.rookiejangter.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.miniproject.rookiejangter.pubsub.RedisSubscriber;
+import com.miniproject.rookiejangter.event.ProductEventBroadcaster;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -55,26 +54,17 @@ public class RedisConfig {
      */
     @Bean
     public RedisMessageListenerContainer redisMessageListenerContainer(
-            RedisConnectionFactory connectionFactory, RedisSubscriber redisSubscriber) { // MessageListenerAdapter는 직접 빈으로 등록
+            RedisConnectionFactory connectionFactory, ProductEventBroadcaster productEventBroadcaster) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
 
-        // RedisSubscriber를 감싸는 MessageListenerAdapter를 등록합니다.
-        // 이 컨테이너는 Redis로부터 "chatRoom.*" 패턴의 메시지를 수신하면 redisSubscriber의 onMessage 메서드를 호출합니다.
-        container.addMessageListener(messageListenerAdapter(redisSubscriber), new ChannelTopic("chatRoom.*"));
+        // 채팅방 채널("chatRoom.{chatId}")은 이 서버에 구독자가 있는 방만 ChatRoomSubscriptionRegistry가 동적으로 구독
+        // 다른 서버에서 발생한 상품 변경 이벤트 (인덱스/상세 캐시 무효화)
+        container.addMessageListener(productEventBroadcaster, new ChannelTopic(ProductEventBroadcaster.CHANNEL));
 
         return container;
     }
 
-    /**
-     * Redis Pub/Sub 메시지 수신 시 RedisSubscriber의 onMessage 메서드를 호출하기 위한 어댑터
-     */
-    @Bean
-    MessageListenerAdapter messageListenerAdapter(RedisSubscriber redisSubscriber) {
-        // RedisSubscriber의 onMessage 메서드가 Redis 메시지를 처리하도록 설정
-        return new MessageListenerAdapter(redisSubscriber);
-    }
-
     /**
      * Redis Pub/Sub 메시지 발행/수신 시 JSON 처리를 위한 ObjectMapper.
      * RedisTemplate의 Jackson2JsonRedisSerializer 내부에서 사용됩니다.
@@ -14,6 +14,7 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final WebSocketAuthenticationInterceptor webSocketAuthenticationInterceptor;
+    private final ChatRoomLaneExecutor chatRoomLaneExecutor;
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
@@ -41,5 +42,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         // 클라이언트로부터 들어오는 STOMP 메시지에 대한 인터셉터 등록
         // CONNECT 메시지에서 JWT 토큰을 처리하여 인증을 수행합니다.
         registration.interceptors(webSocketAuthenticationInterceptor);
+        // 같은 채팅방의 메시지는 도착 순서대로 한 레인에서 처리
+        registration.executor(chatRoomLaneExecutor);
     }
 }
\ No newline at end of file
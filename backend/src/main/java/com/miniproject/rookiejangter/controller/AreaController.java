@@ -3,8 +3,10 @@ package com.miniproject.rookiejangter.controller;
 import com.miniproject.rookiejangter.dto.AreaDTO;
 import com.miniproject.rookiejangter.service.AreaService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -15,13 +17,16 @@ public class AreaController {
 
     private final AreaService areaService;
 
-    // 전체 지역 조회
+    // 전체 지역 조회 (If-None-Match가 현재 ETag와 같으면 목록을 읽지 않고 304)
     @GetMapping
-    public ResponseEntity<AreaDTO.ApiResponseWrapper<List<AreaDTO.Response>>> getAllAreas() {
+    public ResponseEntity<AreaDTO.ApiResponseWrapper<List<AreaDTO.Response>>> getAllAreas(WebRequest webRequest) {
+        if (webRequest.checkNotModified(areaService.getAreasETag())) {
+            return null;
+        }
         List<AreaDTO.Response> areas = areaService.getAllAreas();
         AreaDTO.ApiResponseWrapper<List<AreaDTO.Response>> response = new AreaDTO.ApiResponseWrapper<>();
         response.setSuccess(true);
         response.setData(areas);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
     }
 }
\ No newline at end of file
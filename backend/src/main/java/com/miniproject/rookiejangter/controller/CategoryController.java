@@ -3,10 +3,12 @@ package com.miniproject.rookiejangter.controller;
 import com.miniproject.rookiejangter.dto.CategoryDTO;
 import com.miniproject.rookiejangter.service.CategoryService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -17,13 +19,16 @@ public class CategoryController {
 
     private final CategoryService categoryService;
 
-    // 전체 카테고리 조회
+    // 전체 카테고리 조회 (If-None-Match가 현재 ETag와 같으면 목록을 읽지 않고 304)
     @GetMapping
-    public ResponseEntity<CategoryDTO.ApiResponseWrapper<List<CategoryDTO.Response>>> getAllCategories() {
+    public ResponseEntity<CategoryDTO.ApiResponseWrapper<List<CategoryDTO.Response>>> getAllCategories(WebRequest webRequest) {
+        if (webRequest.checkNotModified(categoryService.getCategoriesETag())) {
+            return null;
+        }
         List<CategoryDTO.Response> categories = categoryService.getAllCategories();
         CategoryDTO.ApiResponseWrapper<List<CategoryDTO.Response>> response = new CategoryDTO.ApiResponseWrapper<>();
         response.setSuccess(true);
         response.setData(categories);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
     }
 }
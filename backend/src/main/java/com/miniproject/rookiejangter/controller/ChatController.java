@@ -2,6 +2,7 @@ package com.miniproject.rookiejangter.controller;
 
 import com.miniproject.rookiejangter.dto.ChatDTO;
 import com.miniproject.rookiejangter.dto.ChatDTO.ApiResponseWrapper;
+import com.miniproject.rookiejangter.dto.CursorDTO;
 import com.miniproject.rookiejangter.exception.BusinessException;
 import com.miniproject.rookiejangter.service.ChatService;
 import lombok.RequiredArgsConstructor;
@@ -127,6 +128,41 @@ public class ChatController {
         }
     }
 
+    /**
+     * 현재 로그인한 사용자의 채팅방 목록을 커서 기반으로 조회합니다.
+     * cursor 파라미터가 있을 때만 동작하며, 첫 페이지는 빈 값으로 요청합니다.
+     *
+     * @param cursor 이전 응답의 nextCursor
+     * @param size 페이지 크기
+     * @return 채팅방 목록 슬라이스
+     */
+    @GetMapping(params = "cursor")
+    public ResponseEntity<ApiResponseWrapper<CursorDTO.SliceResponse<ChatDTO.ChatListResponse.ChatInfo>>> getChatsByUserIdAndCursor(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "10") int size
+    ) {
+        try {
+            CursorDTO.SliceResponse<ChatDTO.ChatListResponse.ChatInfo> response = chatService.getChatsByUserIdAndCursor(cursor, size);
+            return ResponseEntity.ok(ApiResponseWrapper.<CursorDTO.SliceResponse<ChatDTO.ChatListResponse.ChatInfo>>builder()
+                    .success(true)
+                    .data(response)
+                    .message("채팅방 목록을 성공적으로 조회했습니다.")
+                    .build());
+        } catch (BusinessException e) {
+            return ResponseEntity.status(e.getErrorCode().getHttpStatus()).body(ApiResponseWrapper.<CursorDTO.SliceResponse<ChatDTO.ChatListResponse.ChatInfo>>builder()
+                    .success(false)
+                    .error(e.getMessage())
+                    .message(e.getErrorCode().getMessage())
+                    .build());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResponseWrapper.<CursorDTO.SliceResponse<ChatDTO.ChatListResponse.ChatInfo>>builder()
+                    .success(false)
+                    .error(e.getMessage())
+                    .message("채팅방 목록 조회 중 오류가 발생했습니다.")
+                    .build());
+        }
+    }
+
     /**
      * 특정 채팅방을 삭제합니다.
      *
@@ -1,6 +1,7 @@
 package com.miniproject.rookiejangter.controller;
 
 import com.miniproject.rookiejangter.dto.ChatDTO;
+import com.miniproject.rookiejangter.dto.CursorDTO;
 import com.miniproject.rookiejangter.dto.MessageDTO;
 import com.miniproject.rookiejangter.dto.MessageDTO.ApiResponseWrapper;
 import com.miniproject.rookiejangter.exception.BusinessException;
@@ -17,6 +18,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.security.Principal;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/chats/{chatId}/messages") // 채팅의 하위 리소스로 메시지 정의
@@ -68,6 +70,7 @@ public class MessageController {
      *
      * @param chatId 메시지 목록을 조회할 채팅방 ID
      * @param pageable 페이징 및 정렬 파라미터 (page, size, sort)
+     * @param lastSeenMessageId 클라이언트가 본 마지막 메시지 ID (실시간 수신 포함, 없으면 응답의 가장 최근 메시지)
      * @param principal 현재 로그인한 사용자 정보 (JWT 토큰에서 추출)
      * @return 채팅방의 메시지 목록
      */
@@ -75,14 +78,16 @@ public class MessageController {
     public ResponseEntity<ApiResponseWrapper<MessageDTO.MessageListResponse>> getMessagesByChatId(
             @PathVariable Long chatId,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.ASC) Pageable pageable,
+            @RequestParam(value = "lastSeenMessageId", required = false) Long lastSeenMessageId,
             Principal principal) {
         try {
             Long currentUserId = Long.valueOf(principal.getName()); // 메시지 읽음 처리에 사용될 현재 사용자 ID
             MessageDTO.MessageListResponse response = messageService.getMessagesByChatId(chatId, pageable);
 
-            // 메시지 조회 후, 해당 채팅방의 모든 읽지 않은 메시지를 현재 사용자가 읽음 처리
-            // (즉, 현재 사용자가 '수신자'인 메시지만 읽음 처리)
-            messageService.markAllMessagesAsRead(chatId, currentUserId);
+            // 메시지 조회 후, 현재 사용자가 본 마지막 메시지까지 읽음 처리
+            // (클라이언트가 실시간으로 받은 메시지를 알려 주지 않으면 이번 응답의 가장 최근 메시지까지)
+            messageService.markAllMessagesAsRead(chatId, currentUserId,
+                    lastSeenMessageId != null ? lastSeenMessageId : maxMessageId(response.getContent()));
 
             return ResponseEntity.ok(ApiResponseWrapper.<MessageDTO.MessageListResponse>builder()
                     .success(true)
@@ -105,19 +110,68 @@ public class MessageController {
     }
 
     /**
-     * 특정 메시지를 읽음 상태로 변경합니다. (선택적)
-     * 이 엔드포인트는 개별 메시지를 명시적으로 읽음 처리할 때 사용될 수 있습니다.
+     * 특정 채팅방의 메시지를 커서 기반으로 최신순 조회합니다.
+     * cursor 파라미터가 있을 때만 동작하며, 첫 페이지는 빈 값으로 요청합니다.
      *
-     * @param chatId 채팅방 ID (경로 일관성을 위해 추가)
-     * @param messageId 읽음 처리할 메시지 ID
+     * @param chatId 메시지 목록을 조회할 채팅방 ID
+     * @param cursor 이전 응답의 nextCursor
+     * @param size 페이지 크기
+     * @param lastSeenMessageId 클라이언트가 본 마지막 메시지 ID (실시간 수신 포함, 없으면 응답의 가장 최근 메시지)
+     * @param principal 현재 로그인한 사용자 정보 (JWT 토큰에서 추출)
+     * @return 채팅방의 메시지 슬라이스
+     */
+    @GetMapping(params = "cursor")
+    public ResponseEntity<ApiResponseWrapper<CursorDTO.SliceResponse<MessageDTO.MessageListResponse.MessageResponse>>> getMessagesByChatIdAndCursor(
+            @PathVariable Long chatId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "lastSeenMessageId", required = false) Long lastSeenMessageId,
+            Principal principal) {
+        try {
+            Long currentUserId = Long.valueOf(principal.getName());
+            CursorDTO.SliceResponse<MessageDTO.MessageListResponse.MessageResponse> response =
+                    messageService.getMessagesByChatIdAndCursor(chatId, cursor, size);
+
+            messageService.markAllMessagesAsRead(chatId, currentUserId,
+                    lastSeenMessageId != null ? lastSeenMessageId : maxMessageId(response.getContent()));
+
+            return ResponseEntity.ok(ApiResponseWrapper.<CursorDTO.SliceResponse<MessageDTO.MessageListResponse.MessageResponse>>builder()
+                    .success(true)
+                    .data(response)
+                    .content("메시지 목록을 성공적으로 조회했습니다.")
+                    .build());
+        } catch (BusinessException e) {
+            return ResponseEntity.status(e.getErrorCode().getHttpStatus()).body(ApiResponseWrapper.<CursorDTO.SliceResponse<MessageDTO.MessageListResponse.MessageResponse>>builder()
+                    .success(false)
+                    .error(e.getMessage())
+                    .content(e.getErrorCode().getMessage())
+                    .build());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResponseWrapper.<CursorDTO.SliceResponse<MessageDTO.MessageListResponse.MessageResponse>>builder()
+                    .success(false)
+                    .error(e.getMessage())
+                    .content("메시지 목록 조회 중 오류가 발생했습니다.")
+                    .build());
+        }
+    }
+
+    /**
+     * 특정 메시지까지 읽음 상태로 변경합니다. (선택적)
+     * 이 엔드포인트는 실시간으로 받은 메시지를 명시적으로 읽음 처리할 때 사용될 수 있습니다.
+     *
+     * @param chatId 채팅방 ID
+     * @param messageId 읽음 처리할 메시지 ID (이 메시지까지 읽음)
+     * @param principal 현재 로그인한 사용자 정보 (JWT 토큰에서 추출)
      * @return 읽음 처리 성공 여부
      */
     @PatchMapping("/{messageId}/read")
     public ResponseEntity<ApiResponseWrapper<Void>> markMessageAsRead(
-            @PathVariable Long chatId, // chatId는 URL 경로 일관성을 위해 존재하지만, 실제 로직에서는 messageId만 사용
-            @PathVariable Long messageId) {
+            @PathVariable Long chatId,
+            @PathVariable Long messageId,
+            Principal principal) {
         try {
-            messageService.markMessageAsRead(messageId);
+            // 읽는 사람은 현재 사용자 (채팅방 참여자인지 확인), 아직 저장 전이거나 보관된 메시지도 ID로 처리
+            messageService.markMessageAsRead(chatId, messageId, Long.valueOf(principal.getName()));
             return ResponseEntity.ok(ApiResponseWrapper.<Void>builder()
                     .success(true)
                     .content("메시지가 성공적으로 읽음 처리되었습니다.")
@@ -136,4 +190,11 @@ public class MessageController {
                     .build());
         }
     }
-}
\ No newline at end of file
+
+    private static Long maxMessageId(List<MessageDTO.MessageListResponse.MessageResponse> messages) {
+        return messages.stream()
+                .map(MessageDTO.MessageListResponse.MessageResponse::getMessageId)
+                .max(Long::compare)
+                .orElse(null);
+    }
+}
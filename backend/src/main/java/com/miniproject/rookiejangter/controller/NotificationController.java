@@ -1,5 +1,6 @@
 package com.miniproject.rookiejangter.controller;
 
+import com.miniproject.rookiejangter.dto.CursorDTO;
 import com.miniproject.rookiejangter.dto.NotificationDTO;
 import com.miniproject.rookiejangter.service.NotificationService;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +28,18 @@ public class NotificationController {
         return ResponseEntity.ok(notifications);
     }
 
+    // 로그인 중인 사용자 알림 커서 조회. cursor 파라미터가 있으면 전체 건수 없이 다음 커서만 반환
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorDTO.SliceResponse<NotificationDTO.Response>> getUserNotificationsByCursor(
+            Authentication authentication,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "10") int size) {
+        Long userId = Long.parseLong(authentication.getName());
+        CursorDTO.SliceResponse<NotificationDTO.Response> notifications =
+                notificationService.getNotificationsByUserIdAndCursor(userId, cursor, size);
+        return ResponseEntity.ok(notifications);
+    }
+
     // 알림 읽음 표시
     @PatchMapping("/{notificationId}/read")
     @CrossOrigin(origins = "http://localhost:3000", methods = {RequestMethod.PATCH, RequestMethod.OPTIONS})
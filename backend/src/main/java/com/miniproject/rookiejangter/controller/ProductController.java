@@ -1,14 +1,22 @@
 package com.miniproject.rookiejangter.controller;
 
+import com.miniproject.rookiejangter.cache.ProductCatalogVersion;
+import com.miniproject.rookiejangter.dto.CursorDTO;
 import com.miniproject.rookiejangter.dto.ProductDTO;
 import com.miniproject.rookiejangter.service.ProductService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Objects;
 
 @RestController
 @RequestMapping("/api/products")
@@ -16,33 +24,153 @@ import org.springframework.web.bind.annotation.*;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductCatalogVersion productCatalogVersion;
 
-    // 전체 상품 조회
+    // 전체 상품 조회 (끌어올린 시각 반영 최신순, 카탈로그 버전이 그대로면 목록을 만들지 않고 304)
     @GetMapping // GET /api/products
     public ResponseEntity<ProductDTO.ApiResponseWrapper<ProductDTO.ProductListData>> getAllProducts(
-            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
-            @RequestHeader(value = "X-USER-ID", required = false) Long currentUserId) {
+            @PageableDefault(size = 10) Pageable pageable,
+            @RequestHeader(value = "X-USER-ID", required = false) Long currentUserId,
+            WebRequest webRequest) {
+        // 버전은 조회 전에 읽어야 함: 조회 중 변경이 커밋되면 다음 요청의 ETag가 달라져 다시 받게 됨
+        String eTag = productCatalogVersion.listETag();
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         ProductDTO.ProductListData productListData = productService.getAllProducts(pageable, currentUserId);
-        return ResponseEntity.ok(ProductDTO.ApiResponseWrapper.<ProductDTO.ProductListData>builder()
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(ProductDTO.ApiResponseWrapper.<ProductDTO.ProductListData>builder()
                 .success(true)
                 .data(productListData)
                 .message("모든 상품 목록이 성공적으로 조회되었습니다.")
                 .build());
     }
 
-    // 특정 상품 조회
+    // 전체 상품 커서 조회 (cursor 파라미터가 있으면 전체 건수 없이 다음 커서만 반환, 첫 페이지는 빈 값)
+    @GetMapping(params = "cursor") // GET /api/products?cursor=&size=10
+    public ResponseEntity<ProductDTO.ApiResponseWrapper<CursorDTO.SliceResponse<ProductDTO.Response>>> getAllProductsByCursor(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestHeader(value = "X-USER-ID", required = false) Long currentUserId) {
+        CursorDTO.SliceResponse<ProductDTO.Response> productSlice = productService.getAllProductsByCursor(cursor, size, currentUserId);
+        return ResponseEntity.ok(ProductDTO.ApiResponseWrapper.<CursorDTO.SliceResponse<ProductDTO.Response>>builder()
+                .success(true)
+                .data(productSlice)
+                .message("모든 상품 목록이 성공적으로 조회되었습니다.")
+                .build());
+    }
+
+    // 카테고리별 상품 조회 (끌어올린 시각 반영 최신순)
+    @GetMapping("/category/{category_id}") // GET /api/products/category/{category_id}
+    public ResponseEntity<ProductDTO.ApiResponseWrapper<ProductDTO.ProductListData>> getProductsByCategory(
+            @PathVariable("category_id") Integer categoryId,
+            @PageableDefault(size = 10) Pageable pageable,
+            @RequestHeader(value = "X-USER-ID", required = false) Long currentUserId) {
+        ProductDTO.ProductListData productListData = productService.getProductsByCategory(categoryId, pageable, currentUserId);
+        return ResponseEntity.ok(ProductDTO.ApiResponseWrapper.<ProductDTO.ProductListData>builder()
+                .success(true)
+                .data(productListData)
+                .message("카테고리별 상품 목록이 성공적으로 조회되었습니다.")
+                .build());
+    }
+
+    // 패싯 필터 (카테고리, 판매자 지역, 가격 범위, 판매 상태) + 패싯별 건수
+    @GetMapping("/filter") // GET /api/products/filter?categoryId=&areaId=&minPrice=&maxPrice=&status=
+    public ResponseEntity<ProductDTO.ApiResponseWrapper<ProductDTO.FilterResponse>> filterProducts(
+            @ModelAttribute ProductDTO.FilterRequest request,
+            @PageableDefault(size = 10) Pageable pageable,
+            @RequestHeader(value = "X-USER-ID", required = false) Long currentUserId) {
+        ProductDTO.FilterResponse filterResponse = productService.filterProducts(request, pageable, currentUserId);
+        return ResponseEntity.ok(ProductDTO.ApiResponseWrapper.<ProductDTO.FilterResponse>builder()
+                .success(true)
+                .data(filterResponse)
+                .message("상품 필터 조회가 성공적으로 완료되었습니다.")
+                .build());
+    }
+
+    // 지금 인기 있는 상품 (최근 조회/찜 기준, 주기적으로 갱신)
+    @GetMapping("/trending") // GET /api/products/trending?limit=10
+    public ResponseEntity<ProductDTO.ApiResponseWrapper<List<ProductDTO.Response>>> getTrendingProducts(
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        List<ProductDTO.Response> trendingProducts = productService.getTrendingProducts(limit);
+        return ResponseEntity.ok(ProductDTO.ApiResponseWrapper.<List<ProductDTO.Response>>builder()
+                .success(true)
+                .data(trendingProducts)
+                .message("인기 상품 목록이 성공적으로 조회되었습니다.")
+                .build());
+    }
+
+    // 검색어 자동완성 (상품 제목/카테고리, 인기순)
+    @GetMapping("/autocomplete") // GET /api/products/autocomplete?q=&limit=10
+    public ResponseEntity<ProductDTO.ApiResponseWrapper<List<ProductDTO.Suggestion>>> autocomplete(
+            @RequestParam("q") String prefix,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        List<ProductDTO.Suggestion> suggestions = productService.autocomplete(prefix, limit);
+        return ResponseEntity.ok(ProductDTO.ApiResponseWrapper.<List<ProductDTO.Suggestion>>builder()
+                .success(true)
+                .data(suggestions)
+                .message("자동완성 추천어가 성공적으로 조회되었습니다.")
+                .build());
+    }
+
+    // 키워드 검색 (제목 + 내용)
+    @GetMapping("/search") // GET /api/products/search?keyword=
+    public ResponseEntity<ProductDTO.ApiResponseWrapper<ProductDTO.ProductListData>> searchProducts(
+            @RequestParam("keyword") String keyword,
+            @PageableDefault(size = 10) Pageable pageable,
+            @RequestHeader(value = "X-USER-ID", required = false) Long currentUserId) {
+        ProductDTO.ProductListData productListData = productService.searchProductsByKeyword(keyword, pageable, currentUserId);
+        return ResponseEntity.ok(ProductDTO.ApiResponseWrapper.<ProductDTO.ProductListData>builder()
+                .success(true)
+                .data(productListData)
+                .message("상품 검색이 성공적으로 완료되었습니다.")
+                .build());
+    }
+
+    // 제목 검색
+    @GetMapping("/search/title") // GET /api/products/search/title?title=
+    public ResponseEntity<ProductDTO.ApiResponseWrapper<ProductDTO.ProductListData>> searchProductsByTitle(
+            @RequestParam("title") String title,
+            @PageableDefault(size = 10) Pageable pageable,
+            @RequestHeader(value = "X-USER-ID", required = false) Long currentUserId) {
+        ProductDTO.ProductListData productListData = productService.searchProductsByTitle(title, pageable, currentUserId);
+        return ResponseEntity.ok(ProductDTO.ApiResponseWrapper.<ProductDTO.ProductListData>builder()
+                .success(true)
+                .data(productListData)
+                .message("상품 제목 검색이 성공적으로 완료되었습니다.")
+                .build());
+    }
+
+    // 특정 상품 조회 (상세는 캐시에서 읽고, 수정/끌어올리기가 없었으면 본문 없이 304)
     @GetMapping ("/{product_id}")
     public ResponseEntity<ProductDTO.ApiResponseWrapper<ProductDTO.Response>> getProductById(
             @PathVariable("product_id") Long productId,
-            @RequestHeader(value = "X-USER-ID", required = false) Long currentUserId) {
+            @RequestHeader(value = "X-USER-ID", required = false) Long currentUserId,
+            WebRequest webRequest) {
+        // 304여도 조회수는 집계됨
         ProductDTO.Response response = productService.getProductById(productId, currentUserId);
-        return ResponseEntity.ok(ProductDTO.ApiResponseWrapper.<ProductDTO.Response>builder()
+        if (webRequest.checkNotModified(productETag(response), lastModified(response))) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(ProductDTO.ApiResponseWrapper.<ProductDTO.Response>builder()
                 .success(true)
                 .data(response)
                 .message("상품 상세 정보가 성공적으로 조회되었습니다.")
                 .build());
     }
 
+    // 이 상품을 찜한 사람들이 함께 찜한 상품
+    @GetMapping("/{product_id}/similar") // GET /api/products/{product_id}/similar?limit=10
+    public ResponseEntity<ProductDTO.ApiResponseWrapper<List<ProductDTO.Response>>> getSimilarProducts(
+            @PathVariable("product_id") Long productId,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        List<ProductDTO.Response> similarProducts = productService.getSimilarProducts(productId, limit);
+        return ResponseEntity.ok(ProductDTO.ApiResponseWrapper.<List<ProductDTO.Response>>builder()
+                .success(true)
+                .data(similarProducts)
+                .message("함께 찜한 상품 목록이 성공적으로 조회되었습니다.")
+                .build());
+    }
+
     // 상품 상태 변경 (예약중/판매완료)
     @PutMapping("/{product_id}/status")
     public ResponseEntity<Void> updateProductStatus(
@@ -53,4 +181,22 @@ public class ProductController {
         productService.updateProductStatus(productId, request.getIsReserved(), request.getIsCompleted(), userId);
         return ResponseEntity.ok().build();
     }
-}
\ No newline at end of file
+
+    // 조회수는 매 조회마다 바뀌므로 ETag에서 제외 (약한 ETag), 이미지만 바뀐 수정은 썸네일로 감지
+    private static String productETag(ProductDTO.Response response) {
+        return "W/\"product-" + response.getId() + "-" + epochMillis(response.getUpdatedAt())
+                + "-" + epochMillis(response.getBumpedAt())
+                + "-" + (Boolean.TRUE.equals(response.getIsReserved()) ? 1 : 0)
+                + (Boolean.TRUE.equals(response.getIsCompleted()) ? 1 : 0)
+                + "-" + Integer.toHexString(Objects.hashCode(response.getThumbnailUrl())) + "\"";
+    }
+
+    // 끌어올리기는 updatedAt을 바꾸지 않으므로 둘 중 늦은 시각을 마지막 수정 시각으로 사용
+    private static long lastModified(ProductDTO.Response response) {
+        return Math.max(epochMillis(response.getUpdatedAt()), epochMillis(response.getBumpedAt()));
+    }
+
+    private static long epochMillis(LocalDateTime time) {
+        return time != null ? time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1L;
+    }
+}
@@ -1,7 +1,6 @@
 package com.miniproject.rookiejangter.controller;
 
 import com.miniproject.rookiejangter.dto.MessageDTO;
-import com.miniproject.rookiejangter.pubsub.RedisPublisher;
 import com.miniproject.rookiejangter.service.MessageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,7 +21,6 @@ import java.security.Principal;
 @CrossOrigin(origins = "http://localhost:3000")
 public class StompChatController {
 
-    private final RedisPublisher redisPublisher;
     private final MessageService messageService; // DB에 메시지 저장 로직을 위해 사용
 
     /**
@@ -53,15 +51,10 @@ public class StompChatController {
 
             log.info("Received WebSocket message for chatId {}: {}", chatId, request.getContent());
 
-            // 1. DB에 메시지 저장
+            // DB에 메시지 저장 (커밋 후 RedisPublisher가 채팅방 구독자에게 전달하고 다른 서버로 전파)
             MessageDTO.Response savedMessage = messageService.sendMessage(chatId, request, senderId);
             log.info("Message saved to DB: {}", savedMessage);
 
-            // 2. Redis Pub/Sub을 통해 메시지 발행
-            // 이 메시지는 RedisSubscriber에 의해 수신되어 해당 채팅방 구독자들에게 다시 WebSocket으로 전송됩니다.
-            redisPublisher.publish("chatRoom." + chatId, savedMessage);
-            log.info("Message published to Redis topic chatRoom.{}", chatId);
-
         } catch (Exception e) {
             log.error("Error processing WebSocket message for chatId {}: {}", chatId, e.getMessage(), e);
             // 에러 발생 시 클라이언트에게 에러 메시지를 보낼 수 있음
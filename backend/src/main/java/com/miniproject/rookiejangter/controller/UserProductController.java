@@ -1,24 +1,37 @@
 package com.miniproject.rookiejangter.controller;
 
+import com.miniproject.rookiejangter.dto.BumpDTO;
 import com.miniproject.rookiejangter.dto.ProductDTO;
+import com.miniproject.rookiejangter.service.BumpService;
+import com.miniproject.rookiejangter.service.ProductBulkService;
 import com.miniproject.rookiejangter.service.ProductService;
+import com.miniproject.rookiejangter.service.ProductImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
 
 @RestController
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
 public class UserProductController {
     private final ProductService productService;
+    private final BumpService bumpService;
+    private final ProductBulkService productBulkService;
+    private final ProductImportService productImportService;
 
     // 상품 등록
     @PostMapping(value = "/products", consumes = MediaType.ALL_VALUE)
@@ -31,6 +44,21 @@ public class UserProductController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    // 상품 일괄 가져오기 (NDJSON/CSV 스트리밍, 진행 상황을 NDJSON으로 응답)
+    @PostMapping(value = "/products/import", consumes = {"application/x-ndjson", "text/csv"})
+    public void importProducts(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            HttpServletRequest request,
+            HttpServletResponse response,
+            Authentication authentication) throws IOException {
+        Long userId = Long.parseLong(authentication.getName());
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        productImportService.importProducts(request.getInputStream(),
+                ProductImportService.Format.fromContentType(contentType), userId, response.getWriter());
+    }
+
     // 현재 유저가 등록한 모든 상품 조회
     @GetMapping("/products")
     public ResponseEntity<ProductDTO.ProductListData> getUserProducts(
@@ -71,4 +99,44 @@ public class UserProductController {
         productService.deleteProduct(productId, userId);
         return ResponseEntity.noContent().build();
     }
+
+    // 현재 유저가 등록한 상품 가격 일괄 변경 (항목별 결과 반환)
+    @PatchMapping("/products/bulk/price")
+    public ResponseEntity<ProductDTO.BulkResult> bulkUpdatePrices(
+            @Valid @RequestBody ProductDTO.BulkPriceUpdateRequest request,
+            Authentication authentication) {
+        Long userId = Long.parseLong(authentication.getName());
+        ProductDTO.BulkResult response = productBulkService.updatePrices(request, userId);
+        return ResponseEntity.ok(response);
+    }
+
+    // 현재 유저가 등록한 상품 상태 일괄 변경 (항목별 결과 반환)
+    @PatchMapping("/products/bulk/status")
+    public ResponseEntity<ProductDTO.BulkResult> bulkUpdateStatuses(
+            @Valid @RequestBody ProductDTO.BulkStatusUpdateRequest request,
+            Authentication authentication) {
+        Long userId = Long.parseLong(authentication.getName());
+        ProductDTO.BulkResult response = productBulkService.updateStatuses(request, userId);
+        return ResponseEntity.ok(response);
+    }
+
+    // 현재 유저가 등록한 상품 일괄 삭제 (항목별 결과 반환)
+    @PostMapping("/products/bulk/delete")
+    public ResponseEntity<ProductDTO.BulkResult> bulkDeleteProducts(
+            @Valid @RequestBody ProductDTO.BulkDeleteRequest request,
+            Authentication authentication) {
+        Long userId = Long.parseLong(authentication.getName());
+        ProductDTO.BulkResult response = productBulkService.deleteProducts(request, userId);
+        return ResponseEntity.ok(response);
+    }
+
+    // 현재 유저가 등록한 상품 끌어올리기 (쿨다운 이내면 429)
+    @PostMapping("/products/{product_id}/bump")
+    public ResponseEntity<BumpDTO.Response> bumpUserProduct(
+            @PathVariable("product_id") Long productId,
+            Authentication authentication) {
+        Long userId = Long.parseLong(authentication.getName());
+        BumpDTO.Response response = bumpService.bumpProduct(productId, userId);
+        return ResponseEntity.ok(response);
+    }
 }
@@ -0,0 +1,20 @@
+package com.miniproject.rookiejangter.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+public class BumpDTO {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Response {
+        private Long productId;
+        private Integer bumpCount;
+        private LocalDateTime bumpedAt;
+        private LocalDateTime nextAvailableAt;
+    }
+    // 역할: 끌어올리기 API의 응답 데이터를 담는 DTO입니다. 다음 끌어올리기 가능 시각을 함께 반환합니다.
+}
@@ -1,6 +1,7 @@
 package com.miniproject.rookiejangter.dto;
 
 import com.miniproject.rookiejangter.entity.Chat;
+import com.miniproject.rookiejangter.entity.ChatSummary;
 import com.miniproject.rookiejangter.entity.Product; // Product 엔티티 import 추가
 import com.miniproject.rookiejangter.entity.User; // User 엔티티 import 추가
 import lombok.*;
@@ -114,10 +115,21 @@ public class ChatDTO {
             private Long productId;
             private String productTitle; // 상품 제목 추가
             private String lastMessage;
+            private LocalDateTime lastMessageAt;
+            private Integer unreadCount;
             private LocalDateTime createdAt;
             private String otherParticipantName;
             private Long otherParticipantId;
 
+            public static ChatInfo fromSummary(ChatSummary summary) {
+                ChatInfo chatInfo = fromEntity(summary.getChat(),
+                        summary.getLastMessage() != null ? summary.getLastMessage() : "메시지가 없습니다.",
+                        summary.getUserId());
+                chatInfo.setLastMessageAt(summary.getLastMessageAt());
+                chatInfo.setUnreadCount(summary.getUnreadCount());
+                return chatInfo;
+            }
+
             public static ChatInfo fromEntity(Chat chat, String lastMessage, Long currentUserId) {
                 String otherName = null;
                 Long otherId = null;
@@ -0,0 +1,107 @@
+package com.miniproject.rookiejangter.dto;
+
+import com.miniproject.rookiejangter.exception.BusinessException;
+import com.miniproject.rookiejangter.exception.ErrorCode;
+import lombok.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class CursorDTO {
+
+    public static final int MAX_SIZE = 100;
+    private static final String SEPARATOR = "|";
+
+    // 역할: 커서가 가리키는 마지막 항목의 (createdAt, id) 위치입니다.
+    @Getter
+    @RequiredArgsConstructor
+    public static class Cursor {
+        private final LocalDateTime createdAt;
+        private final Long id;
+    }
+
+    // 역할: 전체 건수 없이 다음 페이지 존재 여부와 커서만 담는 목록 응답 DTO입니다.
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class SliceResponse<T> {
+        private List<T> content;
+        private int size;
+        private boolean hasNext;
+        private String nextCursor;
+
+        public static <E, T> SliceResponse<T> of(Slice<E> slice,
+                                                 Function<E, T> mapper,
+                                                 Function<E, LocalDateTime> createdAtOf,
+                                                 Function<E, Long> idOf) {
+            List<E> items = slice.getContent();
+            String nextCursor = null;
+            if (slice.hasNext() && !items.isEmpty()) {
+                E last = items.get(items.size() - 1);
+                nextCursor = encode(createdAtOf.apply(last), idOf.apply(last));
+            }
+            return SliceResponse.<T>builder()
+                    .content(items.stream().map(mapper).collect(Collectors.toList()))
+                    .size(slice.getSize())
+                    .hasNext(slice.hasNext())
+                    .nextCursor(nextCursor)
+                    .build();
+        }
+    }
+
+    /**
+     * (createdAt, id)를 클라이언트에 노출할 불투명 커서 문자열로 인코딩합니다.
+     *
+     * @param createdAt 마지막 항목의 생성 시각
+     * @param id        마지막 항목의 ID
+     * @return URL-safe Base64 커서
+     */
+    public static String encode(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 해석합니다. 비어 있으면 첫 페이지를 의미하는 null을 반환합니다.
+     *
+     * @param cursor 클라이언트가 전달한 커서
+     * @return 커서 위치 또는 null
+     * @throws BusinessException 커서 형식이 올바르지 않은 경우
+     */
+    public static Cursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorAt = raw.lastIndexOf(SEPARATOR);
+            if (separatorAt < 0) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+            return new Cursor(
+                    LocalDateTime.parse(raw.substring(0, separatorAt)),
+                    Long.parseLong(raw.substring(separatorAt + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * 커서 조회용 Pageable을 만듭니다. 항상 첫 페이지이며 size는 1~MAX_SIZE로 보정됩니다.
+     *
+     * @param size 요청한 페이지 크기
+     * @return 오프셋이 0인 Pageable
+     */
+    public static Pageable pageRequest(int size) {
+        return PageRequest.of(0, Math.max(1, Math.min(size, MAX_SIZE)));
+    }
+}
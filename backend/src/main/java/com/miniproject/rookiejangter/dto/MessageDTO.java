@@ -1,5 +1,6 @@
 package com.miniproject.rookiejangter.dto;
 
+import com.miniproject.rookiejangter.archive.MessageRecord;
 import com.miniproject.rookiejangter.entity.Message;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -70,17 +71,46 @@ public class MessageDTO {
             private LocalDateTime createdAt;
 
             public static MessageResponse fromEntity(Message message) {
+                return fromEntity(message, message.getIsRead() != null ? message.getIsRead() : false);
+            }
+
+            public static MessageResponse fromRecord(MessageRecord record, boolean isRead) {
+                return MessageResponse.builder()
+                        .messageId(record.getMessageId())
+                        .senderId(record.getSenderId())
+                        .content(record.getContent())
+                        .isRead(isRead)
+                        .createdAt(record.getCreatedAt())
+                        .build();
+            }
+
+            // 읽음 여부는 수신자의 읽은 위치로 판단해 넘겨받음
+            public static MessageResponse fromEntity(Message message, boolean isRead) {
                 return MessageResponse.builder()
                         .messageId(message.getMessageId())
                         .senderId(message.getSender() != null ? message.getSender().getUserId() : null)
                         .content(message.getContent())
-                        .isRead(message.getIsRead() != null ? message.getIsRead() : false)
+                        .isRead(isRead)
                         .createdAt(message.getCreatedAt() != null ? message.getCreatedAt() : null)
                         .build();
             }
         }
     }
 
+    /**
+     * 읽음 알림: 참여자가 채팅방의 어느 메시지까지 읽었는지 알립니다.
+     * 상대방이 보낸 lastReadMessageId 이하의 메시지는 모두 읽은 것으로 표시하면 됩니다.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ReadReceipt {
+        private Long chatId;
+        private Long readerId;
+        private Long lastReadMessageId;
+    }
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
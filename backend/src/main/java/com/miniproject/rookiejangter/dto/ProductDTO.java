@@ -1,8 +1,12 @@
 package com.miniproject.rookiejangter.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.miniproject.rookiejangter.entity.Product;
 import com.miniproject.rookiejangter.entity.User;
+import com.miniproject.rookiejangter.exception.ErrorCode;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
@@ -11,6 +15,7 @@ import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
 
 public class ProductDTO {
 
@@ -76,7 +81,7 @@ public class ProductDTO {
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
-    @Builder
+    @Builder(toBuilder = true)
     public static class Response {
         private Long id;
         private String title;
@@ -84,8 +89,10 @@ public class ProductDTO {
         private Integer price;
         private String categoryName;
         private SellerInfo seller;
+        private String thumbnailUrl;
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
+        private LocalDateTime bumpedAt;
         private Integer viewCount;
         private Boolean isReserved;
         private Boolean isCompleted;
@@ -101,6 +108,7 @@ public class ProductDTO {
                     .seller(SellerInfo.fromEntity(product.getUser()))
                     .createdAt(product.getCreatedAt())
                     .updatedAt(product.getUpdatedAt())
+                    .bumpedAt(product.getBumpedAt())
                     .viewCount(product.getViewCount())
                     .isReserved(product.getIsReserved() != null ? product.getIsReserved() : false)
                     .isCompleted(product.getIsCompleted() != null ? product.getIsCompleted() : false)
@@ -130,7 +138,54 @@ public class ProductDTO {
     public static class ProductListData {
         private ProductListPagination pagination;
         private List<Response> content;
+        private String didYouMean; // 검색 결과에 오타 교정 검색어의 결과가 포함된 경우 교정된 검색어
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class FilterRequest {
+        private Integer categoryId;
+        private Integer areaId;
+        private Integer minPrice;
+        private Integer maxPrice;
+        private String status; // AVAILABLE, RESERVED, COMPLETED
+    }
+    // 역할: 상품 필터 API의 조회 조건을 담는 DTO입니다. 비어 있는 조건은 적용하지 않습니다.
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class FacetCounts {
+        private Map<Integer, Long> categories;
+        private Map<Integer, Long> areas;
+        private Map<String, Long> priceRanges;
+        private Map<String, Long> statuses;
+    }
+    // 역할: 패싯 값별 상품 수를 담는 DTO입니다. 각 패싯은 자기 자신을 제외한 나머지 조건이 적용된 건수입니다.
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class FilterResponse {
+        private ProductListData products;
+        private FacetCounts facets; // 패싯 인덱스 준비 전에는 null
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Suggestion {
+        private String text;
+        private String type; // TITLE, CATEGORY
+        private Integer categoryId; // 카테고리 추천어일 때만
+        private long count;
     }
+    // 역할: 검색어 자동완성 API의 추천어 항목 DTO입니다.
 
     @Data
     @NoArgsConstructor
@@ -141,6 +196,129 @@ public class ProductDTO {
         private Boolean isCompleted; // 판매완료 상태
     }
 
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class PriceChange {
+        @NotNull(message = "상품 ID는 필수입니다.")
+        private Long productId;
+
+        @NotNull(message = "가격은 필수입니다.")
+        private Integer price;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class BulkPriceUpdateRequest {
+        @NotEmpty(message = "변경할 상품 목록은 필수입니다.")
+        @Size(max = 500, message = "한 번에 최대 500개의 상품까지 처리할 수 있습니다.")
+        private List<@Valid PriceChange> items;
+    }
+    // 역할: 상품 가격 일괄 변경 API의 요청 데이터를 담는 DTO입니다.
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class BulkStatusUpdateRequest {
+        @NotEmpty(message = "변경할 상품 목록은 필수입니다.")
+        @Size(max = 500, message = "한 번에 최대 500개의 상품까지 처리할 수 있습니다.")
+        private List<@NotNull Long> productIds;
+        private Boolean isReserved;  // null이면 기존 값 유지
+        private Boolean isCompleted; // null이면 기존 값 유지
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class BulkDeleteRequest {
+        @NotEmpty(message = "삭제할 상품 목록은 필수입니다.")
+        @Size(max = 500, message = "한 번에 최대 500개의 상품까지 처리할 수 있습니다.")
+        private List<@NotNull Long> productIds;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class BulkItemResult {
+        private Long productId;
+        private boolean success;
+        private String errorCode; // 실패 시 ErrorCode 코드 (예: P001)
+        private String message;   // 실패 사유
+
+        public static BulkItemResult success(Long productId) {
+            return BulkItemResult.builder()
+                    .productId(productId)
+                    .success(true)
+                    .build();
+        }
+
+        public static BulkItemResult failure(Long productId, ErrorCode errorCode, Object... args) {
+            return BulkItemResult.builder()
+                    .productId(productId)
+                    .success(false)
+                    .errorCode(errorCode.getCode())
+                    .message(errorCode.formatMessage(args).trim())
+                    .build();
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class BulkResult {
+        private int requested;
+        private int succeeded;
+        private int failed;
+        private List<BulkItemResult> results; // 요청 순서 (중복 ID는 한 번만)
+
+        public static BulkResult of(List<BulkItemResult> results) {
+            int succeeded = (int) results.stream().filter(BulkItemResult::isSuccess).count();
+            return BulkResult.builder()
+                    .requested(results.size())
+                    .succeeded(succeeded)
+                    .failed(results.size() - succeeded)
+                    .results(results)
+                    .build();
+        }
+    }
+    // 역할: 상품 일괄 처리 API의 항목별 처리 결과를 담는 DTO입니다.
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ImportRow {
+        private String title;
+        private String content;
+        private Integer price;
+        private Integer categoryId; // categoryId 또는 category(이름) 중 하나
+        private String category;
+    }
+    // 역할: 상품 가져오기 API에서 NDJSON 한 줄 또는 CSV 한 행의 데이터를 담는 DTO입니다.
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ImportProgress {
+        private String type;      // PROGRESS, ERROR, DONE, ABORTED
+        private Long line;        // 마지막으로 읽은 행 번호 (ERROR면 실패한 행, ABORTED면 다시 올릴 첫 행, CSV는 헤더가 1행)
+        private Integer processed;
+        private Integer imported;
+        private Integer failed;
+        private String errorCode; // ERROR일 때 ErrorCode 코드
+        private String message;
+    }
+    // 역할: 상품 가져오기 API의 진행 상황 응답(NDJSON 한 줄)을 담는 DTO입니다.
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
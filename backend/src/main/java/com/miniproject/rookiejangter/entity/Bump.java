@@ -25,4 +25,9 @@ public class Bump {
     @Column(name = "bump_count")
     private Integer bumpCount;
 
+    // 끌어올리기 횟수 증가
+    public void increment() {
+        this.bumpCount = (this.bumpCount != null ? this.bumpCount : 0) + 1;
+    }
+
 }
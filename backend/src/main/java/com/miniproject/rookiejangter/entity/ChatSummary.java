@@ -0,0 +1,49 @@
+package com.miniproject.rookiejangter.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅방 목록용 요약입니다. 채팅방 참여자마다 한 행이며, 메시지 저장과 읽음 처리 시 함께 갱신됩니다.
+ * 읽음 상태는 메시지마다 두지 않고 참여자별 읽은 위치(lastReadMessageId) 하나로 표현합니다.
+ */
+@Entity
+@Table(name = "chat_summaries")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+@ToString
+public class ChatSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "chat_summary_id")
+    private Long chatSummaryId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "chat_id", nullable = false)
+    private Chat chat;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "last_message", length = 255)
+    private String lastMessage;
+
+    @Column(name = "last_message_id")
+    private Long lastMessageId;
+
+    @Column(name = "last_message_at")
+    private LocalDateTime lastMessageAt;
+
+    // 이 참여자가 읽은 마지막 메시지 ID: 상대방의 이 ID 이하 메시지는 읽음
+    @Column(name = "last_read_message_id")
+    private Long lastReadMessageId;
+
+    @Column(name = "unread_count", nullable = false)
+    private Integer unreadCount;
+}
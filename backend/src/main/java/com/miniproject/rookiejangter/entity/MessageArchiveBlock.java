@@ -0,0 +1,53 @@
+package com.miniproject.rookiejangter.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 메시지 블록의 인덱스입니다. 세그먼트 파일 안의 압축 블록 하나를 가리키며,
+ * 블록에 든 채팅방의 메시지 범위(ID, 생성 시각)와 개수를 함께 저장해 필요한 블록만 읽게 합니다.
+ */
+@Entity
+@Table(name = "message_archive_blocks")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+@ToString
+public class MessageArchiveBlock {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "block_id")
+    private Long blockId;
+
+    @Column(name = "chat_id", nullable = false)
+    private Long chatId;
+
+    @Column(name = "first_message_id", nullable = false)
+    private Long firstMessageId;
+
+    @Column(name = "last_message_id", nullable = false)
+    private Long lastMessageId;
+
+    @Column(name = "first_created_at")
+    private LocalDateTime firstCreatedAt;
+
+    @Column(name = "last_created_at")
+    private LocalDateTime lastCreatedAt;
+
+    @Column(name = "message_count", nullable = false)
+    private Integer messageCount;
+
+    @Column(name = "segment_no", nullable = false)
+    private Integer segmentNo;
+
+    @Column(name = "block_offset", nullable = false)
+    private Long blockOffset;
+
+    @Column(name = "block_length", nullable = false)
+    private Integer blockLength;
+}
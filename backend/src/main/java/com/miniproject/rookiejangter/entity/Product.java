@@ -6,6 +6,8 @@ import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Table(name = "products")
 @Getter
@@ -49,6 +51,18 @@ public class Product extends BaseEntity {
     @Column(name = "is_completed")
     private Boolean isCompleted;
 
+    // 피드 정렬 기준 시각: max(등록 시각, 마지막 끌어올린 시각)
+    @Column(name = "bumped_at")
+    private LocalDateTime bumpedAt;
+
+    // 등록 시에는 생성 시각을 정렬 기준으로 사용 (감사 리스너가 createdAt을 먼저 채움)
+    @PrePersist
+    void initBumpedAt() {
+        if (this.bumpedAt == null) {
+            this.bumpedAt = getCreatedAt() != null ? getCreatedAt() : LocalDateTime.now();
+        }
+    }
+
     /**
      * 생성자: ProductDTO를 사용하여 Product 정보를 업데이트합니다.
      * 
@@ -0,0 +1,72 @@
+package com.miniproject.rookiejangter.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.miniproject.rookiejangter.entity.Product;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품이 생성/수정/삭제되거나 상태가 바뀌었을 때 발행되는 이벤트입니다.
+ * 인메모리 인덱스들이 DB를 다시 조회하지 않도록 변경 시점의 상품 스냅샷을 함께 담습니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@ToString
+public class ProductChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        STATUS_CHANGED,
+        BUMPED,
+        DELETED
+    }
+
+    private Type type;
+    private Long productId;
+    private Long sellerId;
+    private Integer categoryId;
+    private Integer areaId;
+    private String title;
+    private String content;
+    private Integer price;
+    private Integer viewCount;
+    private boolean reserved;
+    private boolean completed;
+    private LocalDateTime createdAt;
+    private LocalDateTime bumpedAt;
+
+    /**
+     * Product 엔티티로부터 이벤트를 생성합니다.
+     *
+     * @param type    변경 유형
+     * @param product 변경된 상품 엔티티
+     * @return 상품 변경 이벤트
+     */
+    public static ProductChangedEvent of(Type type, Product product) {
+        return ProductChangedEvent.builder()
+                .type(type)
+                .productId(product.getProductId())
+                .sellerId(product.getUser() != null ? product.getUser().getUserId() : null)
+                .categoryId(product.getCategory() != null ? product.getCategory().getCategoryId() : null)
+                .areaId(product.getUser() != null && product.getUser().getArea() != null
+                        ? product.getUser().getArea().getAreaId() : null)
+                .title(product.getTitle())
+                .content(product.getContent())
+                .price(product.getPrice())
+                .viewCount(product.getViewCount())
+                .reserved(Boolean.TRUE.equals(product.getIsReserved()))
+                .completed(Boolean.TRUE.equals(product.getIsCompleted()))
+                .createdAt(product.getCreatedAt())
+                .bumpedAt(product.getBumpedAt())
+                .build();
+    }
+
+    @JsonIgnore
+    public boolean isDeleted() {
+        return type == Type.DELETED;
+    }
+}
@@ -0,0 +1,69 @@
+package com.miniproject.rookiejangter.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * 커밋된 상품 변경 이벤트를 Redis Pub/Sub으로 다른 서버에 전파합니다.
+ * 다른 서버에서 받은 이벤트는 ProductIndexDispatcher를 통해 로컬 인덱스/캐시에 반영됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductEventBroadcaster implements MessageListener {
+
+    public static final String CHANNEL = "product.events";
+
+    // 자신이 발행한 메시지를 다시 적용하지 않기 위한 서버 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ProductIndexDispatcher productIndexDispatcher;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProductChanged(ProductChangedEvent event) {
+        try {
+            String json = objectMapper.writeValueAsString(new Envelope(nodeId, event));
+            stringRedisTemplate.convertAndSend(CHANNEL, json);
+        } catch (Exception e) {
+            // 전파에 실패하면 다른 서버의 캐시는 TTL 만료 시점에 갱신됨
+            log.error("Failed to broadcast product event {}: {}", event.getProductId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Envelope envelope = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), Envelope.class);
+            if (nodeId.equals(envelope.getOrigin())) {
+                return;
+            }
+            productIndexDispatcher.dispatch(envelope.getEvent());
+        } catch (Exception e) {
+            log.error("Failed to apply broadcast product event: {}", e.getMessage(), e);
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class Envelope {
+        private String origin;
+        private ProductChangedEvent event;
+    }
+}
@@ -0,0 +1,112 @@
+package com.miniproject.rookiejangter.event;
+
+import com.miniproject.rookiejangter.entity.Product;
+import com.miniproject.rookiejangter.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductIndexDispatcher {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final ProductRepository productRepository;
+    private final List<ProductIndexer> indexers;
+
+    // 기동 적재가 끝날 때까지 들어온 변경 이벤트: 적재한 스냅샷이 더 새로운 변경을 덮어쓸 수 있으므로 적재 후에 다시 반영
+    private final Object loadLock = new Object();
+    private List<ProductChangedEvent> buffered = new ArrayList<>();
+
+    /**
+     * 트랜잭션이 커밋된 상품 변경만 인덱스에 반영합니다.
+     *
+     * @param event 상품 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProductChanged(ProductChangedEvent event) {
+        dispatch(event);
+    }
+
+    /**
+     * 등록된 모든 인덱서에 이벤트를 전달합니다.
+     * 한 인덱서의 실패가 다른 인덱서 갱신을 막지 않도록 개별적으로 처리합니다.
+     * 기동 적재 중에 받은 이벤트는 바로 전달하면서(캐시 무효화가 늦어지지 않도록) 모아 두었다가, 적재가 끝난 뒤 받은 순서대로 한 번 더 전달합니다.
+     *
+     * @param event 상품 변경 이벤트
+     */
+    public void dispatch(ProductChangedEvent event) {
+        synchronized (loadLock) {
+            if (buffered != null) {
+                buffered.add(event);
+            }
+        }
+        deliver(event);
+    }
+
+    private void deliver(ProductChangedEvent event) {
+        for (ProductIndexer indexer : indexers) {
+            try {
+                indexer.apply(event);
+            } catch (RuntimeException e) {
+                log.error("Failed to apply product event {} to {}: {}",
+                        event.getProductId(), indexer.getClass().getSimpleName(), e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 애플리케이션 기동 후 전체 상품을 product_id 순으로 나누어 읽어 인덱스를 구성합니다.
+     * 적재에 실패하면 인덱스는 준비되지 않은 상태로 남고, 조회는 DB 경로로 처리됩니다.
+     * 적재하는 동안 커밋된 변경은 적재가 끝난 뒤 다시 반영하므로, 먼저 읽은 스냅샷이 새 변경을 되돌리지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndexes() {
+        long startedAt = System.currentTimeMillis();
+        long lastId = 0L;
+        int loaded = 0;
+        try {
+            while (true) {
+                List<Product> batch = productRepository.findBatchAfter(lastId, PageRequest.of(0, LOAD_BATCH_SIZE));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                for (Product product : batch) {
+                    deliver(ProductChangedEvent.of(ProductChangedEvent.Type.CREATED, product));
+                }
+                lastId = batch.get(batch.size() - 1).getProductId();
+                loaded += batch.size();
+            }
+        } catch (RuntimeException e) {
+            log.error("Product index loading failed after {} products: {}", loaded, e.getMessage(), e);
+            return;
+        } finally {
+            replayBuffered();
+        }
+        indexers.forEach(ProductIndexer::markReady);
+        log.info("Loaded {} products into {} indexes in {} ms",
+                loaded, indexers.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    // 인덱서 반영은 같은 이벤트를 다시 받아도 결과가 같으므로, 스냅샷에 덮어쓰인 변경만 되살아남
+    // 잠금을 쥔 채 다시 반영해, 그동안 들어온 이벤트보다 먼저 끝나게 함
+    private void replayBuffered() {
+        synchronized (loadLock) {
+            for (ProductChangedEvent event : buffered) {
+                deliver(event);
+            }
+            log.info("Replayed {} product events received during index loading", buffered.size());
+            buffered = null;
+        }
+    }
+}
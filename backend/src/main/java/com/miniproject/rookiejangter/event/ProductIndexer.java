@@ -0,0 +1,21 @@
+package com.miniproject.rookiejangter.event;
+
+/**
+ * 상품 변경 이벤트를 받아 자신의 인메모리 인덱스를 갱신하는 컴포넌트입니다.
+ * ProductIndexDispatcher가 기동 시 전체 상품을 적재하고, 이후에는 커밋된 변경분만 전달합니다.
+ */
+public interface ProductIndexer {
+
+    /**
+     * 상품 변경 내용을 인덱스에 반영합니다.
+     *
+     * @param event 상품 변경 이벤트
+     */
+    void apply(ProductChangedEvent event);
+
+    /**
+     * 기동 시 전체 상품 적재가 끝났음을 알립니다.
+     * 이 시점 이전에는 인덱스가 불완전하므로 조회 측은 DB 경로를 사용해야 합니다.
+     */
+    void markReady();
+}
@@ -44,6 +44,10 @@ public enum ErrorCode {
     CANNOT_CHAT_WITH_SELF(HttpStatus.BAD_REQUEST, "CH003", "자기 자신과는 채팅할 수 없습니다."),
     CHAT_ROOM_ALREADY_EXISTS(HttpStatus.CONFLICT, "CH004", "이미 해당 사용자와의 채팅방이 존재합니다."),
     CHAT_FORBIDDEN_ACCESS(HttpStatus.FORBIDDEN, "CH005", "해당 채팅방에 접근할 권한이 없습니다."),
+    CHAT_MESSAGE_BACKLOG_FULL(HttpStatus.SERVICE_UNAVAILABLE, "CH006", "메시지 전송이 밀려 있습니다. 잠시 후 다시 시도해 주세요."),
+    CHAT_ARCHIVE_READ_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "CH007", "보관된 채팅 메시지를 읽지 못했습니다. (채팅방 ID: %s)"),
+    CHAT_MESSAGE_EMPTY(HttpStatus.BAD_REQUEST, "CH008", "메시지 내용은 비어 있을 수 없습니다."),
+    CHAT_MESSAGE_TOO_LONG(HttpStatus.BAD_REQUEST, "CH009", "메시지 내용은 최대 255자까지 가능합니다."),
 
     // Complete
     COMPLETE_NOT_FOUND(HttpStatus.NOT_FOUND, "CP001", "존재하지 않는 거래 완료 기록입니다."),
@@ -57,6 +61,7 @@ public enum ErrorCode {
     INVALID_TYPE_VALUE(HttpStatus.BAD_REQUEST, "C005", " 유효하지 않은 형식의 값입니다."),
     ACCESS_DENIED(HttpStatus.FORBIDDEN, "C006", " 접근 권한이 없습니다."), // Generic access denied
     RESOURCE_NOT_FOUND(HttpStatus.NOT_FOUND, "C008", "%s (을)를 찾을 수 없습니다. 식별자: %s"),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "C009", "유효하지 않은 페이지 커서입니다."),
 
     // Dibs (찜)
     DIBS_ALREADY_EXISTS(HttpStatus.CONFLICT, "D001", "이미 찜한 상품입니다. (사용자 ID: %s, 상품 ID: %s)"), // Modified
@@ -93,6 +98,7 @@ public enum ErrorCode {
     PRODUCT_CONTENT_EMPTY(HttpStatus.BAD_REQUEST, "P011", "상품 내용은 필수입니다."),
     PRODUCT_CONTENT_TOO_LONG(HttpStatus.BAD_REQUEST, "P012", "상품 내용은 최대 255자까지 가능합니다."),
     PRODUCT_PRICE_NEGATIVE(HttpStatus.BAD_REQUEST, "P013", "상품 가격은 0 이상이어야 합니다."),
+    PRODUCT_BUMP_COOLDOWN(HttpStatus.TOO_MANY_REQUESTS, "P014", "끌어올리기는 %s 이후에 가능합니다."),
 
     // Report
     REPORT_REASON_NOT_FOUND(HttpStatus.NOT_FOUND, "RP001", "존재하지 않는 신고 사유입니다."),
@@ -0,0 +1,36 @@
+package com.miniproject.rookiejangter.pubsub;
+
+import com.miniproject.rookiejangter.dto.MessageDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Redis 채팅 채널로 전달되는 메시지입니다. 채팅 메시지 하나 또는 모아 보낸 읽음 알림을 담습니다.
+ * 발행 시각은 서버 간 전달 지연 측정에 쓰입니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessageEnvelope {
+
+    public static final String CHANNEL_PREFIX = "chatRoom.";
+
+    private long publishedAt;
+    private MessageDTO.Response message;
+    private List<MessageDTO.ReadReceipt> receipts;
+
+    public static ChatMessageEnvelope of(MessageDTO.Response message) {
+        return new ChatMessageEnvelope(System.currentTimeMillis(), message, null);
+    }
+
+    public static ChatMessageEnvelope ofReceipts(List<MessageDTO.ReadReceipt> receipts) {
+        return new ChatMessageEnvelope(System.currentTimeMillis(), null, receipts);
+    }
+
+    public static String channel(Long chatId) {
+        return CHANNEL_PREFIX + chatId;
+    }
+}
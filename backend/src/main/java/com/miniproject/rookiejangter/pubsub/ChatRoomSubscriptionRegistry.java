@@ -0,0 +1,103 @@
+package com.miniproject.rookiejangter.pubsub;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 이 서버에 WebSocket 구독자가 있는 채팅방의 Redis 채널만 구독합니다. 메시지 topic과 읽음 알림 topic 구독을 함께 셉니다.
+ * 채팅방별 구독 수를 세어 첫 구독에서 채널을 구독하고, 마지막 구독이 해지되거나 세션이 끊기면 채널 구독을 해지합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomSubscriptionRegistry {
+
+    private static final String DESTINATION_PREFIX = "/sub/chat/room/";
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final RedisSubscriber redisSubscriber;
+
+    // 세션 ID → (구독 ID → 채팅방 ID)
+    private final Map<String, Map<String, Long>> sessions = new HashMap<>();
+    private final Map<Long, Integer> subscriberCounts = new HashMap<>();
+
+    @EventListener
+    public synchronized void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long chatId = chatId(accessor.getDestination());
+        if (chatId == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        Long previous = sessions.computeIfAbsent(accessor.getSessionId(), id -> new HashMap<>())
+                .put(accessor.getSubscriptionId(), chatId);
+        if (previous != null) {
+            release(previous);
+        }
+        if (subscriberCounts.merge(chatId, 1, Integer::sum) == 1) {
+            redisMessageListenerContainer.addMessageListener(redisSubscriber, topic(chatId));
+            log.debug("Subscribed to Redis channel for chat {}", chatId);
+        }
+    }
+
+    @EventListener
+    public synchronized void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, Long> subscriptions = sessions.get(accessor.getSessionId());
+        if (subscriptions == null) {
+            return;
+        }
+        Long chatId = subscriptions.remove(accessor.getSubscriptionId());
+        if (subscriptions.isEmpty()) {
+            sessions.remove(accessor.getSessionId());
+        }
+        if (chatId != null) {
+            release(chatId);
+        }
+    }
+
+    @EventListener
+    public synchronized void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, Long> subscriptions = sessions.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::release);
+        }
+    }
+
+    private void release(Long chatId) {
+        Integer remaining = subscriberCounts.computeIfPresent(chatId, (id, count) -> count > 1 ? count - 1 : null);
+        if (remaining == null) {
+            redisMessageListenerContainer.removeMessageListener(redisSubscriber, topic(chatId));
+            log.debug("Unsubscribed from Redis channel for chat {}", chatId);
+        }
+    }
+
+    private static ChannelTopic topic(Long chatId) {
+        return new ChannelTopic(ChatMessageEnvelope.channel(chatId));
+    }
+
+    private static Long chatId(String destination) {
+        if (destination == null || !destination.startsWith(DESTINATION_PREFIX)) {
+            return null;
+        }
+        String room = destination.substring(DESTINATION_PREFIX.length());
+        if (room.endsWith(RedisSubscriber.READ_SUFFIX)) {
+            room = room.substring(0, room.length() - RedisSubscriber.READ_SUFFIX.length());
+        }
+        try {
+            return Long.parseLong(room);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.miniproject.rookiejangter.pubsub;
+
+import com.miniproject.rookiejangter.dto.MessageDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 읽음 알림을 짧은 간격으로 모아 채팅방별로 한 번에 발행합니다.
+ * 같은 참여자의 읽은 위치가 그 사이 여러 번 움직이면 가장 앞선 위치 하나만 보냅니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReadReceiptBatcher {
+
+    private final RedisPublisher redisPublisher;
+
+    // 채팅방 ID → (읽은 사용자 ID → 읽은 위치)
+    private final ConcurrentHashMap<Long, Map<Long, Long>> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 읽음 알림을 예약합니다. 트랜잭션 안에서 호출되면 커밋된 뒤에 예약합니다.
+     *
+     * @param chatId            채팅방 ID
+     * @param readerId          읽은 사용자 ID
+     * @param lastReadMessageId 새 읽은 위치
+     */
+    public void submit(Long chatId, Long readerId, Long lastReadMessageId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(chatId, readerId, lastReadMessageId);
+                }
+            });
+        } else {
+            enqueue(chatId, readerId, lastReadMessageId);
+        }
+    }
+
+    private void enqueue(Long chatId, Long readerId, Long lastReadMessageId) {
+        pending.compute(chatId, (id, readers) -> {
+            Map<Long, Long> merged = readers != null ? readers : new HashMap<>();
+            merged.merge(readerId, lastReadMessageId, Math::max);
+            return merged;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${chat.read-receipt.flush-interval-ms:200}")
+    public void flush() {
+        for (Long chatId : pending.keySet()) {
+            Map<Long, Long> readers = pending.remove(chatId);
+            if (readers == null) {
+                continue;
+            }
+            List<MessageDTO.ReadReceipt> receipts = new ArrayList<>(readers.size());
+            readers.forEach((readerId, lastReadMessageId) ->
+                    receipts.add(new MessageDTO.ReadReceipt(chatId, readerId, lastReadMessageId)));
+            redisPublisher.publishReceipts(chatId, receipts);
+        }
+    }
+}
@@ -4,18 +4,30 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.miniproject.rookiejangter.dto.MessageDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class RedisPublisher {
 
-    @Qualifier("chatRedisTemplate") // "chatRedisTemplate" 빈 주입
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
     private final ObjectMapper objectMapper;
+    private final RedisSubscriber redisSubscriber;
+
+    /**
+     * 채팅 메시지를 이 서버의 구독자에게 바로 전달하고, 다른 서버를 위해 채팅방 채널로 발행합니다.
+     * 이 서버도 같은 채널을 구독 중이면 되돌아온 메시지는 RedisSubscriber에서 중복으로 걸러집니다.
+     *
+     * @param message 전달할 메시지
+     */
+    public void send(MessageDTO.Response message) {
+        redisSubscriber.deliverLocal(message);
+        publish(ChatMessageEnvelope.channel(message.getChatId()), message);
+    }
 
     /**
      * Redis Topic에 메시지 발행
@@ -25,11 +37,31 @@ public class RedisPublisher {
      */
     public void publish(String topicName, MessageDTO.Response message) {
         try {
-            String jsonMessage = objectMapper.writeValueAsString(message);
-            redisTemplate.convertAndSend(topicName, jsonMessage);
-            log.info("Redis published message to topic {}: {}", topicName, jsonMessage);
+            // chatRedisTemplate은 값을 다시 JSON으로 감싸므로 문자열 템플릿으로 발행
+            String jsonMessage = objectMapper.writeValueAsString(ChatMessageEnvelope.of(message));
+            stringRedisTemplate.convertAndSend(topicName, jsonMessage);
+            log.debug("Redis published message {} to topic {}", message.getMessageId(), topicName);
         } catch (Exception e) {
+            // 이 서버의 구독자에게는 이미 전달됨, 다른 서버의 구독자는 메시지 목록 조회로 복구
             log.error("Failed to publish message to Redis topic {}: {}", topicName, e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 한 채팅방의 읽음 알림을 모아 채팅방 채널로 발행합니다.
+     * 이 서버의 구독자도 채널을 통해 받으므로 직접 전달하지 않습니다. (읽음 알림은 같은 값을 여러 번 받아도 결과가 같음)
+     *
+     * @param chatId   채팅방 ID
+     * @param receipts 참여자별 최신 읽음 알림
+     */
+    public void publishReceipts(Long chatId, List<MessageDTO.ReadReceipt> receipts) {
+        String topicName = ChatMessageEnvelope.channel(chatId);
+        try {
+            String jsonMessage = objectMapper.writeValueAsString(ChatMessageEnvelope.ofReceipts(receipts));
+            stringRedisTemplate.convertAndSend(topicName, jsonMessage);
+        } catch (Exception e) {
+            // 받지 못한 읽음 상태는 메시지 목록 조회로 복구
+            log.error("Failed to publish read receipts to Redis topic {}: {}", topicName, e.getMessage());
+        }
+    }
+}
@@ -2,46 +2,115 @@ package com.miniproject.rookiejangter.pubsub;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.miniproject.rookiejangter.dto.MessageDTO;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채팅방 Redis 채널에서 받은 메시지를 이 서버의 WebSocket 구독자에게 전달합니다.
+ * 최근 전달한 메시지 ID를 기억해, 직접 전달한 메시지가 Redis로 되돌아오거나 중복 수신되어도 서버당 한 번만 전달합니다.
+ * 읽음 알림은 채팅방별 읽음 알림 topic으로 전달합니다.
+ */
 @Slf4j
-@RequiredArgsConstructor
 @Service
 public class RedisSubscriber implements MessageListener {
 
+    private static final String DESTINATION_PREFIX = "/sub/chat/room/";
+    static final String READ_SUFFIX = "/read";
+
     private final ObjectMapper objectMapper;
     private final SimpMessageSendingOperations messagingTemplate; // WebSocket 메시지를 클라이언트에게 전송
+    private final Map<Long, Boolean> delivered;
+    private final Timer fanoutLatency;
+    private final Counter duplicates;
+
+    public RedisSubscriber(ObjectMapper objectMapper,
+                           SimpMessageSendingOperations messagingTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${chat.fanout.dedup-size:10000}") int dedupSize) {
+        this.objectMapper = objectMapper;
+        this.messagingTemplate = messagingTemplate;
+        this.delivered = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+                return size() > dedupSize;
+            }
+        };
+        this.fanoutLatency = Timer.builder("chat.fanout.latency")
+                .description("채팅 메시지 발행부터 다른 서버의 구독자 전달까지의 지연")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.duplicates = Counter.builder("chat.fanout.duplicates")
+                .description("이미 전달되어 버린 채팅 메시지 수")
+                .register(meterRegistry);
+    }
 
     /**
      * Redis에서 메시지가 발행되면 리스너가 이 메서드를 통해 메시지를 수신합니다.
      *
      * @param message 수신된 Redis 메시지
-     * @param pattern 구독 패턴 (여기서는 사용하지 않음)
+     * @param pattern 구독 패턴 (채널 구독이므로 사용하지 않음)
      */
     @Override
     public void onMessage(Message message, byte[] pattern) {
         try {
-            // Redis에서 수신된 메시지를 JSON 문자열로 변환
-            String publishMessage = (String) new StringRedisSerializer().deserialize(message.getBody());
-            
-            // JSON 문자열을 MessageDTO.Response 객체로 역직렬화
-            MessageDTO.Response chatMessage = objectMapper.readValue(publishMessage, MessageDTO.Response.class);
-            log.info("Redis received message: {}", chatMessage);
-
-            // WebSocket 구독자에게 메시지 전송
-            // "/sub/chat/room/{chatId}" topic으로 메시지를 발행
-            messagingTemplate.convertAndSend("/sub/chat/room/" + chatMessage.getChatId(), chatMessage);
-            log.info("Sent WebSocket message to /sub/chat/room/{}: {}", chatMessage.getChatId(), chatMessage);
-
+            ChatMessageEnvelope envelope = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), ChatMessageEnvelope.class);
+            if (envelope.getReceipts() != null && !envelope.getReceipts().isEmpty()) {
+                deliverReceipts(envelope.getReceipts());
+                return;
+            }
+            if (envelope.getMessage() != null && deliverLocal(envelope.getMessage())) {
+                // 서버 간 시계 차이만큼 오차가 있으므로 음수는 0으로 기록
+                long latency = Math.max(0, System.currentTimeMillis() - envelope.getPublishedAt());
+                fanoutLatency.record(Duration.ofMillis(latency));
+            }
         } catch (Exception e) {
             log.error("Error processing Redis message: {}", e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 이 서버의 채팅방 구독자에게 메시지를 전달합니다. 이미 전달한 메시지는 다시 보내지 않습니다.
+     *
+     * @param chatMessage 채팅 메시지
+     * @return 이번 호출에서 전달했으면 true, 중복이라 건너뛰었으면 false
+     */
+    public boolean deliverLocal(MessageDTO.Response chatMessage) {
+        if (chatMessage.getMessageId() != null && !markDelivered(chatMessage.getMessageId())) {
+            duplicates.increment();
+            return false;
+        }
+        // "/sub/chat/room/{chatId}" topic으로 메시지를 발행
+        messagingTemplate.convertAndSend(DESTINATION_PREFIX + chatMessage.getChatId(), chatMessage);
+        return true;
+    }
+
+    /**
+     * 이 서버의 읽음 알림 구독자에게 한 채팅방의 읽음 알림을 한 번에 전달합니다.
+     *
+     * @param receipts 같은 채팅방의 읽음 알림 목록
+     */
+    public void deliverReceipts(List<MessageDTO.ReadReceipt> receipts) {
+        // "/sub/chat/room/{chatId}/read" topic으로 발행
+        messagingTemplate.convertAndSend(DESTINATION_PREFIX + receipts.get(0).getChatId() + READ_SUFFIX, receipts);
+    }
+
+    private boolean markDelivered(Long messageId) {
+        synchronized (delivered) {
+            return delivered.putIfAbsent(messageId, Boolean.TRUE) == null;
+        }
+    }
+}
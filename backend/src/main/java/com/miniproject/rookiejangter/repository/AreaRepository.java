@@ -4,11 +4,21 @@ import com.miniproject.rookiejangter.entity.Area;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
 public interface AreaRepository extends JpaRepository<Area, Integer> {
 
+    // 지역 목록 ETag: 삭제는 건수로, 생성/수정은 마지막 수정 시각으로 감지
+    @Query("SELECT COUNT(a) AS count, MAX(a.updatedAt) AS lastModified FROM Area a")
+    CatalogStamp findCatalogStamp();
+
+    interface CatalogStamp {
+        long getCount();
+        LocalDateTime getLastModified();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.miniproject.rookiejangter.repository;
+
+import com.miniproject.rookiejangter.entity.Bump;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface BumpRepository extends JpaRepository<Bump, Long> {
+    Optional<Bump> findByProduct_ProductId(Long productId);
+
+    // 파생 삭제 메서드는 엔티티를 읽은 뒤 하나씩 지우므로 단일 DELETE 문으로 실행
+    @Modifying
+    @Query("DELETE FROM Bump b WHERE b.product.productId = :productId")
+    void deleteByProduct_ProductId(@Param("productId") Long productId);
+}
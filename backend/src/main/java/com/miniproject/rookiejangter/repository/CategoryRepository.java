@@ -2,8 +2,10 @@ package com.miniproject.rookiejangter.repository;
 
 import com.miniproject.rookiejangter.entity.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,4 +13,13 @@ import java.util.Optional;
 public interface CategoryRepository extends JpaRepository<Category, Integer> {
     Optional<Category> findByCategoryName(String categoryName);
     List<Category> findByCategoryNameContainingIgnoreCase(String categoryName);
+
+    // 카테고리 목록 ETag: 삭제는 건수로, 생성/수정은 마지막 수정 시각으로 감지
+    @Query("SELECT COUNT(c) AS count, MAX(c.updatedAt) AS lastModified FROM Category c")
+    CatalogStamp findCatalogStamp();
+
+    interface CatalogStamp {
+        long getCount();
+        LocalDateTime getLastModified();
+    }
 }
@@ -5,9 +5,13 @@ import com.miniproject.rookiejangter.entity.Product;
 import com.miniproject.rookiejangter.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +19,24 @@ import java.util.Optional;
 public interface ChatRepository extends JpaRepository<Chat, Long> {
     Page<Chat> findByBuyer_UserIdOrSeller_UserId(Long buyerUserId, Long sellerUserId, Pageable pageable);
     Optional<Chat> findByBuyer_UserIdAndSeller_UserIdAndProduct_ProductId(Long buyerUserId, Long sellerUserId, Long productProductId);
+
+    // 커서 페이지네이션: 구매자/판매자 각각의 (user_id, created_at, chat_id) 인덱스를 사용
+    @Query("SELECT c FROM Chat c WHERE c.buyer.userId = :userId OR c.seller.userId = :userId " +
+            "ORDER BY c.createdAt DESC, c.chatId DESC")
+    Slice<Chat> findFirstSliceByParticipant(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT c FROM Chat c WHERE (c.buyer.userId = :userId OR c.seller.userId = :userId) " +
+            "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.chatId < :chatId)) " +
+            "ORDER BY c.createdAt DESC, c.chatId DESC")
+    Slice<Chat> findSliceByParticipantBefore(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("chatId") Long chatId, Pageable pageable);
+
+    // 메시지 전송: 채팅방 엔티티와 사용자를 읽지 않고 참여자 ID만 조회
+    @Query("SELECT c.buyer.userId AS buyerId, c.seller.userId AS sellerId FROM Chat c WHERE c.chatId = :chatId")
+    Optional<ChatParticipants> findParticipantsById(@Param("chatId") Long chatId);
+
+    interface ChatParticipants {
+        Long getBuyerId();
+        Long getSellerId();
+    }
 }
\ No newline at end of file
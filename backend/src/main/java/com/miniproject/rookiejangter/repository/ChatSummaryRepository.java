@@ -0,0 +1,54 @@
+package com.miniproject.rookiejangter.repository;
+
+import com.miniproject.rookiejangter.entity.ChatSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ChatSummaryRepository extends JpaRepository<ChatSummary, Long> {
+
+    // 채팅방 목록: (user_id, last_message_at, chat_id) 인덱스 순서로 최근 활동순, 상품/참여자는 같은 쿼리에서 fetch join
+    @EntityGraph(attributePaths = {"chat", "chat.product", "chat.buyer", "chat.seller"})
+    @Query(value = "SELECT s FROM ChatSummary s WHERE s.userId = :userId " +
+            "ORDER BY s.lastMessageAt DESC, s.chat.chatId DESC",
+            countQuery = "SELECT COUNT(s) FROM ChatSummary s WHERE s.userId = :userId")
+    Page<ChatSummary> findByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"chat", "chat.product", "chat.buyer", "chat.seller"})
+    @Query("SELECT s FROM ChatSummary s WHERE s.userId = :userId " +
+            "ORDER BY s.lastMessageAt DESC, s.chat.chatId DESC")
+    Slice<ChatSummary> findFirstSliceByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"chat", "chat.product", "chat.buyer", "chat.seller"})
+    @Query("SELECT s FROM ChatSummary s WHERE s.userId = :userId " +
+            "AND (s.lastMessageAt < :lastMessageAt OR (s.lastMessageAt = :lastMessageAt AND s.chat.chatId < :chatId)) " +
+            "ORDER BY s.lastMessageAt DESC, s.chat.chatId DESC")
+    Slice<ChatSummary> findSliceByUserIdBefore(@Param("userId") Long userId,
+                                               @Param("lastMessageAt") LocalDateTime lastMessageAt,
+                                               @Param("chatId") Long chatId, Pageable pageable);
+
+    List<ChatSummary> findAllByChat_ChatId(Long chatId);
+
+    // 읽은 위치를 옮기는 한 행 UPDATE: 그 뒤에 상대방이 보낸 (저장된) 메시지 수로 안 읽은 수를 다시 계산
+    @Modifying
+    @Query(value = "UPDATE chat_summaries SET last_read_message_id = :messageId, " +
+            "unread_count = (SELECT COUNT(*) FROM messages m WHERE m.chat_id = :chatId " +
+            "AND m.sender_id <> :userId AND m.message_id > :messageId) " +
+            "WHERE chat_id = :chatId AND user_id = :userId " +
+            "AND (last_read_message_id IS NULL OR last_read_message_id < :messageId)", nativeQuery = true)
+    int advanceReadTo(@Param("chatId") Long chatId, @Param("userId") Long userId, @Param("messageId") Long messageId);
+
+    @Modifying
+    @Query("DELETE FROM ChatSummary s WHERE s.chat.chatId = :chatId")
+    int deleteAllByChatId(@Param("chatId") Long chatId);
+}
@@ -6,6 +6,9 @@ import com.miniproject.rookiejangter.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable; 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,5 +20,9 @@ public interface DibsRepository extends JpaRepository<Dibs, Long> {
     Optional<Dibs> findByUser_UserIdAndProduct_ProductId(Long userId, Long productId);
     List<Dibs> findByProduct_ProductId(Long productId);
     boolean existsByUser_UserIdAndProduct_ProductId(Long userId, Long productId);
+
+    @Modifying
+    @Query("DELETE FROM Dibs d WHERE d.product.productId = :productId")
+    int deleteAllByProductId(@Param("productId") Long productId);
 }
 
@@ -3,13 +3,36 @@ package com.miniproject.rookiejangter.repository;
 import com.miniproject.rookiejangter.entity.Image;
 import com.miniproject.rookiejangter.entity.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ImageRepository extends JpaRepository<Image, Long> {
     List<Image> findByProduct_ProductId(Long productId);
+
+    // 상품 삭제 시 파일 정리 대상 (엔티티를 읽지 않고 URL만)
+    @Query("SELECT i.imageUrl FROM Image i WHERE i.product.productId = :productId")
+    List<String> findImageUrlsByProductId(@Param("productId") Long productId);
+
+    @Modifying
+    @Query("DELETE FROM Image i WHERE i.product.productId = :productId")
+    int deleteAllByProductId(@Param("productId") Long productId);
+
+    // 상품 목록 썸네일: 상품별로 가장 먼저 등록된 이미지 하나씩을 한 번의 쿼리로 조회
+    @Query("SELECT i.product.productId AS productId, i.imageUrl AS imageUrl FROM Image i " +
+            "WHERE i.imageId IN (SELECT MIN(i2.imageId) FROM Image i2 " +
+            "WHERE i2.product.productId IN :productIds GROUP BY i2.product.productId)")
+    List<ProductThumbnail> findThumbnailsByProductIds(@Param("productIds") Collection<Long> productIds);
+
+    interface ProductThumbnail {
+        Long getProductId();
+        String getImageUrl();
+    }
 }
 
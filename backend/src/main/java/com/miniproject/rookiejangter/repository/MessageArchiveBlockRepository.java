@@ -0,0 +1,26 @@
+package com.miniproject.rookiejangter.repository;
+
+import com.miniproject.rookiejangter.entity.MessageArchiveBlock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface MessageArchiveBlockRepository extends JpaRepository<MessageArchiveBlock, Long> {
+
+    List<MessageArchiveBlock> findByChatIdOrderByFirstMessageIdAsc(Long chatId);
+
+    @Query("SELECT COALESCE(SUM(b.messageCount), 0) FROM MessageArchiveBlock b WHERE b.chatId = :chatId")
+    long sumMessageCountByChatId(@Param("chatId") Long chatId);
+
+    @Query("SELECT COALESCE(MAX(b.lastMessageId), 0) FROM MessageArchiveBlock b")
+    long findMaxArchivedMessageId();
+
+    @Modifying
+    @Query("DELETE FROM MessageArchiveBlock b WHERE b.chatId = :chatId")
+    int deleteAllByChatId(@Param("chatId") Long chatId);
+}
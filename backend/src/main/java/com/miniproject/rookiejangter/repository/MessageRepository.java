@@ -3,12 +3,15 @@ package com.miniproject.rookiejangter.repository;
 import com.miniproject.rookiejangter.entity.Message;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -16,10 +19,24 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
     Page<Message> findByChat_ChatId(Long chatChatId, Pageable pageable);
     List<Message> findByChat_ChatIdOrderByCreatedAtDesc(Long chatChatId);
 
+    // 커서 페이지네이션: 최신 메시지부터 과거 방향으로 (chat_id, created_at, message_id) 인덱스를 탐색
+    @Query("SELECT m FROM Message m WHERE m.chat.chatId = :chatId ORDER BY m.createdAt DESC, m.messageId DESC")
+    Slice<Message> findFirstSliceByChatId(@Param("chatId") Long chatId, Pageable pageable);
+
+    @Query("SELECT m FROM Message m WHERE m.chat.chatId = :chatId " +
+            "AND (m.createdAt < :createdAt OR (m.createdAt = :createdAt AND m.messageId < :messageId)) " +
+            "ORDER BY m.createdAt DESC, m.messageId DESC")
+    Slice<Message> findSliceByChatIdBefore(@Param("chatId") Long chatId, @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("messageId") Long messageId, Pageable pageable);
+
+    // 채팅 메시지 ID 순번(Redis)이 없을 때 이어서 발급할 시작점
+    @Query("SELECT COALESCE(MAX(m.messageId), 0) FROM Message m")
+    long findMaxMessageId();
+
     List<Message> findByChat_ChatIdAndIsReadFalseAndSender_UserIdNot(Long chatChatId, Long senderUserId);
     
     @Transactional
     @Modifying
     @Query("UPDATE Message m SET m.isRead = :isRead WHERE m.messageId = :messageId")
     void updateIsReadByMessageId(Boolean isRead, Long messageId);
-}
\ No newline at end of file
+}
@@ -3,12 +3,15 @@ package com.miniproject.rookiejangter.repository;
 import com.miniproject.rookiejangter.entity.Notification;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +23,16 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     List<Notification> findByIsRead(Boolean isRead);
     long countByUser_UserIdAndIsRead(Long userUserId, Boolean isRead);
 
+    // 커서 페이지네이션: (user_id, created_at, notification_id) 인덱스를 역순으로 탐색
+    @Query("SELECT n FROM Notification n WHERE n.user.userId = :userId ORDER BY n.createdAt DESC, n.notificationId DESC")
+    Slice<Notification> findFirstSliceByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT n FROM Notification n WHERE n.user.userId = :userId " +
+            "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.notificationId < :notificationId)) " +
+            "ORDER BY n.createdAt DESC, n.notificationId DESC")
+    Slice<Notification> findSliceByUserIdBefore(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("notificationId") Long notificationId, Pageable pageable);
+
     @Transactional
     @Modifying
     @Query("UPDATE Notification n SET n.isRead = :isRead WHERE n.notificationId = :notificationId")
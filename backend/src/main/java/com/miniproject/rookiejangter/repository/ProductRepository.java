@@ -5,21 +5,97 @@ import com.miniproject.rookiejangter.entity.Product;
 import com.miniproject.rookiejangter.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
+    // 목록 조회 메서드는 판매자, 판매자 지역, 카테고리를 같은 쿼리에서 fetch join (N+1 방지)
+    @EntityGraph(attributePaths = {"user", "user.area", "category"})
     List<Product> findByTitleContainsIgnoreCase(String title);
+    @EntityGraph(attributePaths = {"user", "user.area", "category"})
     List<Product> findByTitleContainsIgnoreCaseOrContentContainsIgnoreCase(String titleKeyword, String contentKeyword);
     List<Product> findByIsReservedTrue();
     List<Product> findByIsReservedFalse();
     List<Product> findByIsCompletedTrue();
     List<Product> findByIsCompletedFalse();
+    @EntityGraph(attributePaths = {"user", "user.area", "category"})
     Page<Product> findByUser(User user, Pageable pageable);
+    // 판매자별 목록 페이지: 건수는 ProductCountIndex에서 가져오므로 COUNT 쿼리 없이 페이지만 조회
+    @EntityGraph(attributePaths = {"user", "user.area", "category"})
+    List<Product> findAllByUser(User user, Pageable pageable);
+    // 판매자 정보(이름, 지역)가 바뀔 때 상품 변경 이벤트를 만들기 위한 전체 목록
+    @EntityGraph(attributePaths = {"user", "user.area", "category"})
+    List<Product> findAllByUser(User user);
+    @EntityGraph(attributePaths = {"user", "user.area", "category"})
     Page<Product> findByCategory(Category category, Pageable pageable);
-    Page<Product> findAllByOrderByCreatedAtDesc(Pageable pageable);
+    @EntityGraph(attributePaths = {"user", "user.area", "category"})
+    List<Product> findByProductIdIn(List<Long> productIds);
+
+    // 피드(끌어올리기 반영 최신순): (bumped_at, product_id) 인덱스 순서 그대로 읽어 filesort 없음
+    // 인메모리 피드 인덱스가 준비되기 전에만 사용
+    @EntityGraph(attributePaths = {"user", "user.area", "category"})
+    @Query(value = "SELECT p FROM Product p ORDER BY p.bumpedAt DESC, p.productId DESC",
+            countQuery = "SELECT COUNT(p) FROM Product p")
+    Page<Product> findFeed(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"user", "user.area", "category"})
+    @Query(value = "SELECT p FROM Product p WHERE p.category = :category ORDER BY p.bumpedAt DESC, p.productId DESC",
+            countQuery = "SELECT COUNT(p) FROM Product p WHERE p.category = :category")
+    Page<Product> findFeedByCategory(@Param("category") Category category, Pageable pageable);
+
+    // 커서 페이지네이션: (bumped_at, product_id) 인덱스를 역순으로 읽으며 COUNT 쿼리를 실행하지 않음
+    @EntityGraph(attributePaths = {"user", "user.area", "category"})
+    @Query("SELECT p FROM Product p ORDER BY p.bumpedAt DESC, p.productId DESC")
+    Slice<Product> findFirstSlice(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"user", "user.area", "category"})
+    @Query("SELECT p FROM Product p " +
+            "WHERE p.bumpedAt < :bumpedAt OR (p.bumpedAt = :bumpedAt AND p.productId < :productId) " +
+            "ORDER BY p.bumpedAt DESC, p.productId DESC")
+    Slice<Product> findSliceBefore(@Param("bumpedAt") LocalDateTime bumpedAt, @Param("productId") Long productId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"user", "user.area", "category"})
+    @Query("SELECT p FROM Product p WHERE p.productId = :productId")
+    Optional<Product> findDetailById(@Param("productId") Long productId);
+
+    // 끌어올리기: 마지막 정렬 시각이 쿨다운 이전인 경우에만 갱신 (동시 요청 중 하나만 성공)
+    @Modifying
+    @Query("UPDATE Product p SET p.bumpedAt = :now, p.isBumped = true " +
+            "WHERE p.productId = :productId AND p.bumpedAt <= :availableBefore")
+    int bumpIfAvailable(@Param("productId") Long productId,
+                        @Param("now") LocalDateTime now,
+                        @Param("availableBefore") LocalDateTime availableBefore);
+
+    // 패싯 필터 (인메모리 패싯 인덱스가 준비되기 전에만 사용): null인 조건은 무시
+    @EntityGraph(attributePaths = {"user", "user.area", "category"})
+    @Query("SELECT p FROM Product p " +
+            "WHERE (:categoryId IS NULL OR p.category.categoryId = :categoryId) " +
+            "AND (:areaId IS NULL OR p.user.area.areaId = :areaId) " +
+            "AND (:minPrice IS NULL OR p.price >= :minPrice) " +
+            "AND (:maxPrice IS NULL OR p.price <= :maxPrice) " +
+            "AND (:reserved IS NULL OR p.isReserved = :reserved) " +
+            "AND (:completed IS NULL OR p.isCompleted = :completed) " +
+            "ORDER BY p.productId DESC")
+    Page<Product> findByFilter(@Param("categoryId") Integer categoryId,
+                               @Param("areaId") Integer areaId,
+                               @Param("minPrice") Integer minPrice,
+                               @Param("maxPrice") Integer maxPrice,
+                               @Param("reserved") Boolean reserved,
+                               @Param("completed") Boolean completed,
+                               Pageable pageable);
+
+    // 인메모리 인덱스 적재용: product_id 기준으로 끊어서 순차 조회 (패싯 인덱스가 판매자 지역을 사용)
+    @EntityGraph(attributePaths = {"user", "user.area"})
+    @Query("SELECT p FROM Product p WHERE p.productId > :lastId ORDER BY p.productId ASC")
+    List<Product> findBatchAfter(@Param("lastId") Long lastId, Pageable pageable);
 }
@@ -0,0 +1,153 @@
+package com.miniproject.rookiejangter.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 편집 거리(Levenshtein) 기반 BK-tree입니다.
+ * 각 자식은 부모와의 거리로 구분되므로, 삼각 부등식으로 [d - k, d + k] 범위의 자식만 탐색합니다.
+ * 삭제는 지원하지 않으며, 호출 측이 사용하지 않는 단어를 걸러내고 필요 시 다시 만듭니다.
+ */
+final class BkTree {
+
+    private Node root;
+    private int size;
+
+    void add(String word) {
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return;
+        }
+        Node node = root;
+        while (true) {
+            int distance = distance(word, node.word, Integer.MAX_VALUE);
+            if (distance == 0) {
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 거리 maxDistance 이내의 단어를 찾습니다. 탐색 노드 수/시간 예산을 넘으면 그때까지 찾은 결과만 반환합니다.
+     *
+     * @param word        찾을 단어
+     * @param maxDistance 허용 편집 거리
+     * @param budget      탐색 예산
+     * @return 단어와 거리 목록 (순서 없음)
+     */
+    List<Match> search(String word, int maxDistance, Budget budget) {
+        List<Match> matches = new ArrayList<>();
+        if (root == null) {
+            return matches;
+        }
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty() && budget.spend()) {
+            Node node = stack.pop();
+            // 자식 범위를 좁히려면 정확한 거리가 필요하므로 상한 없이 계산
+            int distance = distance(word, node.word, Integer.MAX_VALUE);
+            if (distance <= maxDistance) {
+                matches.add(new Match(node.word, distance));
+            }
+            int from = distance - maxDistance;
+            int to = distance + maxDistance;
+            for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                if (child.getKey() >= from && child.getKey() <= to) {
+                    stack.push(child.getValue());
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * 편집 거리를 계산합니다. 결과가 limit 이상이 될 것이 확실하면 limit을 반환합니다.
+     */
+    static int distance(String a, String b, int limit) {
+        if (Math.abs(a.length() - b.length()) >= limit) {
+            return limit;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin >= limit) {
+                return limit;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[b.length()], limit);
+    }
+
+    static final class Match {
+        final String word;
+        final int distance;
+
+        Match(String word, int distance) {
+            this.word = word;
+            this.distance = distance;
+        }
+    }
+
+    /**
+     * 한 검색 요청에서 쓸 수 있는 탐색 노드 수와 시간의 상한입니다.
+     */
+    static final class Budget {
+        private final long deadlineNanos;
+        private int remainingNodes;
+
+        Budget(int maxNodes, long maxNanos) {
+            this.remainingNodes = maxNodes;
+            this.deadlineNanos = System.nanoTime() + maxNanos;
+        }
+
+        boolean spend() {
+            if (remainingNodes <= 0) {
+                return false;
+            }
+            remainingNodes--;
+            // 시간 확인은 64노드마다 한 번
+            return (remainingNodes & 63) != 0 || System.nanoTime() < deadlineNanos;
+        }
+
+        boolean exhausted() {
+            return remainingNodes <= 0 || System.nanoTime() >= deadlineNanos;
+        }
+    }
+
+    private static final class Node {
+        private final String word;
+        private final Map<Integer, Node> children = new HashMap<>(4);
+
+        private Node(String word) {
+            this.word = word;
+        }
+    }
+}
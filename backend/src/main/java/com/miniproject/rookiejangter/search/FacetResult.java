@@ -0,0 +1,21 @@
+package com.miniproject.rookiejangter.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 패싯 필터 결과입니다. 요청한 페이지의 상품 ID와 패싯 값별 일치 건수를 담습니다.
+ * 각 패싯의 건수는 해당 패싯 자신을 제외한 나머지 조건을 적용한 값입니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class FacetResult {
+
+    private final SearchResult page;
+    private final Map<Integer, Long> categoryCounts;
+    private final Map<Integer, Long> areaCounts;
+    private final Map<String, Long> priceRangeCounts;
+    private final Map<ProductFilter.Status, Long> statusCounts;
+}
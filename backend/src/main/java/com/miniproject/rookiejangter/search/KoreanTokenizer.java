@@ -0,0 +1,160 @@
+package com.miniproject.rookiejangter.search;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 상품 검색용 토크나이저입니다.
+ * 한글/영문/숫자가 이어진 구간을 형태소 분석 없이 글자 단위 n-gram(1-gram, 2-gram)으로 나누고, 영문은 소문자화합니다.
+ * 단어 중간부터의 검색("iph" → "iPhone", "13" → "아이폰13")도 찾을 수 있도록 영문/숫자도 단어 단위로 자르지 않습니다.
+ * 2-gram이 모두 있어도 연속해서 나오지 않을 수 있으므로, 검색 쪽은 후보를 queryWords로 다시 확인합니다.
+ */
+public final class KoreanTokenizer {
+
+    // 완성형 음절 = 0xAC00 + (초성 * 21 + 중성) * 28 + 종성, 초성 배열은 문자 코드 순으로 정렬되어 있음
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final int JUNGSUNG_COUNT = 21;
+    private static final int JONGSUNG_COUNT = 28;
+
+    private KoreanTokenizer() {
+    }
+
+    /**
+     * 색인용 토큰을 생성합니다. 한글은 한 글자 검색도 가능하도록 1-gram과 2-gram을 모두 만듭니다.
+     *
+     * @param text 색인할 문자열
+     * @return 중복이 제거된 토큰 집합
+     */
+    public static Set<String> indexTerms(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        tokenize(text, true, terms::add);
+        return terms;
+    }
+
+    /**
+     * 색인용 토큰별 출현 횟수를 계산합니다. 토큰은 indexTerms와 같고, 횟수의 합이 문서 길이가 됩니다.
+     *
+     * @param text 색인할 문자열
+     * @return 토큰별 출현 횟수
+     */
+    public static Map<String, Integer> indexTermFrequencies(String text) {
+        Map<String, Integer> frequencies = new LinkedHashMap<>();
+        tokenize(text, true, term -> frequencies.merge(term, 1, Integer::sum));
+        return frequencies;
+    }
+
+    /**
+     * 검색어 토큰을 생성합니다. 두 글자 이상의 구간은 2-gram만 사용해 후보를 좁힙니다.
+     *
+     * @param query 검색어
+     * @return 중복이 제거된 토큰 집합
+     */
+    public static Set<String> queryTerms(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        tokenize(query, false, terms::add);
+        return terms;
+    }
+
+    /**
+     * 검색어를 n-gram으로 나누기 전의 구간(정규화된 한글/영문/숫자 연속 구간)으로 나눕니다.
+     * 검색 결과는 이 구간을 모두 부분 문자열로 포함해야 합니다. ("아이폰 13프로" → ["아이폰", "13프로"])
+     *
+     * @param query 검색어
+     * @return 중복이 제거된 구간 집합
+     */
+    public static Set<String> queryWords(String query) {
+        Set<String> words = new LinkedHashSet<>();
+        String normalized = normalize(query);
+        int length = normalized.length();
+        int i = 0;
+        while (i < length) {
+            if (!isTermChar(normalized.charAt(i))) {
+                i++;
+                continue;
+            }
+            int start = i;
+            while (i < length && isTermChar(normalized.charAt(i))) {
+                i++;
+            }
+            words.add(normalized.substring(start, i));
+        }
+        return words;
+    }
+
+    /**
+     * 검색 비교를 위해 문자열을 NFC로 정규화하고 소문자로 변환합니다.
+     *
+     * @param text 원본 문자열
+     * @return 정규화된 문자열 (null이면 빈 문자열)
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    public static boolean isHangul(char c) {
+        return (c >= '가' && c <= '힣') || (c >= 'ㄱ' && c <= 'ㆎ');
+    }
+
+    /**
+     * 초성(호환용 자모 자음)인지 확인합니다.
+     */
+    public static boolean isChosung(char c) {
+        return Arrays.binarySearch(CHOSUNG, c) >= 0;
+    }
+
+    /**
+     * 완성형 한글 음절은 초성으로, 그 밖의 문자는 그대로 반환합니다. ('폰' → 'ㅍ')
+     */
+    public static char toChosung(char c) {
+        if (c >= '가' && c <= '힣') {
+            return CHOSUNG[(c - '가') / (JUNGSUNG_COUNT * JONGSUNG_COUNT)];
+        }
+        return c;
+    }
+
+    /**
+     * 문자열의 모든 음절을 초성으로 바꿉니다. ("아이폰" → "ㅇㅇㅍ")
+     */
+    public static String toChosung(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            sb.append(toChosung(text.charAt(i)));
+        }
+        return sb.toString();
+    }
+
+    private static boolean isTermChar(char c) {
+        return isHangul(c) || Character.isLetterOrDigit(c);
+    }
+
+    // "아이폰13"처럼 한글과 영문/숫자가 붙어 있으면 한 구간으로 보아, 경계를 걸친 부분 문자열 검색("폰1")도 가능하게 함
+    private static void tokenize(String text, boolean forIndex, Consumer<String> terms) {
+        for (String word : queryWords(text)) {
+            addGrams(word, 0, word.length(), forIndex, terms);
+        }
+    }
+
+    private static void addGrams(String text, int start, int end, boolean forIndex, Consumer<String> terms) {
+        int runLength = end - start;
+        if (runLength == 1 || forIndex) {
+            for (int i = start; i < end; i++) {
+                terms.accept(text.substring(i, i + 1));
+            }
+        }
+        for (int i = start; i + 1 < end; i++) {
+            terms.accept(text.substring(i, i + 2));
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.miniproject.rookiejangter.search;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 하나의 토큰을 포함한 상품 ID 목록입니다.
+ * 박싱 없이 오름차순으로 정렬된 int 배열에 저장하여 교집합/합집합을 선형 시간에 계산합니다.
+ * 관련도 계산을 위해 문서별 토큰 출현 횟수를 같은 위치의 배열에 함께 보관합니다.
+ * 변경될 때마다 전역에서 증가하는 버전을 받으므로, 버전이 같으면 내용도 같습니다. (검색 결과 캐시 검증용)
+ * 동기화는 상위 인덱스의 락에 맡깁니다.
+ */
+final class PostingList {
+
+    private static final int[] EMPTY = new int[0];
+
+    // 리스트가 지워졌다 다시 만들어져도 이전 버전과 겹치지 않도록 모든 리스트가 하나의 카운터를 공유
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    private int[] docs = new int[2];
+    private int[] frequencies = new int[2];
+    private int size;
+    private long version = VERSIONS.incrementAndGet();
+
+    /**
+     * 문서를 출현 횟수 1로 추가합니다. 이미 있으면 무시합니다.
+     *
+     * @param doc 문서(상품) ID
+     */
+    void add(int doc) {
+        add(doc, 1);
+    }
+
+    /**
+     * 문서를 추가합니다. 이미 있으면 출현 횟수만 갱신합니다.
+     *
+     * @param doc       문서(상품) ID
+     * @param frequency 문서 안에서 토큰이 나온 횟수
+     */
+    void add(int doc, int frequency) {
+        version = VERSIONS.incrementAndGet();
+        if (size > 0 && docs[size - 1] < doc) {
+            ensureCapacity();
+            docs[size] = doc;
+            frequencies[size++] = frequency;
+            return;
+        }
+        int pos = Arrays.binarySearch(docs, 0, size, doc);
+        if (pos >= 0) {
+            frequencies[pos] = frequency;
+            return;
+        }
+        int insertAt = -pos - 1;
+        ensureCapacity();
+        System.arraycopy(docs, insertAt, docs, insertAt + 1, size - insertAt);
+        System.arraycopy(frequencies, insertAt, frequencies, insertAt + 1, size - insertAt);
+        docs[insertAt] = doc;
+        frequencies[insertAt] = frequency;
+        size++;
+    }
+
+    /**
+     * 문서 안에서 토큰이 나온 횟수를 반환합니다.
+     *
+     * @param doc 문서(상품) ID
+     * @return 출현 횟수 (목록에 없으면 0)
+     */
+    int frequency(int doc) {
+        int pos = Arrays.binarySearch(docs, 0, size, doc);
+        return pos >= 0 ? frequencies[pos] : 0;
+    }
+
+    /**
+     * 문서를 제거합니다.
+     *
+     * @param doc 문서(상품) ID
+     */
+    void remove(int doc) {
+        int pos = Arrays.binarySearch(docs, 0, size, doc);
+        if (pos < 0) {
+            return;
+        }
+        version = VERSIONS.incrementAndGet();
+        System.arraycopy(docs, pos + 1, docs, pos, size - pos - 1);
+        System.arraycopy(frequencies, pos + 1, frequencies, pos, size - pos - 1);
+        size--;
+        if (docs.length > 16 && size < docs.length / 4) {
+            docs = Arrays.copyOf(docs, docs.length / 2);
+            frequencies = Arrays.copyOf(frequencies, frequencies.length / 2);
+        }
+    }
+
+    long version() {
+        return version;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 현재 문서 목록의 복사본을 반환합니다.
+     */
+    int[] toArray() {
+        return size == 0 ? EMPTY : Arrays.copyOf(docs, size);
+    }
+
+    private void ensureCapacity() {
+        if (size == docs.length) {
+            docs = Arrays.copyOf(docs, docs.length * 2);
+            frequencies = Arrays.copyOf(frequencies, frequencies.length * 2);
+        }
+    }
+
+    /**
+     * 정렬된 두 배열의 교집합을 구합니다.
+     */
+    static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    /**
+     * 정렬된 배열 a에서 b에 있는 값을 뺀 차집합을 구합니다.
+     */
+    static int[] difference(int[] a, int[] b) {
+        if (a.length == 0 || b.length == 0) {
+            return a;
+        }
+        int[] out = new int[a.length];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length) {
+            if (j >= b.length || a[i] < b[j]) {
+                out[n++] = a[i++];
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                i++;
+                j++;
+            }
+        }
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    /**
+     * 정렬된 두 배열의 합집합을 구합니다.
+     */
+    static int[] union(int[] a, int[] b) {
+        if (a.length == 0) {
+            return b;
+        }
+        if (b.length == 0) {
+            return a;
+        }
+        int[] out = new int[a.length + b.length];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                out[n++] = a[i++];
+            } else if (a[i] > b[j]) {
+                out[n++] = b[j++];
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        while (i < a.length) {
+            out[n++] = a[i++];
+        }
+        while (j < b.length) {
+            out[n++] = b[j++];
+        }
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+}
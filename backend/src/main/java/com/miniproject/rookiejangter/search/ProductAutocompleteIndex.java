@@ -0,0 +1,458 @@
+package com.miniproject.rookiejangter.search;
+
+import com.miniproject.rookiejangter.entity.Category;
+import com.miniproject.rookiejangter.event.ProductChangedEvent;
+import com.miniproject.rookiejangter.event.ProductIndexer;
+import com.miniproject.rookiejangter.repository.CategoryRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 제목과 카테고리 이름에 대한 접두어 자동완성 인덱스입니다.
+ * 간선에 문자열을 두는 압축 트라이(radix tree)로 구성하고, 각 노드에 하위 트리의 상위 K개 추천어를 미리 계산해 두므로
+ * 조회는 접두어 길이만큼 트라이를 따라 내려가 목록을 복사하는 것으로 끝납니다.
+ * 추천어의 인기도는 같은 제목(정규화 기준)으로 등록된 상품 수, 카테고리는 해당 카테고리의 상품 수입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductAutocompleteIndex implements ProductIndexer {
+
+    public enum Type {
+        CATEGORY,
+        TITLE
+    }
+
+    private static final int TOP_K = 10;
+    // 단어 시작 위치부터 이 길이까지만 키로 사용 (긴 제목의 꼬리까지 노드를 만들지 않음)
+    private static final int MAX_KEY_LENGTH = 30;
+
+    private static final Comparator<Suggestion> RANKING = Comparator
+            .comparingLong((Suggestion s) -> s.weight).reversed()
+            .thenComparing(s -> s.type)
+            .thenComparingInt(s -> s.text.length())
+            .thenComparing(s -> s.text);
+
+    private final CategoryRepository categoryRepository;
+
+    private final Node root = new Node("");
+    private final Map<String, Suggestion> titles = new HashMap<>();
+    private final Map<Integer, Suggestion> categories = new HashMap<>();
+    private final Map<Integer, Long> categoryProductCounts = new HashMap<>();
+    private final Map<Long, IndexedProduct> products = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean ready;
+
+    @Override
+    public void apply(ProductChangedEvent event) {
+        IndexedProduct next = event.isDeleted() ? null : new IndexedProduct(event.getTitle(), event.getCategoryId());
+        lock.writeLock().lock();
+        try {
+            IndexedProduct previous = products.get(event.getProductId());
+            if (Objects.equals(previous, next)) {
+                return;
+            }
+            if (previous != null) {
+                adjustTitle(previous, -1);
+                adjustCategory(previous.categoryId, -1);
+                products.remove(event.getProductId());
+            }
+            if (next != null && !next.key.isEmpty()) {
+                adjustTitle(next, 1);
+                adjustCategory(next.categoryId, 1);
+                products.put(event.getProductId(), next);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void markReady() {
+        List<Category> all = categoryRepository.findAll();
+        lock.writeLock().lock();
+        try {
+            syncCategories(all);
+            // 적재 중에는 상위 K 목록 갱신을 건너뛰었으므로 한 번에 계산
+            recomputeAll(root);
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Product autocomplete index ready: {} titles, {} categories", titles.size(), categories.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 카테고리 추가/이름 변경/삭제를 주기적으로 반영합니다. (카테고리는 상품 이벤트에 이름이 포함되지 않음)
+     */
+    @Scheduled(fixedDelayString = "${product.autocomplete.category-refresh-ms:300000}")
+    public void refreshCategories() {
+        if (!ready) {
+            return;
+        }
+        List<Category> all = categoryRepository.findAll();
+        lock.writeLock().lock();
+        try {
+            syncCategories(all);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 제목/카테고리(단어 시작 기준)를 인기순으로 반환합니다.
+     *
+     * @param prefix 입력 중인 검색어
+     * @param limit  반환할 최대 개수 (최대 10)
+     * @return 추천어 목록
+     */
+    public List<Entry> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || !ready) {
+            return Collections.emptyList();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = find(key);
+            if (node == null) {
+                return Collections.emptyList();
+            }
+            List<Entry> entries = new ArrayList<>(Math.min(limit, node.top.size()));
+            for (Suggestion s : node.top) {
+                if (entries.size() >= limit) {
+                    break;
+                }
+                entries.add(new Entry(s.text, s.type, s.categoryId, s.weight));
+            }
+            return entries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void adjustTitle(IndexedProduct product, int delta) {
+        Suggestion s = titles.get(product.key);
+        if (s == null) {
+            if (delta < 0) {
+                return;
+            }
+            s = new Suggestion(Type.TITLE, product.display, null);
+            titles.put(product.key, s);
+            attach(s, product.key);
+        }
+        s.weight += delta;
+        if (s.weight <= 0) {
+            titles.remove(product.key);
+            detach(s, product.key);
+        } else {
+            refresh(s, product.key, delta > 0);
+        }
+    }
+
+    private void adjustCategory(Integer categoryId, int delta) {
+        if (categoryId == null) {
+            return;
+        }
+        long count = categoryProductCounts.merge(categoryId, (long) delta, Long::sum);
+        if (count <= 0) {
+            categoryProductCounts.remove(categoryId);
+        }
+        Suggestion s = categories.get(categoryId);
+        if (s != null) {
+            s.weight = Math.max(0, count);
+            refresh(s, normalize(s.text), delta > 0);
+        }
+    }
+
+    private void syncCategories(List<Category> all) {
+        Map<Integer, String> names = new HashMap<>();
+        for (Category category : all) {
+            if (category.getCategoryName() != null && !normalize(category.getCategoryName()).isEmpty()) {
+                names.put(category.getCategoryId(), category.getCategoryName());
+            }
+        }
+        for (Integer categoryId : new ArrayList<>(categories.keySet())) {
+            Suggestion s = categories.get(categoryId);
+            if (!s.text.equals(names.get(categoryId))) {
+                categories.remove(categoryId);
+                detach(s, normalize(s.text));
+            }
+        }
+        names.forEach((categoryId, name) -> {
+            if (categories.containsKey(categoryId)) {
+                return;
+            }
+            Suggestion s = new Suggestion(Type.CATEGORY, name, categoryId);
+            s.weight = categoryProductCounts.getOrDefault(categoryId, 0L);
+            categories.put(categoryId, s);
+            attach(s, normalize(name));
+        });
+    }
+
+    // 추천어를 각 단어 시작 위치의 키에 연결 ("애플 아이폰 15" → "애플 아이폰 15", "아이폰 15", "15")
+    private void attach(Suggestion s, String key) {
+        for (String k : wordSuffixes(key)) {
+            List<Node> path = insert(k);
+            path.get(path.size() - 1).terminals.add(s);
+            updatePath(path, s, true);
+        }
+    }
+
+    private void detach(Suggestion s, String key) {
+        s.active = false;
+        for (String k : wordSuffixes(key)) {
+            List<Node> path = pathTo(k);
+            if (path == null) {
+                continue;
+            }
+            path.get(path.size() - 1).terminals.remove(s);
+            updatePath(path, s, false);
+            prune(path);
+        }
+    }
+
+    private void refresh(Suggestion s, String key, boolean increased) {
+        for (String k : wordSuffixes(key)) {
+            List<Node> path = pathTo(k);
+            if (path != null) {
+                updatePath(path, s, increased);
+            }
+        }
+    }
+
+    /**
+     * 추천어의 인기도가 바뀐 뒤 경로상의 상위 K 목록을 아래에서부터 갱신합니다.
+     * 인기도가 오르면 목록에 끼워 넣기만 하고, 내려가거나 제거되면 목록에 있던 노드만 자식 목록으로 다시 계산합니다.
+     */
+    private void updatePath(List<Node> path, Suggestion s, boolean increased) {
+        if (!ready) {
+            return;
+        }
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node node = path.get(i);
+            boolean present = node.top.contains(s);
+            if (!s.active || (present && !increased)) {
+                if (present) {
+                    recompute(node);
+                }
+            } else if (present) {
+                node.top.sort(RANKING);
+            } else if (node.top.size() < TOP_K || RANKING.compare(s, node.top.get(node.top.size() - 1)) < 0) {
+                node.top.add(s);
+                node.top.sort(RANKING);
+                if (node.top.size() > TOP_K) {
+                    node.top.remove(node.top.size() - 1);
+                }
+            }
+        }
+    }
+
+    private void recompute(Node node) {
+        Set<Suggestion> candidates = new LinkedHashSet<>(node.terminals);
+        for (Node child : node.children.values()) {
+            candidates.addAll(child.top);
+        }
+        List<Suggestion> top = new ArrayList<>(candidates);
+        top.sort(RANKING);
+        node.top = new ArrayList<>(top.subList(0, Math.min(TOP_K, top.size())));
+    }
+
+    private void recomputeAll(Node node) {
+        for (Node child : node.children.values()) {
+            recomputeAll(child);
+        }
+        recompute(node);
+    }
+
+    /**
+     * 키까지의 노드 경로를 만들며 반환합니다. 간선 중간에서 갈라지면 간선을 나눕니다.
+     */
+    private List<Node> insert(String key) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int i = 0;
+        while (i < key.length()) {
+            Node child = node.children.get(key.charAt(i));
+            if (child == null) {
+                child = new Node(key.substring(i));
+                node.children.put(key.charAt(i), child);
+                path.add(child);
+                return path;
+            }
+            int common = commonPrefixLength(child.label, key, i);
+            if (common < child.label.length()) {
+                Node middle = new Node(child.label.substring(0, common));
+                middle.top = new ArrayList<>(child.top);
+                child.label = child.label.substring(common);
+                middle.children.put(child.label.charAt(0), child);
+                node.children.put(middle.label.charAt(0), middle);
+                child = middle;
+            }
+            node = child;
+            path.add(node);
+            i += common;
+        }
+        return path;
+    }
+
+    private List<Node> pathTo(String key) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int i = 0;
+        while (i < key.length()) {
+            Node child = node.children.get(key.charAt(i));
+            if (child == null || !key.startsWith(child.label, i)) {
+                return null;
+            }
+            node = child;
+            path.add(node);
+            i += child.label.length();
+        }
+        return path;
+    }
+
+    // 접두어가 간선 중간에서 끝나면 그 간선 아래 노드의 목록이 곧 결과
+    private Node find(String prefix) {
+        Node node = root;
+        int i = 0;
+        while (i < prefix.length()) {
+            Node child = node.children.get(prefix.charAt(i));
+            if (child == null) {
+                return null;
+            }
+            int common = commonPrefixLength(child.label, prefix, i);
+            if (i + common == prefix.length()) {
+                return child;
+            }
+            if (common < child.label.length()) {
+                return null;
+            }
+            node = child;
+            i += common;
+        }
+        return node;
+    }
+
+    // 추천어가 빠진 뒤 비어 있는 잎 노드를 제거
+    private static void prune(List<Node> path) {
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node node = path.get(i);
+            if (!node.terminals.isEmpty() || !node.children.isEmpty()) {
+                return;
+            }
+            path.get(i - 1).children.remove(node.label.charAt(0));
+        }
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static List<String> wordSuffixes(String key) {
+        List<String> suffixes = new ArrayList<>();
+        for (int i = 0; i < key.length(); i++) {
+            if (i == 0 || key.charAt(i - 1) == ' ') {
+                suffixes.add(key.substring(i, Math.min(key.length(), i + MAX_KEY_LENGTH)));
+            }
+        }
+        return suffixes;
+    }
+
+    private static String normalize(String text) {
+        return KoreanTokenizer.normalize(text).trim().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * 자동완성 응답 항목입니다.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Entry {
+        private final String text;
+        private final Type type;
+        private final Integer categoryId;
+        private final long count;
+    }
+
+    private static final class Node {
+        private String label;
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private final List<Suggestion> terminals = new ArrayList<>(1);
+        private List<Suggestion> top = new ArrayList<>(0);
+
+        private Node(String label) {
+            this.label = label;
+        }
+    }
+
+    private static final class Suggestion {
+        private final Type type;
+        private final String text;
+        private final Integer categoryId;
+        private long weight;
+        private boolean active = true;
+
+        private Suggestion(Type type, String text, Integer categoryId) {
+            this.type = type;
+            this.text = text;
+            this.categoryId = categoryId;
+        }
+    }
+
+    /**
+     * 상품별로 마지막으로 색인한 제목 키와 카테고리입니다. 변경 시 이전 값의 인기도를 되돌리는 데 사용합니다.
+     */
+    private static final class IndexedProduct {
+        private final String key;
+        private final String display;
+        private final Integer categoryId;
+
+        private IndexedProduct(String title, Integer categoryId) {
+            this.key = normalize(title);
+            this.display = title != null ? title.trim().replaceAll("\\s+", " ") : "";
+            this.categoryId = categoryId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof IndexedProduct other)) {
+                return false;
+            }
+            return key.equals(other.key) && Objects.equals(categoryId, other.categoryId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(key, categoryId);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.miniproject.rookiejangter.search;
+
+import com.miniproject.rookiejangter.event.ProductChangedEvent;
+import com.miniproject.rookiejangter.event.ProductIndexer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 제목의 초성 검색 인덱스입니다. ("ㅇㅇㅍ", "아ㅇ폰" → "아이폰")
+ * 색인 시 제목의 음절을 초성으로 바꾼 문자열의 1-gram/2-gram 포스팅 리스트를 만들고,
+ * 검색 시 같은 방식으로 바꾼 검색어로 후보를 좁힌 뒤 원래 제목과 글자 단위로 대조해 확정합니다.
+ * 공백은 무시하므로 "ㅇㅇㅍ"은 "아이 폰"과도 일치합니다.
+ */
+@Slf4j
+@Component
+public class ProductChosungIndex implements ProductIndexer {
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Integer, String> titles = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean ready;
+
+    @Override
+    public void apply(ProductChangedEvent event) {
+        if (event.getType() == ProductChangedEvent.Type.BUMPED
+                || event.getType() == ProductChangedEvent.Type.STATUS_CHANGED) {
+            return; // 제목 변화 없음
+        }
+        int doc = Math.toIntExact(event.getProductId());
+        String title = event.isDeleted() ? null : compact(event.getTitle());
+        lock.writeLock().lock();
+        try {
+            String previous = titles.remove(doc);
+            if (previous != null) {
+                for (String term : grams(KoreanTokenizer.toChosung(previous), true)) {
+                    PostingList list = postings.get(term);
+                    if (list != null) {
+                        list.remove(doc);
+                        if (list.isEmpty()) {
+                            postings.remove(term);
+                        }
+                    }
+                }
+            }
+            if (title != null && !title.isEmpty()) {
+                for (String term : grams(KoreanTokenizer.toChosung(title), true)) {
+                    postings.computeIfAbsent(term, t -> new PostingList()).add(doc);
+                }
+                titles.put(doc, title);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void markReady() {
+        ready = true;
+        log.info("Product chosung index ready: {} titles, {} terms", titles.size(), postings.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 검색어에 초성(ㄱ~ㅎ)이 포함되어 있는지 확인합니다. 포함된 경우에만 이 인덱스로 검색합니다.
+     *
+     * @param query 검색어
+     * @return 초성 포함 여부
+     */
+    public static boolean isChosungQuery(String query) {
+        if (query == null) {
+            return false;
+        }
+        for (int i = 0; i < query.length(); i++) {
+            if (KoreanTokenizer.isChosung(query.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 초성 또는 초성과 완성형 음절이 섞인 검색어로 제목을 찾아 최신순으로 요청한 구간만 반환합니다.
+     *
+     * @param query  검색어
+     * @param offset 건너뛸 결과 수
+     * @param limit  반환할 최대 결과 수
+     * @return 페이지 범위의 상품 ID와 전체 일치 건수
+     */
+    public SearchResult search(String query, int offset, int limit) {
+        String pattern = compact(query);
+        if (pattern.isEmpty()) {
+            return SearchResult.empty();
+        }
+        Set<String> terms = grams(KoreanTokenizer.toChosung(pattern), false);
+
+        List<Integer> matched = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            int[] candidates = null;
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                int[] docs = list == null ? new int[0] : list.toArray();
+                candidates = candidates == null ? docs : PostingList.intersect(candidates, docs);
+                if (candidates.length == 0) {
+                    return SearchResult.empty();
+                }
+            }
+            // 초성 n-gram은 후보일 뿐이므로 원래 제목과 대조해 확정 (최신순으로 순회)
+            for (int i = candidates.length - 1; i >= 0; i--) {
+                if (matches(titles.get(candidates[i]), pattern)) {
+                    matched.add(candidates[i]);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Long> page = new ArrayList<>(Math.max(0, Math.min(limit, matched.size() - offset)));
+        for (int i = offset; i < matched.size() && page.size() < limit; i++) {
+            page.add((long) matched.get(i));
+        }
+        return new SearchResult(page, matched.size());
+    }
+
+    /**
+     * 제목에 검색어와 일치하는 연속 구간이 있는지 확인합니다.
+     * 검색어의 초성은 제목 음절의 초성과, 나머지 문자는 제목 문자와 그대로 비교합니다.
+     */
+    private static boolean matches(String title, String pattern) {
+        if (title == null) {
+            return false;
+        }
+        for (int start = 0; start + pattern.length() <= title.length(); start++) {
+            int i = 0;
+            while (i < pattern.length() && matchesChar(title.charAt(start + i), pattern.charAt(i))) {
+                i++;
+            }
+            if (i == pattern.length()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matchesChar(char titleChar, char patternChar) {
+        if (titleChar == patternChar) {
+            return true;
+        }
+        return KoreanTokenizer.isChosung(patternChar) && KoreanTokenizer.toChosung(titleChar) == patternChar;
+    }
+
+    // 색인은 1-gram과 2-gram, 검색은 두 글자 이상이면 2-gram만 사용 (KoreanTokenizer와 같은 규칙)
+    private static Set<String> grams(String text, boolean forIndex) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text.length() == 1 || forIndex) {
+            for (int i = 0; i < text.length(); i++) {
+                terms.add(text.substring(i, i + 1));
+            }
+        }
+        for (int i = 0; i + 1 < text.length(); i++) {
+            terms.add(text.substring(i, i + 2));
+        }
+        return terms;
+    }
+
+    private static String compact(String text) {
+        return KoreanTokenizer.normalize(text).replaceAll("\\s+", "");
+    }
+}
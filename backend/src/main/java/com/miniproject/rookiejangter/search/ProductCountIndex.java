@@ -0,0 +1,69 @@
+package com.miniproject.rookiejangter.search;
+
+import com.miniproject.rookiejangter.event.ProductChangedEvent;
+import com.miniproject.rookiejangter.event.ProductIndexer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 판매자별 상품 목록 페이지네이션에 쓰는 판매자별 상품 수입니다.
+ * 목록 조회마다 COUNT(*)를 실행하는 대신 생성/삭제 이벤트로 증감합니다.
+ * 상품별로 마지막으로 반영한 판매자를 기억하므로, 같은 이벤트가 중복 적용되어도 건수가 틀어지지 않습니다.
+ * 전체/카테고리별 목록은 피드 인덱스(ProductFeedIndex)가 건수를 함께 알려 주므로 여기서 세지 않습니다.
+ */
+@Slf4j
+@Component
+public class ProductCountIndex implements ProductIndexer {
+
+    // 상품 ID → 마지막으로 반영한 판매자 ID
+    private final Map<Long, Long> sellers = new HashMap<>();
+    private final ConcurrentHashMap<Long, Integer> bySeller = new ConcurrentHashMap<>();
+
+    private volatile boolean ready;
+
+    @Override
+    public synchronized void apply(ProductChangedEvent event) {
+        if (event.getType() == ProductChangedEvent.Type.BUMPED
+                || event.getType() == ProductChangedEvent.Type.STATUS_CHANGED) {
+            return; // 건수 변화 없음
+        }
+        Long previous = sellers.remove(event.getProductId());
+        Long current = event.isDeleted() ? null : event.getSellerId() != null ? event.getSellerId() : previous;
+        if (current != null) {
+            sellers.put(event.getProductId(), current);
+        }
+        if (Objects.equals(previous, current)) {
+            return;
+        }
+        if (previous != null) {
+            bySeller.computeIfPresent(previous, (id, count) -> count > 1 ? count - 1 : null); // 0이 된 판매자는 제거
+        }
+        if (current != null) {
+            bySeller.merge(current, 1, Integer::sum);
+        }
+    }
+
+    @Override
+    public void markReady() {
+        ready = true;
+        log.info("Product count index ready: {} sellers", bySeller.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 판매자의 상품 수를 반환합니다.
+     *
+     * @param sellerId 판매자 ID
+     */
+    public long countBySeller(Long sellerId) {
+        return bySeller.getOrDefault(sellerId, 0);
+    }
+}
@@ -0,0 +1,255 @@
+package com.miniproject.rookiejangter.search;
+
+import com.miniproject.rookiejangter.event.ProductChangedEvent;
+import com.miniproject.rookiejangter.event.ProductIndexer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 카테고리, 판매자 지역, 가격대, 판매 상태별로 상품 ID 비트맵을 유지하는 패싯 인덱스입니다.
+ * 필터 교집합과 패싯별 건수를 비트맵 연산만으로 계산하므로 DB는 최종 페이지의 상품 조회에만 사용됩니다.
+ * 판매자 지역은 상품 변경 시점의 값이며, 판매자가 지역을 바꾸면 해당 상품이 다시 변경될 때 반영됩니다.
+ */
+@Slf4j
+@Component
+public class ProductFacetIndex implements ProductIndexer {
+
+    // 가격대 경계 (원): [0, 1만), [1만, 5만), [5만, 10만), [10만, 50만), [50만, ∞)
+    private static final int[] PRICE_BOUNDS = {0, 10_000, 50_000, 100_000, 500_000};
+
+    private final BitSet live = new BitSet();
+    private final Map<Integer, BitSet> categories = new TreeMap<>();
+    private final Map<Integer, BitSet> areas = new TreeMap<>();
+    private final BitSet[] priceRanges = new BitSet[PRICE_BOUNDS.length];
+    private final Map<ProductFilter.Status, BitSet> statuses = new EnumMap<>(ProductFilter.Status.class);
+    private final Map<Integer, FacetDoc> documents = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean ready;
+
+    public ProductFacetIndex() {
+        for (int i = 0; i < priceRanges.length; i++) {
+            priceRanges[i] = new BitSet();
+        }
+        for (ProductFilter.Status status : ProductFilter.Status.values()) {
+            statuses.put(status, new BitSet());
+        }
+    }
+
+    @Override
+    public void apply(ProductChangedEvent event) {
+        int doc = Math.toIntExact(event.getProductId());
+        lock.writeLock().lock();
+        try {
+            FacetDoc previous = documents.remove(doc);
+            if (previous != null) {
+                update(doc, previous, false);
+            }
+            if (!event.isDeleted()) {
+                FacetDoc facets = new FacetDoc(
+                        event.getCategoryId(),
+                        event.getAreaId(),
+                        event.getPrice() != null ? event.getPrice() : 0,
+                        ProductFilter.statusOf(event.isReserved(), event.isCompleted()));
+                update(doc, facets, true);
+                documents.put(doc, facets);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void markReady() {
+        ready = true;
+        log.info("Product facet index ready: {} products, {} categories, {} areas",
+                documents.size(), categories.size(), areas.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 필터 조건에 맞는 상품을 최신 등록순으로 요청한 구간만 반환하고, 패싯별 건수를 함께 계산합니다.
+     *
+     * @param filter 필터 조건
+     * @param offset 건너뛸 결과 수
+     * @param limit  반환할 최대 결과 수
+     * @return 페이지 범위의 상품 ID와 패싯별 건수
+     */
+    public FacetResult filter(ProductFilter filter, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            BitSet category = filter.getCategoryId() != null ? bitsOf(categories, filter.getCategoryId()) : null;
+            BitSet area = filter.getAreaId() != null ? bitsOf(areas, filter.getAreaId()) : null;
+            BitSet price = priceMask(filter.getMinPrice(), filter.getMaxPrice());
+            BitSet status = filter.getStatus() != null ? statuses.get(filter.getStatus()) : null;
+
+            BitSet matched = intersect(category, area, price, status);
+            BitSet scratch = new BitSet(live.length());
+
+            // 각 패싯은 자기 자신의 조건을 뺀 나머지 조건으로 건수를 셈 (다른 값으로 바꿨을 때의 결과 건수)
+            Map<Integer, Long> categoryCounts = countEach(categories, intersect(null, area, price, status), scratch);
+            Map<Integer, Long> areaCounts = countEach(areas, intersect(category, null, price, status), scratch);
+            BitSet withoutPrice = intersect(category, area, null, status);
+            Map<String, Long> priceRangeCounts = new LinkedHashMap<>();
+            for (int i = 0; i < priceRanges.length; i++) {
+                priceRangeCounts.put(priceRangeLabel(i), andCardinality(withoutPrice, priceRanges[i], scratch));
+            }
+            BitSet withoutStatus = intersect(category, area, price, null);
+            Map<ProductFilter.Status, Long> statusCounts = new EnumMap<>(ProductFilter.Status.class);
+            statuses.forEach((value, bits) -> statusCounts.put(value, andCardinality(withoutStatus, bits, scratch)));
+
+            return new FacetResult(page(matched, offset, limit),
+                    categoryCounts, areaCounts, priceRangeCounts, statusCounts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void update(int doc, FacetDoc facets, boolean set) {
+        live.set(doc, set);
+        if (facets.categoryId != null) {
+            change(categories, facets.categoryId, doc, set);
+        }
+        if (facets.areaId != null) {
+            change(areas, facets.areaId, doc, set);
+        }
+        priceRanges[priceRangeOf(facets.price)].set(doc, set);
+        statuses.get(facets.status).set(doc, set);
+    }
+
+    private static void change(Map<Integer, BitSet> facet, Integer value, int doc, boolean set) {
+        if (set) {
+            facet.computeIfAbsent(value, v -> new BitSet()).set(doc);
+            return;
+        }
+        BitSet bits = facet.get(value);
+        if (bits != null) {
+            bits.clear(doc);
+            if (bits.isEmpty()) {
+                facet.remove(value);
+            }
+        }
+    }
+
+    private static BitSet bitsOf(Map<Integer, BitSet> facet, Integer value) {
+        BitSet bits = facet.get(value);
+        return bits != null ? bits : new BitSet();
+    }
+
+    /**
+     * 가격 조건을 비트맵으로 만듭니다. 범위에 완전히 포함되는 가격대는 비트맵을 그대로 합치고,
+     * 경계에 걸친 가격대만 문서별 가격을 확인합니다.
+     */
+    private BitSet priceMask(Integer minPrice, Integer maxPrice) {
+        if (minPrice == null && maxPrice == null) {
+            return null;
+        }
+        int min = minPrice != null ? minPrice : Integer.MIN_VALUE;
+        int max = maxPrice != null ? maxPrice : Integer.MAX_VALUE;
+        BitSet mask = new BitSet();
+        for (int i = 0; i < priceRanges.length; i++) {
+            long lower = PRICE_BOUNDS[i];
+            long upper = i + 1 < PRICE_BOUNDS.length ? PRICE_BOUNDS[i + 1] - 1L : Integer.MAX_VALUE;
+            if (upper < min || lower > max) {
+                continue;
+            }
+            if (lower >= min && upper <= max) {
+                mask.or(priceRanges[i]);
+                continue;
+            }
+            BitSet bucket = priceRanges[i];
+            for (int doc = bucket.nextSetBit(0); doc >= 0; doc = bucket.nextSetBit(doc + 1)) {
+                int price = documents.get(doc).price;
+                if (price >= min && price <= max) {
+                    mask.set(doc);
+                }
+            }
+        }
+        return mask;
+    }
+
+    private BitSet intersect(BitSet... filters) {
+        BitSet result = (BitSet) live.clone();
+        for (BitSet filter : filters) {
+            if (filter != null) {
+                result.and(filter);
+            }
+        }
+        return result;
+    }
+
+    private static Map<Integer, Long> countEach(Map<Integer, BitSet> facet, BitSet base, BitSet scratch) {
+        Map<Integer, Long> counts = new LinkedHashMap<>();
+        facet.forEach((value, bits) -> {
+            long count = andCardinality(base, bits, scratch);
+            if (count > 0) {
+                counts.put(value, count);
+            }
+        });
+        return counts;
+    }
+
+    // 교집합 크기만 필요하므로 매번 새 BitSet을 만들지 않고 scratch를 재사용
+    private static long andCardinality(BitSet base, BitSet bits, BitSet scratch) {
+        scratch.clear();
+        scratch.or(base);
+        scratch.and(bits);
+        return scratch.cardinality();
+    }
+
+    private static SearchResult page(BitSet matched, int offset, int limit) {
+        List<Long> page = new ArrayList<>(limit);
+        int skipped = 0;
+        // 상품 ID는 생성 순으로 증가하므로 뒤에서부터 읽으면 최신 등록순
+        for (int doc = matched.length() - 1; doc >= 0 && page.size() < limit; doc = matched.previousSetBit(doc - 1)) {
+            if (skipped < offset) {
+                skipped++;
+                continue;
+            }
+            page.add((long) doc);
+        }
+        return new SearchResult(page, matched.cardinality());
+    }
+
+    private static int priceRangeOf(int price) {
+        for (int i = PRICE_BOUNDS.length - 1; i > 0; i--) {
+            if (price >= PRICE_BOUNDS[i]) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    private static String priceRangeLabel(int range) {
+        return range + 1 < PRICE_BOUNDS.length
+                ? PRICE_BOUNDS[range] + "-" + (PRICE_BOUNDS[range + 1] - 1)
+                : PRICE_BOUNDS[range] + "+";
+    }
+
+    private static final class FacetDoc {
+        private final Integer categoryId;
+        private final Integer areaId;
+        private final int price;
+        private final ProductFilter.Status status;
+
+        private FacetDoc(Integer categoryId, Integer areaId, int price, ProductFilter.Status status) {
+            this.categoryId = categoryId;
+            this.areaId = areaId;
+            this.price = price;
+            this.status = status;
+        }
+    }
+}
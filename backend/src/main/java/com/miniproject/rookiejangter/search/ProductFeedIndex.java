@@ -0,0 +1,143 @@
+package com.miniproject.rookiejangter.search;
+
+import com.miniproject.rookiejangter.event.ProductChangedEvent;
+import com.miniproject.rookiejangter.event.ProductIndexer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 끌어올리기를 반영한 상품 피드 순서(bumpedAt 내림차순, 동률이면 product_id 내림차순)의 인메모리 인덱스입니다.
+ * 전체 피드와 카테고리별 피드를 skip list로 유지하므로, 끌어올린 상품은 재정렬 없이 키 하나만 옮겨 맨 앞으로 갑니다.
+ * 조회는 잠금 없이 수행되고, 갱신은 상품 단위로 제거 후 삽입합니다.
+ */
+@Slf4j
+@Component
+public class ProductFeedIndex implements ProductIndexer {
+
+    private static final Comparator<FeedKey> FEED_ORDER = Comparator
+            .comparing((FeedKey key) -> key.bumpedAt).reversed()
+            .thenComparing(Comparator.comparingLong((FeedKey key) -> key.productId).reversed());
+
+    private final Feed all = new Feed();
+    private final ConcurrentHashMap<Integer, Feed> byCategory = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, FeedKey> positions = new ConcurrentHashMap<>();
+
+    private volatile boolean ready;
+
+    @Override
+    public synchronized void apply(ProductChangedEvent event) {
+        // 갱신 사이에 조회가 끼어들면 해당 상품이 잠시 빠져 보일 수 있으나 중복으로 보이지는 않음
+        FeedKey previous = positions.remove(event.getProductId());
+        if (previous != null) {
+            all.remove(previous);
+            Feed category = previous.categoryId != null ? byCategory.get(previous.categoryId) : null;
+            if (category != null) {
+                category.remove(previous);
+            }
+        }
+        if (event.isDeleted()) {
+            return;
+        }
+
+        LocalDateTime bumpedAt = event.getBumpedAt() != null ? event.getBumpedAt() : event.getCreatedAt();
+        if (bumpedAt == null) {
+            bumpedAt = previous != null ? previous.bumpedAt : LocalDateTime.now();
+        }
+        FeedKey key = new FeedKey(bumpedAt, event.getProductId(), event.getCategoryId());
+        positions.put(key.productId, key);
+        all.add(key);
+        if (key.categoryId != null) {
+            byCategory.computeIfAbsent(key.categoryId, id -> new Feed()).add(key);
+        }
+    }
+
+    @Override
+    public void markReady() {
+        ready = true;
+        log.info("Product feed index ready: {} products in {} categories", all.size, byCategory.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 피드 순서로 요청한 구간의 상품 ID를 반환합니다.
+     *
+     * @param categoryId 카테고리 ID (null이면 전체 피드)
+     * @param offset     건너뛸 상품 수
+     * @param limit      반환할 최대 상품 수
+     * @return 페이지 범위의 상품 ID와 피드 전체 상품 수
+     */
+    public SearchResult page(Integer categoryId, int offset, int limit) {
+        Feed feed = categoryId == null ? all : byCategory.get(categoryId);
+        if (feed == null) {
+            return SearchResult.empty();
+        }
+
+        List<Long> page = new ArrayList<>(limit);
+        Iterator<FeedKey> iterator = feed.keys.iterator();
+        for (int skipped = 0; skipped < offset && iterator.hasNext(); skipped++) {
+            iterator.next();
+        }
+        while (iterator.hasNext() && page.size() < limit) {
+            page.add(iterator.next().productId);
+        }
+        return new SearchResult(page, feed.size);
+    }
+
+    // ConcurrentSkipListSet.size()는 O(n)이므로 건수는 갱신 시 따로 유지 (갱신은 apply에서 직렬화됨)
+    private static final class Feed {
+        private final ConcurrentSkipListSet<FeedKey> keys = new ConcurrentSkipListSet<>(FEED_ORDER);
+        private volatile int size;
+
+        private void add(FeedKey key) {
+            if (keys.add(key)) {
+                size++;
+            }
+        }
+
+        private void remove(FeedKey key) {
+            if (keys.remove(key)) {
+                size--;
+            }
+        }
+    }
+
+    private static final class FeedKey {
+        private final LocalDateTime bumpedAt;
+        private final long productId;
+        private final Integer categoryId;
+
+        private FeedKey(LocalDateTime bumpedAt, long productId, Integer categoryId) {
+            this.bumpedAt = bumpedAt;
+            this.productId = productId;
+            this.categoryId = categoryId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof FeedKey other)) {
+                return false;
+            }
+            return productId == other.productId && bumpedAt.equals(other.bumpedAt);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(bumpedAt, productId);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.miniproject.rookiejangter.search;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 패싯 필터 조건입니다. null인 조건은 적용하지 않습니다.
+ */
+@Getter
+@Builder
+public class ProductFilter {
+
+    public enum Status {
+        AVAILABLE,
+        RESERVED,
+        COMPLETED
+    }
+
+    private final Integer categoryId;
+    private final Integer areaId;
+    private final Integer minPrice;
+    private final Integer maxPrice;
+    private final Status status;
+
+    /**
+     * 상품의 예약/거래 완료 여부로 판매 상태를 결정합니다. 거래 완료가 예약보다 우선합니다.
+     */
+    public static Status statusOf(boolean reserved, boolean completed) {
+        if (completed) {
+            return Status.COMPLETED;
+        }
+        return reserved ? Status.RESERVED : Status.AVAILABLE;
+    }
+}
@@ -0,0 +1,408 @@
+package com.miniproject.rookiejangter.search;
+
+import com.miniproject.rookiejangter.event.ProductChangedEvent;
+import com.miniproject.rookiejangter.event.ProductIndexer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 제목/내용에 대한 인메모리 역색인입니다.
+ * 토큰별로 상품 ID 포스팅 리스트를 유지하며, 상품 변경 이벤트로 증분 갱신됩니다.
+ * 포스팅 리스트 교집합으로 고른 후보는 검색어 구간을 부분 문자열로 포함하는지 다시 확인하므로, 결과는 DB의 LIKE 검색과 같습니다.
+ * 상품 ID는 생성 순으로 증가하므로 포스팅 리스트를 뒤에서부터 읽으면 최신순 결과가 됩니다.
+ * 관련도순 검색은 제목 가중치를 둔 BM25 점수에 최신성/인기 가중치를 곱해, 요청한 페이지까지의 상위 k개만 고릅니다.
+ * 검색 결과 페이지는 SearchResultCache에 보관하며, 검색 토큰의 포스팅 리스트가 바뀌면 다시 계산합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndex implements ProductIndexer {
+
+    private final ProductVocabulary productVocabulary;
+    private final SearchResultCache searchResultCache;
+
+    private final Map<String, PostingList> titlePostings = new HashMap<>();
+    private final Map<String, PostingList> contentPostings = new HashMap<>();
+    private final Map<Integer, IndexedText> documents = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 문서 길이 정규화에 쓰는 필드별 토큰 수 합계
+    private long titleLengthSum;
+    private long contentLengthSum;
+
+    private volatile boolean ready;
+
+    @Value("${product.search.ranking.title-boost:2.0}")
+    private double titleBoost;
+
+    @Value("${product.search.ranking.k1:1.2}")
+    private double k1;
+
+    @Value("${product.search.ranking.b:0.75}")
+    private double b;
+
+    @Value("${product.search.ranking.recency-weight:0.3}")
+    private double recencyWeight;
+
+    @Value("${product.search.ranking.recency-half-life-hours:72}")
+    private double recencyHalfLifeHours;
+
+    @Value("${product.search.ranking.popularity-weight:0.05}")
+    private double popularityWeight;
+
+    /**
+     * 검색 결과 정렬 기준입니다.
+     */
+    public enum Order {
+        LATEST,     // 최신 등록순
+        RELEVANCE   // 관련도순
+    }
+
+    @Override
+    public void apply(ProductChangedEvent event) {
+        int doc = Math.toIntExact(event.getProductId());
+        if (event.isDeleted()) {
+            remove(doc);
+        } else {
+            upsert(doc, event);
+        }
+    }
+
+    @Override
+    public void markReady() {
+        ready = true;
+        log.info("Product search index ready: {} documents, {} title terms, {} content terms",
+                documents.size(), titlePostings.size(), contentPostings.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * DB에 반영된 조회수를 인기 가중치 계산에 더합니다.
+     *
+     * @param productId 상품 ID
+     * @param delta     DB에 반영된 조회수 증가분
+     */
+    public void addViewCount(Long productId, long delta) {
+        lock.writeLock().lock();
+        try {
+            IndexedText text = documents.get(Math.toIntExact(productId));
+            if (text != null) {
+                text.viewCount += delta;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 모든 토큰을 포함하는 상품을 찾아 정렬 기준에 따라 요청한 구간만 반환합니다.
+     * 검색어에 사전에 없는 단어가 있으면 교정 검색어의 결과를 정확히 일치한 결과 뒤에 이어 붙입니다.
+     *
+     * @param query          검색어
+     * @param includeContent true면 제목 또는 내용, false면 제목에서만 찾습니다.
+     * @param order          정렬 기준
+     * @param offset         건너뛸 결과 수
+     * @param limit          반환할 최대 결과 수
+     * @return 페이지 범위의 상품 ID와 전체 일치 건수
+     */
+    public SearchResult search(String query, boolean includeContent, Order order, int offset, int limit) {
+        Set<String> terms = KoreanTokenizer.queryTerms(query);
+        if (terms.isEmpty()) {
+            return SearchResult.empty();
+        }
+
+        String cacheKey = SearchResultCache.key((includeContent ? "all:" : "title:") + order, query, offset, limit);
+        SearchResultCache.Entry cached = searchResultCache.get(cacheKey);
+        if (cached != null) {
+            lock.readLock().lock();
+            try {
+                if (Arrays.equals(cached.versions, versions(cached.terms, includeContent))) {
+                    return cached.result;
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+            searchResultCache.remove(cacheKey);
+        }
+
+        int[] matched;
+        int[] fuzzy = new int[0];
+        String corrected;
+        List<Long> page = new ArrayList<>();
+        List<String> stampTerms = new ArrayList<>(terms);
+        long[] stamp;
+        lock.readLock().lock();
+        try {
+            matched = match(query, includeContent);
+            corrected = productVocabulary.correct(query, word -> match(word, includeContent).length > 0);
+            Set<String> correctedTerms = corrected != null ? KoreanTokenizer.queryTerms(corrected) : Set.of();
+            if (!correctedTerms.isEmpty()) {
+                fuzzy = PostingList.difference(match(corrected, includeContent), matched);
+            }
+
+            // 정확히 일치한 결과 다음에 교정 검색어 결과, 각각 정렬 기준에 따라 정렬
+            int end = (int) Math.min((long) matched.length + fuzzy.length, (long) offset + limit);
+            appendPage(page, matched, terms, includeContent, order, offset, end);
+            appendPage(page, fuzzy, correctedTerms, includeContent, order,
+                    offset - matched.length, end - matched.length);
+
+            correctedTerms.stream().filter(term -> !terms.contains(term)).forEach(stampTerms::add);
+            stamp = versions(stampTerms, includeContent);
+        } finally {
+            lock.readLock().unlock();
+        }
+        SearchResult result = new SearchResult(page, matched.length + fuzzy.length, fuzzy.length > 0 ? corrected : null);
+        searchResultCache.put(cacheKey, result, stampTerms, stamp);
+        return result;
+    }
+
+    // 토큰별 포스팅 리스트 버전 (리스트가 없으면 0). 읽기 락 안에서 호출
+    private long[] versions(List<String> terms, boolean includeContent) {
+        long[] versions = new long[includeContent ? terms.size() * 2 : terms.size()];
+        for (int i = 0; i < terms.size(); i++) {
+            PostingList title = titlePostings.get(terms.get(i));
+            versions[i] = title != null ? title.version() : 0;
+            if (includeContent) {
+                PostingList content = contentPostings.get(terms.get(i));
+                versions[terms.size() + i] = content != null ? content.version() : 0;
+            }
+        }
+        return versions;
+    }
+
+    // docs를 정렬했을 때 [from, to) 구간을 page에 추가
+    private void appendPage(List<Long> page, int[] docs, Set<String> terms, boolean includeContent,
+                            Order order, int from, int to) {
+        from = Math.max(0, from);
+        to = Math.min(docs.length, to);
+        if (from >= to) {
+            return;
+        }
+        if (order == Order.LATEST) {
+            for (int rank = from; rank < to; rank++) {
+                page.add((long) docs[docs.length - 1 - rank]);
+            }
+            return;
+        }
+        int[] top = topByRelevance(docs, terms, includeContent, to);
+        for (int rank = from; rank < to; rank++) {
+            page.add((long) top[rank]);
+        }
+    }
+
+    /**
+     * 후보 문서의 관련도 점수를 계산해 상위 k개를 점수순으로 반환합니다. (읽기 락 안에서 호출)
+     * 제목/내용의 토큰 빈도를 필드별 길이로 정규화한 뒤 제목에 가중치를 두어 합친 BM25F 방식입니다.
+     */
+    private int[] topByRelevance(int[] docs, Set<String> terms, boolean includeContent, int k) {
+        int documentCount = Math.max(1, documents.size());
+        double avgTitleLength = Math.max(1.0, (double) titleLengthSum / documentCount);
+        double avgContentLength = Math.max(1.0, (double) contentLengthSum / documentCount);
+
+        int termCount = terms.size();
+        PostingList[] titleLists = new PostingList[termCount];
+        PostingList[] contentLists = new PostingList[termCount];
+        double[] idf = new double[termCount];
+        int t = 0;
+        for (String term : terms) {
+            titleLists[t] = titlePostings.get(term);
+            contentLists[t] = includeContent ? contentPostings.get(term) : null;
+            int df = includeContent
+                    ? PostingList.union(postingsOf(titlePostings, term), postingsOf(contentPostings, term)).length
+                    : postingsOf(titlePostings, term).length;
+            idf[t] = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+            t++;
+        }
+
+        long now = System.currentTimeMillis();
+        TopDocs top = new TopDocs(k);
+        for (int doc : docs) {
+            IndexedText text = documents.get(doc);
+            if (text == null) {
+                continue;
+            }
+            double titleNorm = 1 - b + b * text.titleLength / avgTitleLength;
+            double contentNorm = 1 - b + b * text.contentLength / avgContentLength;
+            double score = 0;
+            for (int i = 0; i < termCount; i++) {
+                double tf = titleLists[i] != null ? titleBoost * titleLists[i].frequency(doc) / titleNorm : 0;
+                if (contentLists[i] != null) {
+                    tf += contentLists[i].frequency(doc) / contentNorm;
+                }
+                if (tf > 0) {
+                    score += idf[i] * tf * (k1 + 1) / (k1 + tf);
+                }
+            }
+            top.offer(doc, score * boost(text, now));
+        }
+        return top.drainSorted();
+    }
+
+    // 최근 등록/끌어올린 상품과 조회수가 많은 상품에 주는 가중치 (가중치 설정이 0이면 1)
+    private double boost(IndexedText text, long now) {
+        double boost = 1;
+        if (recencyWeight > 0 && text.freshAt > 0) {
+            double ageHours = Math.max(0, now - text.freshAt) / 3_600_000.0;
+            boost += recencyWeight * Math.pow(0.5, ageHours / recencyHalfLifeHours);
+        }
+        if (popularityWeight > 0 && text.viewCount > 0) {
+            boost += popularityWeight * Math.log1p(text.viewCount);
+        }
+        return boost;
+    }
+
+    // 읽기 락 안에서 호출. 모든 토큰을 포함한 후보 중 검색어 구간을 모두 부분 문자열로 포함하는 문서만 남김
+    private int[] match(String query, boolean includeContent) {
+        Set<String> terms = KoreanTokenizer.queryTerms(query);
+        if (terms.isEmpty()) {
+            return new int[0];
+        }
+        int[] result = null;
+        for (String term : terms) {
+            int[] docs = postingsOf(titlePostings, term);
+            if (includeContent) {
+                docs = PostingList.union(docs, postingsOf(contentPostings, term));
+            }
+            result = result == null ? docs : PostingList.intersect(result, docs);
+            if (result.length == 0) {
+                return result;
+            }
+        }
+
+        Set<String> words = KoreanTokenizer.queryWords(query);
+        int kept = 0;
+        for (int doc : result) {
+            IndexedText text = documents.get(doc);
+            if (text != null && text.containsAll(words, includeContent)) {
+                result[kept++] = doc;
+            }
+        }
+        return kept == result.length ? result : Arrays.copyOf(result, kept);
+    }
+
+    private static int[] postingsOf(Map<String, PostingList> postings, String term) {
+        PostingList list = postings.get(term);
+        return list == null ? new int[0] : list.toArray();
+    }
+
+    private void upsert(int doc, ProductChangedEvent event) {
+        LocalDateTime freshAt = event.getBumpedAt() != null ? event.getBumpedAt() : event.getCreatedAt();
+        lock.writeLock().lock();
+        try {
+            IndexedText text = documents.get(doc);
+            if (text == null || !text.matches(event.getTitle(), event.getContent())) {
+                IndexedText previous = text;
+                if (previous != null) {
+                    unindex(doc, previous);
+                }
+                text = new IndexedText(event.getTitle(), event.getContent());
+                if (previous != null) {
+                    text.freshAt = previous.freshAt;
+                    text.viewCount = previous.viewCount;
+                }
+                index(doc, text);
+                documents.put(doc, text);
+            }
+            if (freshAt != null) {
+                text.freshAt = freshAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            }
+            if (event.getViewCount() != null) {
+                // 이벤트의 조회수는 DB 값이므로, 이미 더해 둔 반영분보다 작으면 무시
+                text.viewCount = Math.max(text.viewCount, event.getViewCount());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(int doc) {
+        lock.writeLock().lock();
+        try {
+            IndexedText previous = documents.remove(doc);
+            if (previous != null) {
+                unindex(doc, previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void index(int doc, IndexedText text) {
+        Map<String, Integer> titleTerms = KoreanTokenizer.indexTermFrequencies(text.title);
+        titleTerms.forEach((term, frequency) ->
+                titlePostings.computeIfAbsent(term, t -> new PostingList()).add(doc, frequency));
+        Map<String, Integer> contentTerms = KoreanTokenizer.indexTermFrequencies(text.content);
+        contentTerms.forEach((term, frequency) ->
+                contentPostings.computeIfAbsent(term, t -> new PostingList()).add(doc, frequency));
+        text.titleLength = titleTerms.values().stream().mapToInt(Integer::intValue).sum();
+        text.contentLength = contentTerms.values().stream().mapToInt(Integer::intValue).sum();
+        titleLengthSum += text.titleLength;
+        contentLengthSum += text.contentLength;
+    }
+
+    private void unindex(int doc, IndexedText text) {
+        removeFrom(titlePostings, KoreanTokenizer.indexTerms(text.title), doc);
+        removeFrom(contentPostings, KoreanTokenizer.indexTerms(text.content), doc);
+        titleLengthSum -= text.titleLength;
+        contentLengthSum -= text.contentLength;
+    }
+
+    private static void removeFrom(Map<String, PostingList> postings, Set<String> terms, int doc) {
+        for (String term : terms) {
+            PostingList list = postings.get(term);
+            if (list == null) {
+                continue;
+            }
+            list.remove(doc);
+            if (list.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    /**
+     * 재색인 시 이전 토큰을 다시 계산하고 후보를 확인하기 위해 보관하는 정규화된 원문과, 관련도 계산에 쓰는 문서 정보입니다.
+     */
+    private static final class IndexedText {
+        private final String title;   // KoreanTokenizer.normalize 적용
+        private final String content; // KoreanTokenizer.normalize 적용
+        private int titleLength;
+        private int contentLength;
+        private long freshAt;   // 등록 또는 마지막 끌어올리기 시각 (epoch millis)
+        private long viewCount;
+
+        private IndexedText(String title, String content) {
+            this.title = KoreanTokenizer.normalize(title);
+            this.content = KoreanTokenizer.normalize(content);
+        }
+
+        private boolean matches(String title, String content) {
+            return this.title.equals(KoreanTokenizer.normalize(title)) && this.content.equals(KoreanTokenizer.normalize(content));
+        }
+
+        // 제목만 검색할 때는 모든 구간이 제목에, 아니면 구간마다 제목 또는 내용에 있어야 함
+        private boolean containsAll(Set<String> words, boolean includeContent) {
+            for (String word : words) {
+                if (!title.contains(word) && !(includeContent && content.contains(word))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.miniproject.rookiejangter.search;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 찜 데이터로 만든 "이 상품을 찜한 사람들이 함께 찜한 상품" 목록입니다.
+ * 주기적으로 전체 찜(사용자-상품 쌍)을 읽어 상품-상품 동시 출현 횟수를 fork-join으로 병렬 계산하고,
+ * 상품별로 유사도 상위 K개의 상품 ID만 int 배열로 보관합니다. 조회는 메모리의 스냅샷만 읽습니다.
+ * 유사도는 함께 찜한 사용자 수를 두 상품의 찜 수의 기하평균으로 나눈 값(코사인 유사도)입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSimilarityIndex {
+
+    private static final String SELECT_DIBS_SQL =
+            "SELECT user_id, product_id FROM dibs WHERE user_id IS NOT NULL AND product_id IS NOT NULL ORDER BY user_id";
+
+    // 하나의 fork-join 작업이 맡는 최소 상품 수
+    private static final int SPLIT_THRESHOLD = 256;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${product.similar.top-k:20}")
+    private int topK;
+
+    @Value("${product.similar.min-co-dibs:2}")
+    private int minCoDibs;
+
+    // 찜이 지나치게 많은 사용자는 동시 출현 계산 비용(찜 수의 제곱)에 비해 신호가 약하므로 제외
+    @Value("${product.similar.max-user-dibs:500}")
+    private int maxUserDibs;
+
+    private final ForkJoinPool pool = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    // 작업 스레드별 카운터 배열: 잎 작업마다 새로 만들지 않고, 상품 수가 늘 때만 다시 할당
+    private final ThreadLocal<Scratch> scratch = new ThreadLocal<>();
+
+    private volatile Map<Integer, int[]> neighbors = Collections.emptyMap();
+
+    /**
+     * 유사 상품 ID를 유사도순으로 반환합니다.
+     *
+     * @param productId 상품 ID
+     * @param limit     최대 상품 수
+     * @return 유사 상품 ID 목록 (계산 전이거나 없으면 빈 목록)
+     */
+    public List<Long> similar(Long productId, int limit) {
+        int[] list = neighbors.get(Math.toIntExact(productId));
+        if (list == null) {
+            return Collections.emptyList();
+        }
+        int size = Math.min(Math.max(0, limit), list.length);
+        List<Long> productIds = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            productIds.add((long) list[i]);
+        }
+        return productIds;
+    }
+
+    /**
+     * 유사 상품 목록을 다시 계산합니다. 스케줄러 스레드를 붙잡지 않도록 계산은 fork-join 풀에서 실행하며,
+     * 이전 계산이 끝나지 않았으면 이번 주기는 건너뜁니다.
+     */
+    @Scheduled(initialDelayString = "${product.similar.initial-delay-ms:30000}",
+            fixedDelayString = "${product.similar.refresh-interval-ms:600000}")
+    public void scheduleRebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        pool.execute(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("Failed to rebuild similar products: {}", e.getMessage(), e);
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private void rebuild() {
+        long started = System.currentTimeMillis();
+
+        // 상품 ID를 0..n-1의 밀집 번호로 바꿔 사용자별 찜 목록을 만든다 (user_id 순으로 읽어 한 사용자씩 완성)
+        Map<Integer, Integer> denseIds = new HashMap<>();
+        List<Integer> productIds = new ArrayList<>();
+        List<int[]> baskets = new ArrayList<>();
+        List<Integer> current = new ArrayList<>();
+        long[] currentUser = {Long.MIN_VALUE};
+        jdbcTemplate.query(SELECT_DIBS_SQL, rs -> {
+            long userId = rs.getLong(1);
+            if (userId != currentUser[0]) {
+                addBasket(baskets, current);
+                current.clear();
+                currentUser[0] = userId;
+            }
+            int productId = Math.toIntExact(rs.getLong(2));
+            current.add(denseIds.computeIfAbsent(productId, id -> {
+                productIds.add(id);
+                return productIds.size() - 1;
+            }));
+        });
+        addBasket(baskets, current);
+
+        int productCount = productIds.size();
+        int[] dibsCounts = new int[productCount];
+        int[][] usersOfProduct = invert(baskets, productCount, dibsCounts);
+
+        int[][] result = new int[productCount][];
+        pool.invoke(new CoDibsTask(0, productCount, baskets, usersOfProduct, dibsCounts, result));
+
+        // 밀집 번호를 다시 상품 ID로
+        Map<Integer, int[]> snapshot = new HashMap<>();
+        for (int p = 0; p < productCount; p++) {
+            int[] list = result[p];
+            if (list != null) {
+                for (int i = 0; i < list.length; i++) {
+                    list[i] = productIds.get(list[i]);
+                }
+                snapshot.put(productIds.get(p), list);
+            }
+        }
+        neighbors = snapshot;
+        log.info("Rebuilt similar products: {} products, {} users, {} with neighbors in {} ms",
+                productCount, baskets.size(), snapshot.size(), System.currentTimeMillis() - started);
+    }
+
+    private void addBasket(List<int[]> baskets, List<Integer> basket) {
+        if (basket.size() < 2 || basket.size() > maxUserDibs) {
+            return; // 찜이 하나뿐이면 동시 출현이 없음
+        }
+        baskets.add(basket.stream().mapToInt(Integer::intValue).distinct().toArray());
+    }
+
+    // 사용자별 찜 목록을 상품별 사용자 목록으로 뒤집는다
+    private static int[][] invert(List<int[]> baskets, int productCount, int[] dibsCounts) {
+        for (int[] basket : baskets) {
+            for (int p : basket) {
+                dibsCounts[p]++;
+            }
+        }
+        int[][] users = new int[productCount][];
+        int[] filled = new int[productCount];
+        for (int p = 0; p < productCount; p++) {
+            users[p] = new int[dibsCounts[p]];
+        }
+        for (int u = 0; u < baskets.size(); u++) {
+            for (int p : baskets.get(u)) {
+                users[p][filled[p]++] = u;
+            }
+        }
+        return users;
+    }
+
+    /**
+     * [from, to) 범위 상품의 유사 상품 상위 K개를 계산합니다. 범위가 크면 반으로 나눠 병렬 처리합니다.
+     * 작업 스레드마다 전체 상품 크기의 카운터 배열 한 쌍을 재사용하고, 건드린 칸만 초기화합니다.
+     */
+    private final class CoDibsTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final List<int[]> baskets;
+        private final int[][] usersOfProduct;
+        private final int[] dibsCounts;
+        private final int[][] result;
+
+        private CoDibsTask(int from, int to, List<int[]> baskets, int[][] usersOfProduct, int[] dibsCounts, int[][] result) {
+            this.from = from;
+            this.to = to;
+            this.baskets = baskets;
+            this.usersOfProduct = usersOfProduct;
+            this.dibsCounts = dibsCounts;
+            this.result = result;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > SPLIT_THRESHOLD) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new CoDibsTask(from, mid, baskets, usersOfProduct, dibsCounts, result),
+                        new CoDibsTask(mid, to, baskets, usersOfProduct, dibsCounts, result));
+                return;
+            }
+            Scratch buffers = scratch.get();
+            if (buffers == null || buffers.coCounts.length < dibsCounts.length) {
+                buffers = new Scratch(dibsCounts.length);
+                scratch.set(buffers);
+            }
+            int[] coCounts = buffers.coCounts;
+            int[] touched = buffers.touched;
+            try {
+                countRange(coCounts, touched);
+            } catch (RuntimeException | Error e) {
+                // 중간에 실패하면 카운터가 0으로 돌아오지 않았을 수 있으므로 버림
+                scratch.remove();
+                throw e;
+            }
+        }
+
+        private void countRange(int[] coCounts, int[] touched) {
+            for (int p = from; p < to; p++) {
+                int touchedCount = 0;
+                for (int user : usersOfProduct[p]) {
+                    for (int q : baskets.get(user)) {
+                        if (q != p && coCounts[q]++ == 0) {
+                            touched[touchedCount++] = q;
+                        }
+                    }
+                }
+                TopDocs top = new TopDocs(topK);
+                for (int i = 0; i < touchedCount; i++) {
+                    int q = touched[i];
+                    if (coCounts[q] >= minCoDibs) {
+                        top.offer(q, coCounts[q] / Math.sqrt((double) dibsCounts[p] * dibsCounts[q]));
+                    }
+                    coCounts[q] = 0;
+                }
+                int[] ranked = top.drainSorted();
+                if (ranked.length > 0) {
+                    result[p] = ranked;
+                }
+            }
+        }
+    }
+
+    // coCounts는 상품 하나를 처리할 때마다 건드린 칸을 0으로 되돌리므로 다음 작업에서 그대로 쓸 수 있음
+    private static final class Scratch {
+        private final int[] coCounts;
+        private final int[] touched;
+
+        private Scratch(int size) {
+            this.coCounts = new int[size];
+            this.touched = new int[size];
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.miniproject.rookiejangter.search;
+
+import com.miniproject.rookiejangter.event.ProductChangedEvent;
+import com.miniproject.rookiejangter.event.ProductIndexer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * 상품 조회/찜으로 계산하는 실시간 인기 점수입니다. 점수는 반감기에 따라 지수적으로 줄어듭니다.
+ * 모든 점수를 주기적으로 깎는 대신, 기준 시각 이후 경과 시간만큼 키운 가중치를 더하는 방식(forward decay)이라
+ * 기록은 상품별 DoubleAdder에 잠금 없이 더하기만 하고, 순위는 저장된 값의 대소로 바로 비교합니다.
+ * 점수는 서버별로 유지되며, 각 서버가 받은 트래픽만으로 순위를 근사합니다.
+ */
+@Slf4j
+@Component
+public class ProductTrendingIndex implements ProductIndexer {
+
+    // 기준 시각 이후 배율이 e^40을 넘으면 기준 시각을 옮겨 double 범위 안에 머물게 함
+    private static final double MAX_EXPONENT = 40;
+
+    // 현재 시점 점수가 이보다 작은 상품은 정리
+    private static final double PRUNE_BELOW = 0.05;
+
+    @Value("${product.trending.half-life-minutes:360}")
+    private double halfLifeMinutes;
+
+    @Value("${product.trending.view-weight:1.0}")
+    private double viewWeight;
+
+    @Value("${product.trending.dibs-weight:5.0}")
+    private double dibsWeight;
+
+    private volatile Epoch epoch = new Epoch(System.currentTimeMillis(), new ConcurrentHashMap<>());
+
+    /**
+     * 상품 상세 조회를 기록합니다.
+     *
+     * @param productId 상품 ID
+     */
+    public void recordView(Long productId) {
+        record(productId, viewWeight);
+    }
+
+    /**
+     * 찜 추가/해제를 기록합니다. 해제는 같은 크기만큼 점수를 뺍니다.
+     *
+     * @param productId 상품 ID
+     * @param added     찜 추가면 true, 해제면 false
+     */
+    public void recordDibs(Long productId, boolean added) {
+        record(productId, added ? dibsWeight : -dibsWeight);
+    }
+
+    /**
+     * 현재 점수 상위 상품 ID를 점수순으로 반환합니다. 점수가 낮아진 상품도 이때 정리합니다.
+     * 전체 상품을 훑으므로 요청 경로가 아닌 주기 작업에서 호출합니다.
+     *
+     * @param n 최대 상품 수
+     * @return 상품 ID 목록
+     */
+    public synchronized List<Long> top(int n) {
+        long now = System.currentTimeMillis();
+        if (decayRate() * (now - epoch.landmark) > MAX_EXPONENT) {
+            rebase(now);
+        }
+
+        Epoch current = epoch;
+        double pruneBelow = PRUNE_BELOW * Math.exp(decayRate() * (now - current.landmark));
+        TopDocs top = new TopDocs(n);
+        for (Map.Entry<Long, DoubleAdder> entry : current.scores.entrySet()) {
+            double score = entry.getValue().sum();
+            if (score < pruneBelow) {
+                current.scores.remove(entry.getKey(), entry.getValue());
+                continue;
+            }
+            top.offer(Math.toIntExact(entry.getKey()), score);
+        }
+
+        List<Long> productIds = new ArrayList<>(n);
+        for (int doc : top.drainSorted()) {
+            productIds.add((long) doc);
+        }
+        return productIds;
+    }
+
+    @Override
+    public void apply(ProductChangedEvent event) {
+        // 삭제/거래 완료된 상품은 인기 목록 대상에서 제외
+        if (event.isDeleted() || event.isCompleted()) {
+            epoch.scores.remove(event.getProductId());
+        }
+    }
+
+    @Override
+    public void markReady() {
+        // 인기 점수는 기동 후 들어오는 조회/찜으로만 쌓임
+    }
+
+    private void record(Long productId, double weight) {
+        Epoch current = epoch;
+        double scaled = weight * Math.exp(decayRate() * (System.currentTimeMillis() - current.landmark));
+        current.scores.computeIfAbsent(productId, id -> new DoubleAdder()).add(scaled);
+    }
+
+    // 기준 시각을 now로 옮기고 기존 점수를 같은 비율로 줄임 (교체 도중 이전 epoch에 더해진 소수의 기록은 유실될 수 있음)
+    private void rebase(long now) {
+        Epoch previous = epoch;
+        double factor = Math.exp(-decayRate() * (now - previous.landmark));
+        ConcurrentHashMap<Long, DoubleAdder> rescaled = new ConcurrentHashMap<>();
+        previous.scores.forEach((productId, adder) -> {
+            DoubleAdder scaled = new DoubleAdder();
+            scaled.add(adder.sum() * factor);
+            rescaled.put(productId, scaled);
+        });
+        epoch = new Epoch(now, rescaled);
+        log.debug("Rebased trending scores: {} products", rescaled.size());
+    }
+
+    // 밀리초당 감쇠율 (반감기마다 점수가 절반)
+    private double decayRate() {
+        return Math.log(2) / (halfLifeMinutes * 60_000);
+    }
+
+    private static final class Epoch {
+        private final long landmark;
+        private final ConcurrentHashMap<Long, DoubleAdder> scores;
+
+        private Epoch(long landmark, ConcurrentHashMap<Long, DoubleAdder> scores) {
+            this.landmark = landmark;
+            this.scores = scores;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.miniproject.rookiejangter.search;
+
+import com.miniproject.rookiejangter.event.ProductChangedEvent;
+import com.miniproject.rookiejangter.event.ProductIndexer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * 상품 제목/내용에 등장하는 단어 사전입니다. 오타 검색어의 교정 후보를 BK-tree로 찾습니다.
+ * 단어별로 그 단어를 포함한 상품 수를 유지하며, 교정 후보는 편집 거리가 가까운 순, 같으면 상품 수가 많은 순입니다.
+ * 한 번의 교정에 쓰는 탐색 노드 수와 시간은 예산으로 제한되어, 예산을 넘으면 그때까지의 후보로 교정합니다.
+ */
+@Slf4j
+@Component
+public class ProductVocabulary implements ProductIndexer {
+
+    // 더 이상 쓰이지 않는 단어가 이 수를 넘고 사용 중인 단어보다 많아지면 BK-tree를 다시 만듦
+    private static final int REBUILD_THRESHOLD = 10_000;
+
+    private final Map<String, Integer> documentFrequency = new HashMap<>();
+    private final Map<Integer, Set<String>> documents = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private BkTree tree = new BkTree();
+
+    @Value("${product.search.fuzzy.max-nodes:5000}")
+    private int maxNodes;
+
+    @Value("${product.search.fuzzy.budget-ms:5}")
+    private long budgetMillis;
+
+    @Override
+    public void apply(ProductChangedEvent event) {
+        if (event.getType() == ProductChangedEvent.Type.BUMPED
+                || event.getType() == ProductChangedEvent.Type.STATUS_CHANGED) {
+            return; // 제목/내용 변화 없음
+        }
+        int doc = Math.toIntExact(event.getProductId());
+        Set<String> words = event.isDeleted() ? Set.of() : words(
+                (event.getTitle() != null ? event.getTitle() : "") + " " + (event.getContent() != null ? event.getContent() : ""));
+        lock.writeLock().lock();
+        try {
+            Set<String> previous = documents.remove(doc);
+            if (previous != null) {
+                previous.forEach(word -> documentFrequency.computeIfPresent(word, (w, df) -> df > 1 ? df - 1 : null));
+            }
+            for (String word : words) {
+                if (documentFrequency.merge(word, 1, Integer::sum) == 1) {
+                    tree.add(word);
+                }
+            }
+            if (!words.isEmpty()) {
+                documents.put(doc, words);
+            }
+            int dead = tree.size() - documentFrequency.size();
+            if (dead > REBUILD_THRESHOLD && dead > documentFrequency.size()) {
+                rebuild();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void markReady() {
+        log.info("Product vocabulary ready: {} words", documentFrequency.size());
+    }
+
+    /**
+     * 사전에 없고 그대로는 검색되지 않는 검색어 단어를 가장 가까운 단어로 바꾼 교정 검색어를 만듭니다.
+     *
+     * @param query      검색어
+     * @param searchable 단어 그대로 검색 결과가 있는지 확인하는 함수 (부분 일치로 찾히는 단어는 교정하지 않음)
+     * @return 교정 검색어 (바꿀 단어가 없거나 후보가 없으면 null)
+     */
+    public String correct(String query, Predicate<String> searchable) {
+        Set<String> words = words(query);
+        if (words.isEmpty()) {
+            return null;
+        }
+        BkTree.Budget budget = new BkTree.Budget(maxNodes, TimeUnit.MILLISECONDS.toNanos(budgetMillis));
+        boolean corrected = false;
+        StringBuilder sb = new StringBuilder();
+        lock.readLock().lock();
+        try {
+            for (String word : words) {
+                String replacement = word;
+                int maxDistance = maxDistance(word);
+                if (maxDistance > 0 && !documentFrequency.containsKey(word)
+                        && !budget.exhausted() && !searchable.test(word)) {
+                    String best = closest(word, maxDistance, budget);
+                    if (best != null) {
+                        replacement = best;
+                        corrected = true;
+                    }
+                }
+                if (sb.length() > 0) {
+                    sb.append(' ');
+                }
+                sb.append(replacement);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return corrected ? sb.toString() : null;
+    }
+
+    private String closest(String word, int maxDistance, BkTree.Budget budget) {
+        List<BkTree.Match> matches = tree.search(word, maxDistance, budget);
+        return matches.stream()
+                .filter(match -> documentFrequency.containsKey(match.word))
+                .min(Comparator.comparingInt((BkTree.Match match) -> match.distance)
+                        .thenComparing(match -> -documentFrequency.get(match.word))
+                        .thenComparing(match -> match.word))
+                .map(match -> match.word)
+                .orElse(null);
+    }
+
+    private void rebuild() {
+        BkTree rebuilt = new BkTree();
+        documentFrequency.keySet().forEach(rebuilt::add);
+        log.info("Rebuilt product vocabulary tree: {} -> {} words", tree.size(), rebuilt.size());
+        tree = rebuilt;
+    }
+
+    // 짧은 단어는 한 글자만 바뀌어도 다른 단어가 되므로 교정하지 않음
+    private static int maxDistance(String word) {
+        if (word.length() <= 1) {
+            return 0;
+        }
+        return word.length() <= 5 ? 1 : 2;
+    }
+
+    private static Set<String> words(String text) {
+        if (text == null) {
+            return Set.of();
+        }
+        Set<String> words = new LinkedHashSet<>();
+        for (String word : KoreanTokenizer.normalize(text).split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+}
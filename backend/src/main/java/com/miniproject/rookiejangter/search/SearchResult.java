@@ -0,0 +1,28 @@
+package com.miniproject.rookiejangter.search;
+
+import lombok.Getter;
+import lombok.AllArgsConstructor;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 인메모리 검색 결과입니다. 요청한 페이지의 상품 ID와 전체 일치 건수를 담습니다.
+ * 오타 교정 결과가 포함된 경우 교정된 검색어를 didYouMean에 담습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class SearchResult {
+
+    private final List<Long> productIds;
+    private final long totalHits;
+    private final String didYouMean;
+
+    public SearchResult(List<Long> productIds, long totalHits) {
+        this(productIds, totalHits, null);
+    }
+
+    public static SearchResult empty() {
+        return new SearchResult(Collections.emptyList(), 0);
+    }
+}
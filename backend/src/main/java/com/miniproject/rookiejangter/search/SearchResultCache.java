@@ -0,0 +1,100 @@
+package com.miniproject.rookiejangter.search;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검색 결과 페이지(상품 ID 목록)의 로컬 LRU 캐시입니다.
+ * 키는 대소문자/공백/유니코드(NFC)를 정규화한 검색어와 페이지 범위이며, 항목 수 상한을 넘으면 가장 오래 쓰지 않은 항목부터 제거합니다.
+ * 항목에는 저장 시점의 검색 토큰별 포스팅 리스트 버전을 함께 담아 두고, 조회 시 버전이 달라졌으면 무효로 봅니다.
+ */
+@Component
+public class SearchResultCache {
+
+    @Value("${product.search.result-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${product.search.result-cache.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    private Map<String, Entry> entries;
+
+    @PostConstruct
+    void init() {
+        entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    /**
+     * 캐시 키를 만듭니다. 공백, 대소문자, 한글 자모 조합 방식(NFD/NFC)만 다른 검색어는 같은 키가 됩니다.
+     *
+     * @param scope  검색 범위/정렬을 구분하는 값
+     * @param query  검색어
+     * @param offset 건너뛸 결과 수
+     * @param limit  반환할 최대 결과 수
+     * @return 캐시 키
+     */
+    static String key(String scope, String query, int offset, int limit) {
+        String normalized = KoreanTokenizer.normalize(query).strip().replaceAll("\\s+", " ");
+        return scope + '|' + offset + '|' + limit + '|' + normalized;
+    }
+
+    /**
+     * 만료되지 않은 항목을 반환합니다. 버전 확인은 호출자가 합니다.
+     *
+     * @param key 캐시 키
+     * @return 캐시 항목 (없거나 만료되었으면 null)
+     */
+    Entry get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() > entry.expiresAt) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * 검색 결과를 저장합니다.
+     *
+     * @param key      캐시 키
+     * @param result   검색 결과
+     * @param terms    결과에 영향을 준 검색 토큰
+     * @param versions 저장 시점의 토큰별 포스팅 리스트 버전
+     */
+    void put(String key, SearchResult result, List<String> terms, long[] versions) {
+        SearchResult copy = new SearchResult(List.copyOf(result.getProductIds()), result.getTotalHits(), result.getDidYouMean());
+        entries.put(key, new Entry(copy, terms, versions, System.currentTimeMillis() + ttlSeconds * 1000));
+    }
+
+    void remove(String key) {
+        entries.remove(key);
+    }
+
+    static final class Entry {
+        final SearchResult result;
+        final List<String> terms;
+        final long[] versions;
+        private final long expiresAt;
+
+        private Entry(SearchResult result, List<String> terms, long[] versions, long expiresAt) {
+            this.result = result;
+            this.terms = terms;
+            this.versions = versions;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.miniproject.rookiejangter.search;
+
+/**
+ * 점수 상위 k개 문서만 유지하는 최소 힙입니다.
+ * 후보 전체를 정렬하지 않고 O(n log k)로 상위 k개를 고르며, 박싱 없이 배열에 저장합니다.
+ * 점수가 같으면 ID가 큰(최신) 문서를 앞에 둡니다.
+ */
+final class TopDocs {
+
+    private final int[] docs;
+    private final double[] scores;
+    private int size;
+
+    TopDocs(int k) {
+        docs = new int[Math.max(0, k)];
+        scores = new double[Math.max(0, k)];
+    }
+
+    /**
+     * 문서를 후보로 넣습니다. 힙이 가득 찼다면 현재 k번째보다 앞서는 경우에만 교체합니다.
+     *
+     * @param doc   문서(상품) ID
+     * @param score 관련도 점수
+     */
+    void offer(int doc, double score) {
+        if (docs.length == 0) {
+            return;
+        }
+        if (size < docs.length) {
+            docs[size] = doc;
+            scores[size] = score;
+            siftUp(size++);
+            return;
+        }
+        if (!before(score, doc, scores[0], docs[0])) {
+            return;
+        }
+        docs[0] = doc;
+        scores[0] = score;
+        siftDown(0);
+    }
+
+    /**
+     * 모은 문서를 점수 내림차순으로 반환합니다. 호출 후 힙은 비워집니다.
+     */
+    int[] drainSorted() {
+        int[] sorted = new int[size];
+        for (int i = sorted.length - 1; i >= 0; i--) {
+            sorted[i] = docs[0];
+            size--;
+            docs[0] = docs[size];
+            scores[0] = scores[size];
+            siftDown(0);
+        }
+        return sorted;
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!before(scores[parent], docs[parent], scores[i], docs[i])) {
+                break;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) {
+                break;
+            }
+            int right = left + 1;
+            int smallest = right < size && before(scores[left], docs[left], scores[right], docs[right]) ? right : left;
+            if (!before(scores[i], docs[i], scores[smallest], docs[smallest])) {
+                break;
+            }
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    // 순위상 (scoreA, docA)가 (scoreB, docB)보다 앞서는지
+    private static boolean before(double scoreA, int docA, double scoreB, int docB) {
+        return scoreA > scoreB || (scoreA == scoreB && docA > docB);
+    }
+
+    private void swap(int i, int j) {
+        int doc = docs[i];
+        docs[i] = docs[j];
+        docs[j] = doc;
+        double score = scores[i];
+        scores[i] = scores[j];
+        scores[j] = score;
+    }
+}
@@ -9,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZoneId;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -56,6 +57,18 @@ public class AreaService {
                 .collect(Collectors.toList());
     }
 
+    /** 지역 목록의 ETag (목록 전체를 읽지 않고 건수와 마지막 수정 시각만 조회)
+     *
+     * @return 약한 ETag
+     */
+    @Transactional(readOnly = true)
+    public String getAreasETag() {
+        AreaRepository.CatalogStamp stamp = areaRepository.findCatalogStamp();
+        long lastModified = stamp.getLastModified() != null
+                ? stamp.getLastModified().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0L;
+        return "W/\"areas-" + stamp.getCount() + "-" + lastModified + "\"";
+    }
+
     /** 특정 지역 정보 수정
      * 
      * @param areaId 지역 ID
@@ -0,0 +1,89 @@
+package com.miniproject.rookiejangter.service;
+
+import com.miniproject.rookiejangter.dto.BumpDTO;
+import com.miniproject.rookiejangter.entity.Bump;
+import com.miniproject.rookiejangter.entity.Product;
+import com.miniproject.rookiejangter.event.ProductChangedEvent;
+import com.miniproject.rookiejangter.exception.BusinessException;
+import com.miniproject.rookiejangter.exception.ErrorCode;
+import com.miniproject.rookiejangter.repository.BumpRepository;
+import com.miniproject.rookiejangter.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+public class BumpService {
+
+    private final ProductRepository productRepository;
+    private final BumpRepository bumpRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${product.bump.cooldown-minutes:1440}")
+    private long cooldownMinutes;
+
+    @Value("${product.bump.max-count:10}")
+    private int maxCount;
+
+    /**
+     * 상품을 끌어올립니다. 피드 정렬 시각(bumpedAt)을 현재 시각으로 갱신합니다.
+     *
+     * @param productId 상품 ID
+     * @param userId    사용자 ID (판매자 확인용)
+     * @return 끌어올리기 결과 DTO
+     */
+    @Transactional
+    public BumpDTO.Response bumpProduct(Long productId, Long userId) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND, productId));
+
+        if (!product.getUser().getUserId().equals(userId)) {
+            throw new BusinessException(ErrorCode.PRODUCT_OPERATION_FORBIDDEN, "끌어올리기");
+        }
+        if (Boolean.TRUE.equals(product.getIsCompleted())) {
+            throw new BusinessException(ErrorCode.PRODUCT_CANNOT_BUMP);
+        }
+
+        Bump bump = bumpRepository.findByProduct_ProductId(productId).orElse(null);
+        if (bump != null && bump.getBumpCount() != null && bump.getBumpCount() >= maxCount) {
+            throw new BusinessException(ErrorCode.PRODUCT_CANNOT_BUMP);
+        }
+
+        Duration cooldown = Duration.ofMinutes(cooldownMinutes);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime availableAt = product.getBumpedAt() != null ? product.getBumpedAt().plus(cooldown) : now;
+        if (now.isBefore(availableAt)) {
+            throw new BusinessException(ErrorCode.PRODUCT_BUMP_COOLDOWN, availableAt);
+        }
+        // 조건부 UPDATE로 쿨다운을 다시 확인하여 동시 요청 중 하나만 반영
+        if (productRepository.bumpIfAvailable(productId, now, now.minus(cooldown)) == 0) {
+            throw new BusinessException(ErrorCode.PRODUCT_BUMP_COOLDOWN, now.plus(cooldown));
+        }
+
+        if (bump == null) {
+            bump = bumpRepository.save(Bump.builder()
+                    .product(product)
+                    .bumpCount(1)
+                    .build());
+        } else {
+            bump.increment();
+        }
+
+        eventPublisher.publishEvent(ProductChangedEvent.of(ProductChangedEvent.Type.BUMPED, product).toBuilder()
+                .bumpedAt(now)
+                .build());
+
+        return BumpDTO.Response.builder()
+                .productId(productId)
+                .bumpCount(bump.getBumpCount())
+                .bumpedAt(now)
+                .nextAvailableAt(now.plus(cooldown))
+                .build();
+    }
+}
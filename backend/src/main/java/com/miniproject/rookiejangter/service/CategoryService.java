@@ -9,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZoneId;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -74,6 +75,19 @@ public class CategoryService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 카테고리 목록의 ETag를 반환합니다. 목록 전체를 읽지 않고 건수와 마지막 수정 시각만 조회합니다.
+     *
+     * @return 약한 ETag
+     */
+    @Transactional(readOnly = true)
+    public String getCategoriesETag() {
+        CategoryRepository.CatalogStamp stamp = categoryRepository.findCatalogStamp();
+        long lastModified = stamp.getLastModified() != null
+                ? stamp.getLastModified().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0L;
+        return "W/\"categories-" + stamp.getCount() + "-" + lastModified + "\"";
+    }
+
     /**
      * 카테고리 이름으로 카테고리를 검색합니다.
      *
@@ -0,0 +1,493 @@
+package com.miniproject.rookiejangter.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.miniproject.rookiejangter.dto.MessageDTO;
+import com.miniproject.rookiejangter.entity.EntityType;
+import com.miniproject.rookiejangter.entity.User;
+import com.miniproject.rookiejangter.exception.BusinessException;
+import com.miniproject.rookiejangter.exception.ErrorCode;
+import com.miniproject.rookiejangter.pubsub.RedisPublisher;
+import com.miniproject.rookiejangter.repository.MessageArchiveBlockRepository;
+import com.miniproject.rookiejangter.repository.MessageRepository;
+import com.miniproject.rookiejangter.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅 메시지의 쓰기 지연(write-behind) 파이프라인입니다.
+ * 메시지 ID는 Redis INCR로 서버 전체에서 증가하는 순번으로 발급하고, 발급 즉시 구독자에게 전달합니다.
+ * 저장은 제한된 크기의 큐에 넣어 전용 스레드가 batch-size개씩 다중 행 INSERT로 메시지와 수신자 알림을 기록하고,
+ * 같은 트랜잭션에서 채팅방 요약(마지막 메시지, 안 읽은 수)을 갱신합니다.
+ * 큐가 가득 차면 전송을 거절해 DB가 밀릴 때 메모리가 무한히 늘지 않게 하며, 종료 시에는 큐를 모두 비운 뒤 멈춥니다.
+ * 저장할 수 없는 메시지(제약 위반 등)는 배치 전체를 막지 않도록 Redis의 dead-letter 목록(chat:message:dead-letter)으로 옮깁니다.
+ * 발급한 ID는 곧바로 클라이언트에 전달되므로 저장 시 바꾸지 않으며, 순번을 다시 채울 때 여유를 두어 중복이 생기지 않게 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatMessagePipeline {
+
+    private static final String ID_KEY = "chat:message:id";
+
+    private static final String DEAD_LETTER_KEY = "chat:message:dead-letter";
+
+    // 키가 없으면(Redis 재시작 등) 발급하지 않고 0을 돌려주어, 호출한 쪽이 다시 채울 값을 정해 SEED_ID로 이어서 발급
+    private static final RedisScript<Long> NEXT_ID = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end "
+                    + "return redis.call('INCR', KEYS[1])", Long.class);
+
+    // 다른 서버가 먼저 채웠으면 그 값을 두고 이어서 발급
+    private static final RedisScript<Long> SEED_ID = new DefaultRedisScript<>(
+            "redis.call('SET', KEYS[1], ARGV[1], 'NX') "
+                    + "return redis.call('INCR', KEYS[1])", Long.class);
+
+    private static final String INSERT_MESSAGES_PREFIX = "INSERT INTO messages (message_id, chat_id, sender_id, content, "
+            + "is_read, created_at, updated_at) VALUES ";
+    private static final String INSERT_MESSAGE_ROW = "(?, ?, ?, ?, false, ?, ?)";
+    private static final String INSERT_NOTIFICATIONS_PREFIX = "INSERT INTO notifications (user_id, entity_id, entity_type, "
+            + "message, is_read, created_at, updated_at) VALUES ";
+    private static final String INSERT_NOTIFICATION_ROW = "(?, ?, ?, ?, false, ?, ?)";
+
+    // 받는 사람의 읽은 위치: 읽음 처리(advanceReadTo)와 순서가 엇갈리지 않도록 요약 행을 잠그고 읽음
+    private static final String SELECT_WATERMARKS_PREFIX = "SELECT chat_id, user_id, last_read_message_id FROM chat_summaries "
+            + "WHERE chat_id IN (";
+    private static final String SELECT_WATERMARKS_SUFFIX = ") FOR UPDATE";
+
+    // 채팅방 요약: 받는 사람의 안 읽은 수를 늘리고, 더 최근 메시지일 때만 마지막 메시지를 바꿈 (last_message_id는 마지막에 갱신)
+    private static final String UPDATE_SUMMARY = "UPDATE chat_summaries SET "
+            + "unread_count = unread_count + CASE WHEN user_id = ? THEN ? ELSE 0 END, "
+            + "last_message = CASE WHEN COALESCE(last_message_id, 0) < ? THEN ? ELSE last_message END, "
+            + "last_message_at = CASE WHEN COALESCE(last_message_id, 0) < ? THEN ? ELSE last_message_at END, "
+            + "last_message_id = GREATEST(COALESCE(last_message_id, 0), ?) "
+            + "WHERE chat_id = ?";
+    private static final int NOTIFICATION_MAX_LENGTH = 255;
+
+    private static final int CONTENT_MAX_LENGTH = 255;
+
+    private static final long POLL_MILLIS = 200;
+    private static final int MAX_SHUTDOWN_ATTEMPTS = 3;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MessageRepository messageRepository;
+    private final MessageArchiveBlockRepository messageArchiveBlockRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisPublisher redisPublisher;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
+    @Value("${chat.persist.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${chat.persist.batch-size:200}")
+    private int batchSize;
+
+    @Value("${chat.persist.offer-timeout-ms:100}")
+    private long offerTimeoutMillis;
+
+    @Value("${chat.persist.retry-backoff-ms:1000}")
+    private long retryBackoffMillis;
+
+    @Value("${chat.persist.shutdown-timeout-ms:30000}")
+    private long shutdownTimeoutMillis;
+
+    // 순번을 다시 채울 때 확인한 최대 ID 위로 두는 여유: 다른 서버가 발급했지만 아직 저장하지 않은(큐에 있는) ID를 건너뜀
+    @Value("${chat.persist.id-reseed-gap:1000000}")
+    private long idReseedGap;
+
+    private BlockingQueue<PendingMessage> queue;
+    private Counter deadLetters;
+    private Thread writer;
+    private volatile boolean running;
+
+    // 이 서버가 발급했거나(저장 대기 중인 메시지 포함) DB에서 확인한 가장 큰 메시지 ID
+    private final AtomicLong idFloor = new AtomicLong();
+
+    // 저장 중인 배치의 가장 오래된 메시지가 큐에 들어간 시각 (0이면 저장 중인 배치 없음)
+    private volatile long inFlightSince;
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        Gauge.builder("chat.persist.lag", this, ChatMessagePipeline::lagMillis)
+                .description("저장되지 않은 가장 오래된 채팅 메시지의 대기 시간")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("chat.persist.queue.size", this, pipeline -> pipeline.queue.size())
+                .description("저장 대기 중인 채팅 메시지 수")
+                .register(meterRegistry);
+        deadLetters = Counter.builder("chat.persist.dead_letters")
+                .description("저장할 수 없어 dead-letter로 옮긴 채팅 메시지 수")
+                .register(meterRegistry);
+
+        running = true;
+        writer = new Thread(this::runWriter, "chat-message-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * 메시지 ID를 발급하고 저장 큐에 넣은 뒤 채팅방 구독자에게 전달합니다.
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 큐에 넣고 전달하므로, 롤백되면 메시지도 남지 않습니다.
+     *
+     * @throws BusinessException 내용이 비었거나 255자를 넘는 경우, 저장 큐가 가득 찬 경우
+     *
+     * @param chatId     채팅방 ID
+     * @param senderId   보낸 사용자 ID
+     * @param receiverId 받는 사용자 ID (알림 대상)
+     * @param content    메시지 내용
+     * @return 발급된 ID가 담긴 메시지 응답 DTO
+     */
+    public MessageDTO.Response submit(Long chatId, Long senderId, Long receiverId, String content) {
+        // ID 발급과 전달 전에 저장할 수 없는 내용을 거절 (messages.content는 VARCHAR(255) NOT NULL)
+        if (content == null || content.isBlank()) {
+            throw new BusinessException(ErrorCode.CHAT_MESSAGE_EMPTY);
+        }
+        if (content.length() > CONTENT_MAX_LENGTH) {
+            throw new BusinessException(ErrorCode.CHAT_MESSAGE_TOO_LONG);
+        }
+        if (!running || queue.remainingCapacity() == 0) {
+            throw new BusinessException(ErrorCode.CHAT_MESSAGE_BACKLOG_FULL);
+        }
+        PendingMessage pending = new PendingMessage(nextId(), chatId, senderId, receiverId, content,
+                LocalDateTime.now(), System.currentTimeMillis());
+
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    // 이미 커밋된 요청이므로 거절하지 않음 (큐에 넣지 못하면 바로 저장)
+                    enqueueCommitted(pending);
+                    redisPublisher.send(pending.toResponse());
+                }
+            });
+        } else {
+            if (!offer(pending)) {
+                throw new BusinessException(ErrorCode.CHAT_MESSAGE_BACKLOG_FULL);
+            }
+            redisPublisher.send(pending.toResponse());
+        }
+        return pending.toResponse();
+    }
+
+    /**
+     * 종료 시 새 메시지를 받지 않고, 큐에 남은 메시지를 모두 저장할 때까지 기다립니다.
+     */
+    @PreDestroy
+    void stop() {
+        running = false;
+        try {
+            writer.join(shutdownTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.error("Chat message writer stopped with {} messages not persisted", queue.size());
+        }
+    }
+
+    private long nextId() {
+        Long id = stringRedisTemplate.execute(NEXT_ID, List.of(ID_KEY));
+        if (id != null && id == 0) {
+            // 순번 키를 다시 채워야 함: 이미 쓰인 ID가 다시 발급되지 않도록 DB(테이블과 보관소)와 이 서버가 발급한 최대 ID,
+            // 그리고 다른 서버의 저장 대기 중인 ID를 건너뛸 여유만큼 위에서 이어서 발급
+            long maxId = Math.max(messageRepository.findMaxMessageId(), messageArchiveBlockRepository.findMaxArchivedMessageId());
+            long seed = Math.max(idFloor.get(), maxId) + idReseedGap;
+            log.warn("Chat message id sequence missing in Redis; reseeding from {} (max known id {})", seed, seed - idReseedGap);
+            id = stringRedisTemplate.execute(SEED_ID, List.of(ID_KEY), String.valueOf(seed));
+        }
+        if (id == null) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+        idFloor.accumulateAndGet(id, Math::max);
+        return id;
+    }
+
+    /**
+     * 지금까지 발급된 가장 큰 메시지 ID를 반환합니다. 읽은 위치가 발급되지 않은 ID로 앞질러 가지 않게 하는 상한입니다.
+     */
+    public long lastIssuedId() {
+        String issued = stringRedisTemplate.opsForValue().get(ID_KEY);
+        if (issued != null) {
+            return Long.parseLong(issued);
+        }
+        return Math.max(idFloor.get(),
+                Math.max(messageRepository.findMaxMessageId(), messageArchiveBlockRepository.findMaxArchivedMessageId()));
+    }
+
+    private boolean offer(PendingMessage pending) {
+        try {
+            return queue.offer(pending, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // 이미 커밋된 요청이므로 거절하지 않음: 큐에 자리가 없거나 저장 스레드가 멈췄으면 요청 스레드에서 바로 저장
+    private void enqueueCommitted(PendingMessage pending) {
+        if (running && offer(pending)) {
+            return;
+        }
+        log.warn("Chat message queue unavailable; persisting message {} inline", pending.messageId);
+        try {
+            insertEach(List.of(pending));
+        } catch (RuntimeException e) {
+            deadLetter(pending, e);
+        }
+    }
+
+    private void runWriter() {
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingMessage first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                inFlightSince = first.enqueuedAt;
+                persist(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+                inFlightSince = 0;
+            }
+        }
+    }
+
+    /**
+     * 배치를 저장합니다. 무결성 제약 위반(중복 ID, 잘못된 값)이 나면 한 행씩 다시 저장해 문제가 된 행만 따로 처리하고,
+     * 그 밖의 DB 오류는 아직 저장되지 않은 행을 저장될 때까지 재시도합니다(그동안 큐가 차면 전송이 거절됨).
+     * 종료 중에는 정해진 횟수만 시도하고 남은 행은 dead-letter로 옮깁니다.
+     */
+    private void persist(List<PendingMessage> batch) {
+        List<PendingMessage> remaining = new ArrayList<>(batch);
+        boolean rowByRow = false;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                if (rowByRow) {
+                    insertEach(remaining);
+                } else {
+                    insert(remaining);
+                }
+                return;
+            } catch (DataIntegrityViolationException e) {
+                if (!rowByRow) {
+                    // 다시 시도해도 같은 오류가 나므로 재시도 대기 없이 한 행씩 저장
+                    rowByRow = true;
+                    attempt--;
+                    continue;
+                }
+                throw e; // insertEach가 행 단위로 처리하므로 오지 않음
+            } catch (RuntimeException e) {
+                if (!running && attempt >= MAX_SHUTDOWN_ATTEMPTS) {
+                    log.error("Giving up on {} chat messages after {} failed attempts during shutdown: {}",
+                            remaining.size(), attempt, e.getMessage());
+                    remaining.forEach(pending -> deadLetter(pending, e));
+                    return;
+                }
+                log.warn("Failed to persist {} chat messages (attempt {}): {}", remaining.size(), attempt, e.getMessage());
+                try {
+                    Thread.sleep(retryBackoffMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 한 행씩 저장하며 저장된 행(또는 dead-letter로 옮긴 행)을 목록에서 지웁니다.
+     * 일시적인 DB 오류는 그대로 던지므로, 재시도 시 아직 남은 행만 다시 저장됩니다.
+     */
+    private void insertEach(List<PendingMessage> remaining) {
+        Iterator<PendingMessage> iterator = remaining.iterator();
+        while (iterator.hasNext()) {
+            insertOne(iterator.next());
+            iterator.remove();
+        }
+    }
+
+    // ID는 이미 구독자에게 전달되어 읽은 위치 등에 쓰였을 수 있으므로 바꾸지 않음: 중복 ID도 dead-letter로 옮겨 운영자가 확인
+    private void insertOne(PendingMessage pending) {
+        try {
+            insert(List.of(pending));
+        } catch (DataIntegrityViolationException e) {
+            deadLetter(pending, e);
+        }
+    }
+
+    // 저장할 수 없는 메시지는 운영자가 확인해 복구할 수 있도록 Redis 목록에 남김
+    private void deadLetter(PendingMessage pending, Exception cause) {
+        deadLetters.increment();
+        try {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("message", pending.toResponse());
+            entry.put("receiverId", pending.receiverId);
+            entry.put("error", String.valueOf(cause.getMessage()));
+            stringRedisTemplate.opsForList().rightPush(DEAD_LETTER_KEY, objectMapper.writeValueAsString(entry));
+            log.error("Moved chat message {} to dead-letter: {}", pending.messageId, cause.getMessage());
+        } catch (Exception e) {
+            log.error("Lost chat message {} (chat {}, sender {}, content '{}'): {}",
+                    pending.messageId, pending.chatId, pending.senderId, pending.content, cause.getMessage());
+        }
+    }
+
+    private void insert(List<PendingMessage> batch) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<Long, String> senderNames = userRepository.findAllById(batch.stream()
+                            .map(pending -> pending.senderId)
+                            .distinct()
+                            .collect(Collectors.toList())).stream()
+                    .collect(Collectors.toMap(User::getUserId, User::getUserName));
+
+            jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(INSERT_MESSAGES_PREFIX
+                        + batch.stream().map(pending -> INSERT_MESSAGE_ROW).collect(Collectors.joining(", ")));
+                int i = 1;
+                for (PendingMessage pending : batch) {
+                    Timestamp createdAt = Timestamp.valueOf(pending.createdAt);
+                    ps.setLong(i++, pending.messageId);
+                    ps.setLong(i++, pending.chatId);
+                    ps.setLong(i++, pending.senderId);
+                    ps.setString(i++, pending.content);
+                    ps.setTimestamp(i++, createdAt);
+                    ps.setTimestamp(i++, createdAt);
+                }
+                return ps;
+            });
+
+            jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(INSERT_NOTIFICATIONS_PREFIX
+                        + batch.stream().map(pending -> INSERT_NOTIFICATION_ROW).collect(Collectors.joining(", ")));
+                int i = 1;
+                for (PendingMessage pending : batch) {
+                    Timestamp createdAt = Timestamp.valueOf(pending.createdAt);
+                    String notification = "'" + senderNames.getOrDefault(pending.senderId, "알 수 없음")
+                            + "'님의 메시지: " + pending.content;
+                    ps.setLong(i++, pending.receiverId);
+                    ps.setLong(i++, pending.messageId);
+                    ps.setString(i++, EntityType.MESSAGE.name());
+                    ps.setString(i++, notification.length() > NOTIFICATION_MAX_LENGTH
+                            ? notification.substring(0, NOTIFICATION_MAX_LENGTH) : notification);
+                    ps.setTimestamp(i++, createdAt);
+                    ps.setTimestamp(i++, createdAt);
+                }
+                return ps;
+            });
+
+            updateSummaries(batch);
+        });
+    }
+
+    /**
+     * 배치의 메시지를 채팅방 요약에 반영합니다. 채팅방과 받는 사람 조합마다 UPDATE 한 번입니다.
+     * 받는 사람이 저장 전에 이미 읽은(읽은 위치 이하인) 메시지는 안 읽은 수에 더하지 않습니다.
+     */
+    private void updateSummaries(List<PendingMessage> batch) {
+        List<Long> chatIds = batch.stream().map(pending -> pending.chatId).distinct().collect(Collectors.toList());
+        Map<List<Long>, Long> watermarks = new HashMap<>();
+        jdbcTemplate.query(SELECT_WATERMARKS_PREFIX
+                        + chatIds.stream().map(id -> "?").collect(Collectors.joining(", ")) + SELECT_WATERMARKS_SUFFIX,
+                rs -> {
+                    long watermark = rs.getLong("last_read_message_id");
+                    watermarks.put(List.of(rs.getLong("chat_id"), rs.getLong("user_id")), watermark);
+                },
+                chatIds.toArray());
+
+        Map<Long, PendingMessage> latestByChat = new HashMap<>();
+        Map<List<Long>, Integer> unreadByChatAndReceiver = new LinkedHashMap<>();
+        for (PendingMessage pending : batch) {
+            latestByChat.merge(pending.chatId, pending,
+                    (current, candidate) -> candidate.messageId > current.messageId ? candidate : current);
+            List<Long> key = List.of(pending.chatId, pending.receiverId);
+            int unread = pending.messageId > watermarks.getOrDefault(key, 0L) ? 1 : 0;
+            unreadByChatAndReceiver.merge(key, unread, Integer::sum);
+        }
+        List<Object[]> args = new ArrayList<>(unreadByChatAndReceiver.size());
+        unreadByChatAndReceiver.forEach((key, unread) -> {
+            PendingMessage latest = latestByChat.get(key.get(0));
+            Timestamp lastMessageAt = Timestamp.valueOf(latest.createdAt);
+            args.add(new Object[]{key.get(1), unread, latest.messageId, latest.content,
+                    latest.messageId, lastMessageAt, latest.messageId, key.get(0)});
+        });
+        jdbcTemplate.batchUpdate(UPDATE_SUMMARY, args);
+    }
+
+    private double lagMillis() {
+        long oldest = inFlightSince;
+        PendingMessage head = queue.peek();
+        if (oldest == 0 && head != null) {
+            oldest = head.enqueuedAt;
+        }
+        return oldest == 0 ? 0 : System.currentTimeMillis() - oldest;
+    }
+
+    private static final class PendingMessage {
+        private final long messageId;
+        private final Long chatId;
+        private final Long senderId;
+        private final Long receiverId;
+        private final String content;
+        private final LocalDateTime createdAt;
+        private final long enqueuedAt;
+
+        private PendingMessage(long messageId, Long chatId, Long senderId, Long receiverId, String content,
+                               LocalDateTime createdAt, long enqueuedAt) {
+            this.messageId = messageId;
+            this.chatId = chatId;
+            this.senderId = senderId;
+            this.receiverId = receiverId;
+            this.content = content;
+            this.createdAt = createdAt;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        private MessageDTO.Response toResponse() {
+            return MessageDTO.Response.builder()
+                    .messageId(messageId)
+                    .chatId(chatId)
+                    .senderId(senderId)
+                    .content(content)
+                    .isRead(false)
+                    .createdAt(createdAt)
+                    .build();
+        }
+    }
+}
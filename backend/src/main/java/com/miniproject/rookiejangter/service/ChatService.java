@@ -1,6 +1,7 @@
 package com.miniproject.rookiejangter.service;
 
 import com.miniproject.rookiejangter.dto.ChatDTO;
+import com.miniproject.rookiejangter.dto.CursorDTO;
 import com.miniproject.rookiejangter.dto.MessageDTO;
 import com.miniproject.rookiejangter.entity.*;
 import com.miniproject.rookiejangter.exception.BusinessException;
@@ -8,12 +9,15 @@ import com.miniproject.rookiejangter.exception.ErrorCode;
 import com.miniproject.rookiejangter.repository.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -26,7 +30,8 @@ public class ChatService {
     private final ChatRepository chatRepository;
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
-    private final MessageRepository messageRepository;
+    private final ChatSummaryRepository chatSummaryRepository;
+    private final MessageArchiveBlockRepository messageArchiveBlockRepository;
     private final MessageService messageService;
     private final ReservationRepository reservationRepository;
 
@@ -58,6 +63,12 @@ public class ChatService {
 
         Chat savedChat = chatRepository.save(chat);
 
+        // 참여자별 목록 요약 (첫 메시지가 저장되면 마지막 메시지/안 읽은 수가 채워짐)
+        LocalDateTime now = LocalDateTime.now();
+        chatSummaryRepository.saveAll(List.of(
+                ChatSummary.builder().chat(savedChat).userId(buyerId).lastMessageAt(now).unreadCount(0).build(),
+                ChatSummary.builder().chat(savedChat).userId(seller.getUserId()).lastMessageAt(now).unreadCount(0).build()));
+
         String initialMessageContent = "안녕하세요. '" + product.getTitle() + "' 상품 구매 문의드립니다.";
         MessageDTO.Request initialMessageRequest = MessageDTO.Request.builder()
                 .content(initialMessageContent)
@@ -89,9 +100,10 @@ public class ChatService {
     }
 
     /**
-     * 현재 로그인한 사용자가 참여하고 있는 모든 채팅방 목록을 조회합니다.
+     * 현재 로그인한 사용자가 참여하고 있는 모든 채팅방 목록을 최근 활동순으로 조회합니다.
+     * 마지막 메시지와 안 읽은 수는 채팅방 요약에서 읽으므로 채팅방마다 메시지를 조회하지 않습니다.
      *
-     * @param pageable 페이징 및 정렬 정보
+     * @param pageable 페이징 정보 (정렬 조건은 무시되고 최근 활동순으로 고정)
      * @return 사용자가 참여하고 있는 채팅방 목록
      */
     @Transactional(readOnly = true) // 읽기 전용 트랜잭션
@@ -103,27 +115,52 @@ public class ChatService {
         }
         Long currentUserId = Long.parseLong(authentication.getName());
 
-        Page<Chat> chatPage = chatRepository.findByBuyer_UserIdOrSeller_UserId(currentUserId, currentUserId, pageable);
+        Page<ChatSummary> summaryPage = chatSummaryRepository.findByUserId(currentUserId,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
 
-        List<ChatDTO.ChatListResponse.ChatInfo> chatInfoList = chatPage.getContent().stream()
-                .map(chat -> {
-                    List<Message> messages = messageRepository.findByChat_ChatIdOrderByCreatedAtDesc(chat.getChatId());
-                    String lastMessageContent = messages.isEmpty() ? "메시지가 없습니다." : messages.get(0).getContent();
-                    return ChatDTO.ChatListResponse.ChatInfo.fromEntity(chat,lastMessageContent, currentUserId); // 수정된 ChatInfo.fromEntity 호출
-                })
+        List<ChatDTO.ChatListResponse.ChatInfo> chatInfoList = summaryPage.getContent().stream()
+                .map(ChatDTO.ChatListResponse.ChatInfo::fromSummary)
                 .collect(Collectors.toList());
 
         return ChatDTO.ChatListResponse.builder()
-                .page(chatPage.getNumber())
-                .size(chatPage.getSize())
-                .totalElements(chatPage.getTotalElements())
-                .totalPages(chatPage.getTotalPages())
-                .first(chatPage.isFirst())
-                .last(chatPage.isLast())
+                .page(summaryPage.getNumber())
+                .size(summaryPage.getSize())
+                .totalElements(summaryPage.getTotalElements())
+                .totalPages(summaryPage.getTotalPages())
+                .first(summaryPage.isFirst())
+                .last(summaryPage.isLast())
                 .content(chatInfoList)
                 .build();
     }
 
+    /**
+     * 현재 로그인한 사용자의 채팅방 목록을 커서 기반으로 최근 활동순 조회합니다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null 또는 빈 값)
+     * @param size   페이지 크기
+     * @return 채팅방 목록 슬라이스 DTO
+     */
+    @Transactional(readOnly = true)
+    public CursorDTO.SliceResponse<ChatDTO.ChatListResponse.ChatInfo> getChatsByUserIdAndCursor(String cursor, int size) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null || !authentication.isAuthenticated() || "anonymousUser".equals(authentication.getName())) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED_ACCESS, "채팅방 목록 조회를 위한 인증 정보가 없습니다.");
+        }
+        Long currentUserId = Long.parseLong(authentication.getName());
+
+        CursorDTO.Cursor position = CursorDTO.decode(cursor);
+        Pageable pageable = CursorDTO.pageRequest(size);
+        Slice<ChatSummary> summarySlice = position == null
+                ? chatSummaryRepository.findFirstSliceByUserId(currentUserId, pageable)
+                : chatSummaryRepository.findSliceByUserIdBefore(currentUserId, position.getCreatedAt(), position.getId(), pageable); // 채팅방 커서의 시각은 lastMessageAt
+
+        return CursorDTO.SliceResponse.of(summarySlice,
+                ChatDTO.ChatListResponse.ChatInfo::fromSummary,
+                ChatSummary::getLastMessageAt,
+                summary -> summary.getChat().getChatId());
+    }
+
     /**
      * 특정 채팅방을 삭제합니다.
      * 채팅방 참여자만 삭제할 수 있습니다.
@@ -144,6 +181,9 @@ public class ChatService {
             throw new BusinessException(ErrorCode.RESERVATION_REMAIN_CANNOT_DELETE);
         }
 
+        chatSummaryRepository.deleteAllByChatId(chatId);
+        // 세그먼트 파일의 블록은 덧붙이기 전용이라 지우지 않고, 가리키는 인덱스만 삭제
+        messageArchiveBlockRepository.deleteAllByChatId(chatId);
         chatRepository.delete(chat);
     }
 
@@ -9,6 +9,7 @@ import com.miniproject.rookiejangter.exception.ErrorCode;
 import com.miniproject.rookiejangter.repository.DibsRepository;
 import com.miniproject.rookiejangter.repository.ProductRepository;
 import com.miniproject.rookiejangter.repository.UserRepository;
+import com.miniproject.rookiejangter.search.ProductTrendingIndex;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.data.domain.Page;
@@ -28,6 +29,7 @@ public class DibsService {
     private final DibsRepository dibsRepository;
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
+    private final ProductTrendingIndex productTrendingIndex;
 
     /**
      * 찜 상태를 토글합니다. 이미 찜한 상품이면 찜을 해제하고, 찜하지 않은 상품이면 찜을 추가합니다.
@@ -61,6 +63,7 @@ public class DibsService {
             dibsRepository.save(newDibs);
             isNowLiked = true;
         }
+        productTrendingIndex.recordDibs(productId, isNowLiked);
         return DibsDTO.Response.builder()
                 .productId(productId)
                 .isDibbed(isNowLiked)
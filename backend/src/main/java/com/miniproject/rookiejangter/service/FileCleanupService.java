@@ -0,0 +1,101 @@
+package com.miniproject.rookiejangter.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+/**
+ * 삭제된 상품의 이미지 파일을 요청 경로 밖에서 지우는 정리 큐입니다.
+ * 트랜잭션이 커밋된 뒤에만 큐에 넣으므로, 롤백되면 파일도 그대로 남습니다.
+ * 큐는 주기적으로 비우며, 삭제에 실패한 파일은 몇 번 더 시도한 뒤 로그만 남깁니다.
+ * 큐는 메모리에만 있으므로 비정상 종료 시 남은 파일은 정리되지 않을 수 있습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileCleanupService {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final FileStorageService fileStorageService;
+
+    private final ConcurrentLinkedQueue<PendingFile> queue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 현재 트랜잭션이 커밋되면 파일을 삭제 대기열에 넣습니다. 트랜잭션 밖이면 바로 넣습니다.
+     *
+     * @param fileUrls 삭제할 파일 URL
+     */
+    public void deleteAfterCommit(Collection<String> fileUrls) {
+        List<String> urls = fileUrls.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        if (urls.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(urls);
+                }
+            });
+        } else {
+            enqueue(urls);
+        }
+    }
+
+    /**
+     * 대기 중인 파일을 삭제합니다. 실행 중 새로 들어온 파일은 다음 주기에 처리합니다.
+     */
+    @Scheduled(fixedDelayString = "${image.cleanup.interval-ms:5000}")
+    public void drain() {
+        for (int remaining = queue.size(); remaining > 0; remaining--) {
+            PendingFile file = queue.poll();
+            if (file == null) {
+                break;
+            }
+            try {
+                fileStorageService.deleteFile(file.url);
+            } catch (RuntimeException e) {
+                if (file.attempts + 1 < MAX_ATTEMPTS) {
+                    queue.add(new PendingFile(file.url, file.attempts + 1));
+                } else {
+                    log.error("Giving up deleting file {} after {} attempts: {}", file.url, MAX_ATTEMPTS, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 정상 종료 시 남은 파일을 정리합니다.
+     */
+    @PreDestroy
+    public void drainOnShutdown() {
+        drain();
+    }
+
+    private void enqueue(List<String> urls) {
+        urls.forEach(url -> queue.add(new PendingFile(url, 0)));
+    }
+
+    private static final class PendingFile {
+        private final String url;
+        private final int attempts;
+
+        private PendingFile(String url, int attempts) {
+            this.url = url;
+            this.attempts = attempts;
+        }
+    }
+}
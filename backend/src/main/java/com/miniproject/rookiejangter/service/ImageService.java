@@ -3,11 +3,13 @@ package com.miniproject.rookiejangter.service;
 import com.miniproject.rookiejangter.dto.ImageDTO;
 import com.miniproject.rookiejangter.entity.Image;
 import com.miniproject.rookiejangter.entity.Product;
+import com.miniproject.rookiejangter.event.ProductChangedEvent;
 import com.miniproject.rookiejangter.exception.BusinessException;
 import com.miniproject.rookiejangter.exception.ErrorCode;
 import com.miniproject.rookiejangter.repository.ImageRepository;
 import com.miniproject.rookiejangter.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +22,7 @@ public class ImageService {
 
     private final ImageRepository imageRepository;
     private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 상품에 이미지를 추가합니다.
@@ -38,6 +41,7 @@ public class ImageService {
                 .imageUrl(imageUrl)
                 .build();
         Image savedImage = imageRepository.save(image);
+        publishImagesChanged(product);
         return ImageDTO.Response.fromEntity(savedImage);
     }
 
@@ -82,6 +86,7 @@ public class ImageService {
         Image image = imageRepository.findById(imageId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.IMAGE_NOT_FOUND, imageId));
         imageRepository.delete(image);
+        publishImagesChanged(image.getProduct());
     }
 
     /**
@@ -91,10 +96,17 @@ public class ImageService {
      */
     @Transactional
     public void deleteImagesByProductId(Long productId) {
-        if (!productRepository.existsById(productId)) {
-            throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND, productId);
-        }
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND, productId));
         List<Image> images = imageRepository.findByProduct_ProductId(productId);
         imageRepository.deleteAll(images);
+        if (!images.isEmpty()) {
+            publishImagesChanged(product);
+        }
+    }
+
+    // 썸네일이 바뀌므로 상품 수정과 같은 이벤트로 알림: 커밋 후 상품 상세 캐시가 (다른 서버 포함) 무효화됨
+    private void publishImagesChanged(Product product) {
+        eventPublisher.publishEvent(ProductChangedEvent.of(ProductChangedEvent.Type.UPDATED, product));
     }
 }
\ No newline at end of file
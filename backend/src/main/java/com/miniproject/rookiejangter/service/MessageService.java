@@ -1,24 +1,32 @@
 package com.miniproject.rookiejangter.service;
 
+import com.miniproject.rookiejangter.archive.MessageArchiveService;
+import com.miniproject.rookiejangter.archive.MessageRecord;
+import com.miniproject.rookiejangter.dto.CursorDTO;
 import com.miniproject.rookiejangter.dto.MessageDTO;
-import com.miniproject.rookiejangter.entity.Chat;
-import com.miniproject.rookiejangter.entity.EntityType;
+import com.miniproject.rookiejangter.entity.ChatSummary;
 import com.miniproject.rookiejangter.entity.Message;
-import com.miniproject.rookiejangter.entity.User;
 import com.miniproject.rookiejangter.exception.BusinessException;
 import com.miniproject.rookiejangter.exception.ErrorCode;
+import com.miniproject.rookiejangter.pubsub.ReadReceiptBatcher;
 import com.miniproject.rookiejangter.repository.ChatRepository;
+import com.miniproject.rookiejangter.repository.ChatSummaryRepository;
 import com.miniproject.rookiejangter.repository.MessageRepository;
 import com.miniproject.rookiejangter.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,60 +37,39 @@ public class MessageService {
     private final MessageRepository messageRepository;
     private final ChatRepository chatRepository;
     private final UserRepository userRepository;
-    private final NotificationService notificationService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatSummaryRepository chatSummaryRepository;
+    private final ChatMessagePipeline chatMessagePipeline;
+    private final ReadReceiptBatcher readReceiptBatcher;
+    private final MessageArchiveService messageArchiveService;
 
     /**
      * 특정 채팅방에 메시지를 전송합니다.
+     * 메시지는 ID를 발급받아 바로 구독자에게 전달되고, 메시지와 수신자 알림은 ChatMessagePipeline이 모아서 저장합니다.
+     * 호출한 쪽에 트랜잭션이 있으면(예: 채팅방 생성과 첫 메시지) 그 트랜잭션이 커밋된 뒤에 전달/저장됩니다.
      *
      * @param chatId 메시지를 전송할 채팅방 ID
      * @param request 메시지 내용 요청 DTO
      * @param senderId 메시지를 보내는 사용자 ID
      * @return 전송된 메시지의 응답 DTO
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public MessageDTO.Response sendMessage(Long chatId, MessageDTO.Request request, Long senderId) {
-        Chat chat = chatRepository.findById(chatId)
+        ChatRepository.ChatParticipants participants = chatRepository.findParticipantsById(chatId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CHATROOM_NOT_FOUND, chatId));
+        // 메시지는 저장 전에 ID를 받아 전달되므로, 저장할 수 없는 보낸 사람은 여기서 거절
+        if (!userRepository.existsById(senderId)) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND, senderId);
+        }
+        if (!senderId.equals(participants.getBuyerId()) && !senderId.equals(participants.getSellerId())) {
+            throw new BusinessException(ErrorCode.CHAT_FORBIDDEN_ACCESS);
+        }
 
-        User sender = userRepository.findById(senderId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, senderId));
-
-        User receiver = chat.getBuyer().getUserId().equals(senderId) ?
-                userRepository.findById(chat.getSeller().getUserId())
-                        .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, chat.getSeller().getUserId())) :
-                userRepository.findById(chat.getBuyer().getUserId())
-                        .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, chat.getBuyer().getUserId()));
+        Long receiverId = participants.getBuyerId().equals(senderId)
+                ? participants.getSellerId()
+                : participants.getBuyerId();
 
         // 메시지 전송 시에는 아직 읽지 않은 상태 (isRead = false)
-        Message message = Message.builder()
-                .chat(chat)
-                .sender(sender)
-                .content(request.getContent())
-                .isRead(false)
-                .createdAt(LocalDateTime.now())
-                .build();
-
-        Message savedMessage = messageRepository.save(message);
-//        return MessageDTO.Response.fromEntity(savedMessage, chatId);
-
-        // 🌟 이 부분이 핵심: 메시지를 저장한 후, 웹소켓 토픽으로 발행
-        MessageDTO.Response responseDTO = MessageDTO.Response.fromEntity(savedMessage, chatId);
-        messagingTemplate.convertAndSend(
-                "/sub/chat/room/" + chatId,
-                responseDTO // 발행할 객체 (프론트엔드에서 파싱할 JSON 형태)
-        );
-
-        // 알림 생성
-        String notificationMessageToReceiver = "'" + sender.getUserName() + "'님의 메시지: " + message.getContent();
-
-        notificationService.createNotification(
-                receiver.getUserId(),
-                message.getMessageId(),
-                EntityType.MESSAGE.name(), 
-                notificationMessageToReceiver
-        );
-
-        return responseDTO;
+        return chatMessagePipeline.submit(chatId, senderId, receiverId, request.getContent());
     }
 
     /**
@@ -99,11 +86,16 @@ public class MessageService {
             throw new BusinessException(ErrorCode.CHATROOM_NOT_FOUND, chatId);
         }
 
-        Page<Message> messagePage = messageRepository.findByChat_ChatId(chatId, pageable);
-
-        List<MessageDTO.MessageListResponse.MessageResponse> messageResponses = messagePage.getContent().stream()
-                .map(MessageDTO.MessageListResponse.MessageResponse::fromEntity)
-                .collect(Collectors.toList());
+        BiPredicate<Long, Long> readState = readState(chatId);
+        Page<MessageDTO.MessageListResponse.MessageResponse> messagePage;
+        long archived = messageArchiveService.countArchived(chatId);
+        if (archived > 0) {
+            // 오래된 메시지 일부가 보관소로 옮겨진 채팅방: 보관분과 테이블에 남은 메시지를 이어서 조회
+            messagePage = messageArchiveService.findMergedPage(chatId, archived, pageable).map(toRecordResponse(readState));
+        } else {
+            messagePage = messageRepository.findByChat_ChatId(chatId, pageable).map(toResponse(readState));
+        }
+        List<MessageDTO.MessageListResponse.MessageResponse> messageResponses = messagePage.getContent();
 
         return MessageDTO.MessageListResponse.builder()
                 .page(messagePage.getNumber())
@@ -117,33 +109,121 @@ public class MessageService {
     }
 
     /**
-     * 특정 메시지를 읽음 상태로 변경합니다.
+     * 특정 채팅방의 메시지를 커서 기반으로 최신순 조회합니다. (위로 스크롤하며 과거 메시지를 불러오는 용도)
      *
-     * @param messageId 읽음 처리할 메시지 ID
+     * @param chatId 메시지 목록을 조회할 채팅방 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null 또는 빈 값)
+     * @param size   페이지 크기
+     * @return 메시지 목록 슬라이스 DTO
      */
-    public void markMessageAsRead(Long messageId) {
-        // 메시지 존재 여부 확인
-        if (!messageRepository.existsById(messageId)) {
-            throw new BusinessException(ErrorCode.MESSAGE_NOT_FOUND, messageId);
+    @Transactional(readOnly = true)
+    public CursorDTO.SliceResponse<MessageDTO.MessageListResponse.MessageResponse> getMessagesByChatIdAndCursor(Long chatId, String cursor, int size) {
+        if (!chatRepository.existsById(chatId)) {
+            throw new BusinessException(ErrorCode.CHATROOM_NOT_FOUND, chatId);
+        }
+
+        CursorDTO.Cursor position = CursorDTO.decode(cursor);
+        Pageable pageable = CursorDTO.pageRequest(size);
+        Slice<Message> messageSlice = position == null
+                ? messageRepository.findFirstSliceByChatId(chatId, pageable)
+                : messageRepository.findSliceByChatIdBefore(chatId, position.getCreatedAt(), position.getId(), pageable);
+        BiPredicate<Long, Long> readState = readState(chatId);
+        if (messageSlice.hasNext()) {
+            return CursorDTO.SliceResponse.of(messageSlice,
+                    toResponse(readState),
+                    Message::getCreatedAt,
+                    Message::getMessageId);
+        }
+
+        // 테이블에 남은 메시지를 다 읽었으면 나머지를 보관소에서 이어서 채움 (보관된 메시지는 모두 남은 메시지보다 오래됨)
+        List<MessageDTO.MessageListResponse.MessageResponse> content = messageSlice.getContent().stream()
+                .map(toResponse(readState))
+                .collect(Collectors.toList());
+        LocalDateTime beforeCreatedAt = position != null ? position.getCreatedAt() : null;
+        Long beforeId = position != null ? position.getId() : null;
+        if (!messageSlice.getContent().isEmpty()) {
+            Message oldest = messageSlice.getContent().get(messageSlice.getNumberOfElements() - 1);
+            beforeCreatedAt = oldest.getCreatedAt();
+            beforeId = oldest.getMessageId();
         }
-        messageRepository.updateIsReadByMessageId(true, messageId);
+        int remaining = pageable.getPageSize() - content.size();
+        List<MessageRecord> archived = messageArchiveService.readArchivedBefore(chatId, beforeCreatedAt, beforeId, remaining + 1);
+        boolean hasNext = archived.size() > remaining;
+        List<MessageRecord> page = hasNext ? archived.subList(0, remaining) : archived;
+        page.stream().map(toRecordResponse(readState)).forEach(content::add);
+
+        String nextCursor = null;
+        if (hasNext && !content.isEmpty()) {
+            MessageDTO.MessageListResponse.MessageResponse last = content.get(content.size() - 1);
+            nextCursor = CursorDTO.encode(last.getCreatedAt(), last.getMessageId());
+        }
+        return CursorDTO.SliceResponse.<MessageDTO.MessageListResponse.MessageResponse>builder()
+                .content(content)
+                .size(pageable.getPageSize())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
     }
 
     /**
-     * 특정 채팅방 내에서 특정 사용자를 수신자로 하는 모든 읽지 않은 메시지를 읽음 상태로 변경합니다.
-     * (즉, userId는 메시지를 읽는 사람의 ID이며, 해당 사용자가 받은 메시지 중 읽지 않은 메시지를 대상으로 함)
+     * 특정 메시지까지 읽음 처리합니다. 읽는 사용자의 읽은 위치를 이 메시지로 옮깁니다.
+     *
+     * @param chatId 채팅방 ID
+     * @param messageId 읽음 처리할 메시지 ID
+     * @param readerId 메시지를 읽는 사용자 ID
+     */
+    public void markMessageAsRead(Long chatId, Long messageId, Long readerId) {
+        advanceReadWatermark(chatId, readerId, messageId);
+    }
+
+    /**
+     * 특정 채팅방에서 사용자가 클라이언트에 표시된 마지막 메시지까지 받은 메시지를 모두 읽음 처리합니다.
+     * 메시지 행은 건드리지 않고, 채팅방 요약의 읽은 위치를 옮기는 한 행만 갱신합니다.
      *
      * @param chatId 메시지를 읽음 처리할 채팅방 ID
-     * @param
-     * @param
+     * @param readerId 메시지를 읽는 사용자 ID
+     * @param lastSeenMessageId 사용자가 본 마지막 메시지 ID
      */
-    public void markAllMessagesAsRead(Long chatId, Long senderId) {
-        // 채팅방 존재 여부 확인
-        if (!chatRepository.existsById(chatId)) {
-            throw new BusinessException(ErrorCode.CHATROOM_NOT_FOUND, chatId);
+    public void markAllMessagesAsRead(Long chatId, Long readerId, Long lastSeenMessageId) {
+        advanceReadWatermark(chatId, readerId, lastSeenMessageId);
+    }
+
+    // 읽은 위치는 메시지 ID만으로 옮기므로, 아직 저장 대기 중인 메시지도 읽음 처리할 수 있음 (보관된 메시지는 보관할 때 이미 읽음 처리됨)
+    // 발급된 적 없는 ID로 앞질러 가지 않도록 현재까지 발급된 가장 큰 ID로 제한하며, 이미 더 뒤까지 읽었으면 바꾸지 않음
+    private void advanceReadWatermark(Long chatId, Long readerId, Long lastSeenMessageId) {
+        ChatRepository.ChatParticipants participants = chatRepository.findParticipantsById(chatId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CHATROOM_NOT_FOUND, chatId));
+        if (!readerId.equals(participants.getBuyerId()) && !readerId.equals(participants.getSellerId())) {
+            throw new BusinessException(ErrorCode.CHAT_FORBIDDEN_ACCESS);
+        }
+        if (lastSeenMessageId == null) {
+            return;
+        }
+        long watermark = Math.min(lastSeenMessageId, chatMessagePipeline.lastIssuedId());
+        if (watermark > 0 && chatSummaryRepository.advanceReadTo(chatId, readerId, watermark) > 0) {
+            readReceiptBatcher.submit(chatId, readerId, watermark);
+        }
+    }
+
+    // 메시지는 받은 참여자(보낸 사람이 아닌 쪽)의 읽은 위치 이하이면 읽음: (보낸 사람 ID, 메시지 ID) → 읽음 여부
+    private BiPredicate<Long, Long> readState(Long chatId) {
+        Map<Long, Long> watermarks = new HashMap<>();
+        for (ChatSummary summary : chatSummaryRepository.findAllByChat_ChatId(chatId)) {
+            if (summary.getLastReadMessageId() != null) {
+                watermarks.put(summary.getUserId(), summary.getLastReadMessageId());
+            }
         }
+        return (senderId, messageId) -> watermarks.entrySet().stream()
+                .anyMatch(entry -> !entry.getKey().equals(senderId) && entry.getValue() >= messageId);
+    }
+
+    private Function<Message, MessageDTO.MessageListResponse.MessageResponse> toResponse(BiPredicate<Long, Long> readState) {
+        return message -> MessageDTO.MessageListResponse.MessageResponse.fromEntity(message,
+                readState.test(message.getSender() != null ? message.getSender().getUserId() : null, message.getMessageId()));
+    }
 
-        // 특정 채팅방에서 senderId가 아닌 메시지 중 읽지 않은 메시지들을 찾아서 읽음 처리
-        List<Message> unreadMessages = messageRepository.findByChat_ChatIdAndIsReadFalseAndSender_UserIdNot(chatId, senderId);
+    private Function<MessageRecord, MessageDTO.MessageListResponse.MessageResponse> toRecordResponse(BiPredicate<Long, Long> readState) {
+        return record -> MessageDTO.MessageListResponse.MessageResponse.fromRecord(record,
+                readState.test(record.getSenderId(), record.getMessageId()));
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.miniproject.rookiejangter.service;
 
+import com.miniproject.rookiejangter.dto.CursorDTO;
 import com.miniproject.rookiejangter.dto.NotificationDTO;
 import com.miniproject.rookiejangter.entity.Notification;
 import com.miniproject.rookiejangter.entity.User;
@@ -10,6 +11,7 @@ import com.miniproject.rookiejangter.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -72,6 +74,26 @@ public class NotificationService {
         return notificationsPage.map(NotificationDTO.Response::fromEntity);
     }
 
+    /** 특정 사용자의 알림을 커서 기반으로 최신순 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null 또는 빈 값)
+     * @param size   페이지 크기
+     * @return 알림 목록 슬라이스
+     */
+    @Transactional(readOnly = true)
+    public CursorDTO.SliceResponse<NotificationDTO.Response> getNotificationsByUserIdAndCursor(Long userId, String cursor, int size) {
+        CursorDTO.Cursor position = CursorDTO.decode(cursor);
+        Pageable pageable = CursorDTO.pageRequest(size);
+        Slice<Notification> notificationSlice = position == null
+                ? notificationRepository.findFirstSliceByUserId(userId, pageable)
+                : notificationRepository.findSliceByUserIdBefore(userId, position.getCreatedAt(), position.getId(), pageable);
+        return CursorDTO.SliceResponse.of(notificationSlice,
+                NotificationDTO.Response::fromEntity,
+                Notification::getCreatedAt,
+                Notification::getNotificationId);
+    }
+
     /** 특정 사용자의 읽지 않은 알림 개수를 조회합니다.
      *
      * @param userId 사용자 ID
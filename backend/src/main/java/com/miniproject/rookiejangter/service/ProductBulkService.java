@@ -0,0 +1,209 @@
+package com.miniproject.rookiejangter.service;
+
+import com.miniproject.rookiejangter.dto.ProductDTO;
+import com.miniproject.rookiejangter.entity.Product;
+import com.miniproject.rookiejangter.event.ProductChangedEvent;
+import com.miniproject.rookiejangter.exception.ErrorCode;
+import com.miniproject.rookiejangter.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 판매자의 여러 상품을 한 번에 수정/삭제합니다.
+ * 대상 상품은 한 번의 쿼리로 읽어 항목별로 권한/상태를 확인하고, 통과한 상품만 JDBC 배치 또는
+ * IN 조건의 단일 UPDATE/DELETE로 한 트랜잭션에서 반영합니다. 실패한 항목은 전체를 롤백하지 않고 결과에 사유를 담습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductBulkService {
+
+    private static final String UPDATE_PRICE_SQL =
+            "UPDATE products SET price = ?, updated_at = ? WHERE product_id = ? AND user_id = ?";
+    private static final String UPDATE_STATUS_SQL =
+            "UPDATE products SET is_reserved = COALESCE(:reserved, is_reserved), "
+                    + "is_completed = COALESCE(:completed, is_completed), updated_at = :now "
+                    + "WHERE product_id IN (:ids) AND user_id = :userId";
+    private static final String SELECT_IMAGE_URLS_SQL = "SELECT image_url FROM images WHERE product_id IN (:ids)";
+    private static final String DELETE_IMAGES_SQL = "DELETE FROM images WHERE product_id IN (:ids)";
+    private static final String DELETE_DIBS_SQL = "DELETE FROM dibs WHERE product_id IN (:ids)";
+    private static final String DELETE_BUMPS_SQL = "DELETE FROM bumps WHERE product_id IN (:ids)";
+    private static final String DELETE_PRODUCTS_SQL = "DELETE FROM products WHERE product_id IN (:ids) AND user_id = :userId";
+
+    private final ProductRepository productRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FileCleanupService fileCleanupService;
+
+    /**
+     * 여러 상품의 가격을 한 번의 JDBC 배치로 변경합니다.
+     *
+     * @param request 상품별 변경할 가격
+     * @param userId  사용자 ID (판매자 확인용)
+     * @return 항목별 처리 결과
+     */
+    @Transactional
+    public ProductDTO.BulkResult updatePrices(ProductDTO.BulkPriceUpdateRequest request, Long userId) {
+        // 같은 상품이 여러 번 오면 마지막 가격을 적용
+        Map<Long, Integer> prices = new LinkedHashMap<>();
+        request.getItems().forEach(item -> prices.put(item.getProductId(), item.getPrice()));
+
+        Map<Long, Product> products = findProducts(prices.keySet());
+        List<ProductDTO.BulkItemResult> results = new ArrayList<>(prices.size());
+        List<Product> targets = new ArrayList<>();
+        for (Map.Entry<Long, Integer> entry : prices.entrySet()) {
+            Product product = products.get(entry.getKey());
+            ProductDTO.BulkItemResult failure = checkOwner(entry.getKey(), product, userId, "수정");
+            if (failure == null && entry.getValue() < 0) {
+                failure = ProductDTO.BulkItemResult.failure(entry.getKey(), ErrorCode.PRODUCT_PRICE_NEGATIVE);
+            }
+            if (failure != null) {
+                results.add(failure);
+                continue;
+            }
+            targets.add(product);
+            results.add(ProductDTO.BulkItemResult.success(entry.getKey()));
+        }
+
+        if (!targets.isEmpty()) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> batch = targets.stream()
+                    .map(product -> new Object[]{prices.get(product.getProductId()), now, product.getProductId(), userId})
+                    .collect(Collectors.toList());
+            jdbcTemplate.batchUpdate(UPDATE_PRICE_SQL, batch);
+            targets.forEach(product -> eventPublisher.publishEvent(
+                    ProductChangedEvent.of(ProductChangedEvent.Type.UPDATED, product).toBuilder()
+                            .price(prices.get(product.getProductId()))
+                            .build()));
+        }
+        return ProductDTO.BulkResult.of(results);
+    }
+
+    /**
+     * 여러 상품의 예약/거래 완료 상태를 하나의 UPDATE로 변경합니다. 값이 없는 상태는 그대로 둡니다.
+     *
+     * @param request 대상 상품 ID와 변경할 상태
+     * @param userId  사용자 ID (판매자 확인용)
+     * @return 항목별 처리 결과
+     */
+    @Transactional
+    public ProductDTO.BulkResult updateStatuses(ProductDTO.BulkStatusUpdateRequest request, Long userId) {
+        Boolean reserved = request.getIsReserved();
+        Boolean completed = request.getIsCompleted();
+        Map<Long, Product> products = findProducts(request.getProductIds());
+
+        List<ProductDTO.BulkItemResult> results = new ArrayList<>();
+        List<Product> targets = new ArrayList<>();
+        for (Long productId : new LinkedHashSet<>(request.getProductIds())) {
+            Product product = products.get(productId);
+            ProductDTO.BulkItemResult failure = checkOwner(productId, product, userId, "상태 변경");
+            if (failure != null) {
+                results.add(failure);
+                continue;
+            }
+            targets.add(product);
+            results.add(ProductDTO.BulkItemResult.success(productId));
+        }
+
+        if (!targets.isEmpty() && (reserved != null || completed != null)) {
+            namedParameterJdbcTemplate.update(UPDATE_STATUS_SQL, new MapSqlParameterSource()
+                    .addValue("reserved", reserved)
+                    .addValue("completed", completed)
+                    .addValue("now", Timestamp.valueOf(LocalDateTime.now()))
+                    .addValue("ids", idsOf(targets))
+                    .addValue("userId", userId));
+            targets.forEach(product -> eventPublisher.publishEvent(
+                    ProductChangedEvent.of(ProductChangedEvent.Type.STATUS_CHANGED, product).toBuilder()
+                            .reserved(reserved != null ? reserved : Boolean.TRUE.equals(product.getIsReserved()))
+                            .completed(completed != null ? completed : Boolean.TRUE.equals(product.getIsCompleted()))
+                            .build()));
+        }
+        return ProductDTO.BulkResult.of(results);
+    }
+
+    /**
+     * 여러 상품을 삭제합니다. 이미지/찜/끌어올리기 기록과 상품을 테이블별 한 번의 DELETE로 지웁니다.
+     * 이미지 파일은 커밋 후 정리 큐에서 삭제합니다.
+     * 예약 중이거나 거래 완료된 상품은 단건 삭제와 같이 삭제하지 않습니다.
+     *
+     * @param request 삭제할 상품 ID
+     * @param userId  사용자 ID (판매자 확인용)
+     * @return 항목별 처리 결과
+     */
+    @Transactional
+    public ProductDTO.BulkResult deleteProducts(ProductDTO.BulkDeleteRequest request, Long userId) {
+        Map<Long, Product> products = findProducts(request.getProductIds());
+
+        List<ProductDTO.BulkItemResult> results = new ArrayList<>();
+        List<Product> targets = new ArrayList<>();
+        for (Long productId : new LinkedHashSet<>(request.getProductIds())) {
+            Product product = products.get(productId);
+            ProductDTO.BulkItemResult failure = checkOwner(productId, product, userId, "삭제");
+            if (failure == null && (Boolean.TRUE.equals(product.getIsReserved())
+                    || Boolean.TRUE.equals(product.getIsCompleted()))) {
+                failure = ProductDTO.BulkItemResult.failure(productId, ErrorCode.RESERVATION_REMAIN_CANNOT_DELETE);
+            }
+            if (failure != null) {
+                results.add(failure);
+                continue;
+            }
+            targets.add(product);
+            results.add(ProductDTO.BulkItemResult.success(productId));
+        }
+
+        if (!targets.isEmpty()) {
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("ids", idsOf(targets))
+                    .addValue("userId", userId);
+            List<String> imageUrls = namedParameterJdbcTemplate.queryForList(SELECT_IMAGE_URLS_SQL, params, String.class);
+            namedParameterJdbcTemplate.update(DELETE_IMAGES_SQL, params);
+            namedParameterJdbcTemplate.update(DELETE_DIBS_SQL, params);
+            namedParameterJdbcTemplate.update(DELETE_BUMPS_SQL, params);
+            namedParameterJdbcTemplate.update(DELETE_PRODUCTS_SQL, params);
+            fileCleanupService.deleteAfterCommit(imageUrls);
+            targets.forEach(product -> eventPublisher.publishEvent(
+                    ProductChangedEvent.of(ProductChangedEvent.Type.DELETED, product)));
+        }
+        log.info("Bulk deleted {} of {} products for user {}", targets.size(), results.size(), userId);
+        return ProductDTO.BulkResult.of(results);
+    }
+
+    // 판매자/지역/카테고리까지 한 번에 조회 (변경 이벤트의 스냅샷에 필요)
+    private Map<Long, Product> findProducts(Iterable<Long> productIds) {
+        List<Long> ids = new ArrayList<>();
+        productIds.forEach(ids::add);
+        return productRepository.findByProductIdIn(ids).stream()
+                .collect(Collectors.toMap(Product::getProductId, Function.identity()));
+    }
+
+    private static ProductDTO.BulkItemResult checkOwner(Long productId, Product product, Long userId, String operation) {
+        if (product == null) {
+            return ProductDTO.BulkItemResult.failure(productId, ErrorCode.PRODUCT_NOT_FOUND, productId);
+        }
+        if (product.getUser() == null || !product.getUser().getUserId().equals(userId)) {
+            return ProductDTO.BulkItemResult.failure(productId, ErrorCode.PRODUCT_OPERATION_FORBIDDEN, operation);
+        }
+        return null;
+    }
+
+    private static List<Long> idsOf(List<Product> products) {
+        return products.stream().map(Product::getProductId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,471 @@
+package com.miniproject.rookiejangter.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.miniproject.rookiejangter.dto.ProductDTO;
+import com.miniproject.rookiejangter.entity.Category;
+import com.miniproject.rookiejangter.entity.User;
+import com.miniproject.rookiejangter.event.ProductChangedEvent;
+import com.miniproject.rookiejangter.exception.BusinessException;
+import com.miniproject.rookiejangter.exception.ErrorCode;
+import com.miniproject.rookiejangter.repository.CategoryRepository;
+import com.miniproject.rookiejangter.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * NDJSON/CSV로 올린 상품 목록을 스트리밍으로 등록합니다.
+ * 요청 본문을 한 행씩 읽어 검증하고, 통과한 행을 batch-size개씩 모아 다중 행 INSERT 한 번으로 저장합니다.
+ * 배치마다 별도 트랜잭션으로 커밋하며, 진행 상황과 실패한 행은 NDJSON 한 줄씩 바로 응답에 씁니다.
+ * 파일 전체를 메모리에 올리지 않으므로 메모리 사용량은 배치 크기에만 비례합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductImportService {
+
+    private static final String INSERT_PREFIX = "INSERT INTO products (category_id, user_id, title, content, price, "
+            + "view_count, is_bumped, is_reserved, is_completed, created_at, updated_at, bumped_at) VALUES ";
+    private static final String INSERT_ROW = "(?, ?, ?, ?, ?, 0, false, false, false, ?, ?, ?)";
+    // 드라이버가 첫 번째 키만 돌려줄 때, 같은 트랜잭션에서 방금 넣은 행의 ID를 다시 읽음
+    private static final String SELECT_INSERTED_IDS = "SELECT product_id FROM products "
+            + "WHERE product_id >= ? AND user_id = ? AND created_at = ? ORDER BY product_id LIMIT ?";
+
+    // 응답이 실패 행으로만 가득 차지 않도록 개별 실패 보고는 이 수까지만 (이후는 건수만 집계)
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    @Value("${product.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${product.import.max-rows:50000}")
+    private int maxRows;
+
+    public enum Format {
+        NDJSON,
+        CSV;
+
+        public static Format fromContentType(String contentType) {
+            return contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith("text/csv") ? CSV : NDJSON;
+        }
+    }
+
+    /**
+     * 상품 목록을 읽어 등록하고 진행 상황을 out에 NDJSON으로 씁니다.
+     * 사용자 확인은 응답을 쓰기 전에 하므로, 사용자가 없으면 일반 오류 응답이 됩니다.
+     *
+     * @param body   요청 본문
+     * @param format 본문 형식
+     * @param userId 사용자 ID (판매자)
+     * @param out    진행 상황을 쓸 응답
+     * @return 최종 처리 결과
+     */
+    public ProductDTO.ImportProgress importProducts(InputStream body, Format format, Long userId, Writer out) throws IOException {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, userId));
+        Integer areaId = user.getArea() != null ? user.getArea().getAreaId() : null;
+        CategoryLookup categories = new CategoryLookup(categoryRepository.findAll());
+
+        Import state = new Import(userId, areaId, out);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        try {
+            if (format == Format.CSV) {
+                readCsv(reader, categories, state);
+            } else {
+                readNdjson(reader, categories, state);
+            }
+            state.flush();
+        } catch (RuntimeException | IOException e) {
+            // 이미 커밋된 배치는 유지되고, 중단 지점을 알려 이어서 올릴 수 있게 함
+            log.error("Product import aborted for user {} at line {}: {}", userId, state.line, e.getMessage(), e);
+            ProductDTO.ImportProgress aborted = state.progress("ABORTED", "가져오기가 중단되었습니다. 이 행부터 다시 올려 주세요.");
+            aborted.setLine(state.resumeLine());
+            try {
+                state.write(aborted);
+            } catch (IllegalStateException ignored) {
+                // 클라이언트 연결이 끊긴 경우
+            }
+            return aborted;
+        }
+        ProductDTO.ImportProgress done = state.progress("DONE",
+                state.limitReached() ? "한 번에 최대 " + maxRows + "행까지 처리합니다. 나머지 행은 다시 올려 주세요." : null);
+        state.write(done);
+        log.info("Imported {} products for user {} ({} failed)", state.imported, userId, state.failed);
+        return done;
+    }
+
+    private void readNdjson(BufferedReader reader, CategoryLookup categories, Import state) throws IOException {
+        String line;
+        while (!state.limitReached() && (line = reader.readLine()) != null) {
+            state.line++;
+            if (line.isBlank()) {
+                continue;
+            }
+            ProductDTO.ImportRow row;
+            try {
+                row = objectMapper.readValue(line, ProductDTO.ImportRow.class);
+            } catch (IOException e) {
+                state.rejectWithMessage(ErrorCode.INVALID_INPUT_VALUE, "JSON 형식이 올바르지 않습니다.");
+                continue;
+            }
+            accept(row, categories, state);
+        }
+    }
+
+    private void readCsv(Reader reader, CategoryLookup categories, Import state) throws IOException {
+        CsvReader csv = new CsvReader(reader);
+        List<String> header = csv.next();
+        if (header == null) {
+            return;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            // 엑셀에서 저장한 UTF-8 CSV의 BOM 제거
+            columns.put(header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT).replace("_", ""), i);
+        }
+        List<String> fields;
+        while (!state.limitReached() && (fields = csv.next()) != null) {
+            state.line = csv.line;
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            ProductDTO.ImportRow row = ProductDTO.ImportRow.builder()
+                    .title(column(fields, columns, "title"))
+                    .content(column(fields, columns, "content"))
+                    .category(column(fields, columns, "category"))
+                    .build();
+            try {
+                String price = column(fields, columns, "price");
+                String categoryId = column(fields, columns, "categoryid");
+                row.setPrice(price == null || price.isBlank() ? null : Integer.valueOf(price.trim()));
+                row.setCategoryId(categoryId == null || categoryId.isBlank() ? null : Integer.valueOf(categoryId.trim()));
+            } catch (NumberFormatException e) {
+                state.reject(ErrorCode.INVALID_TYPE_VALUE);
+                continue;
+            }
+            accept(row, categories, state);
+        }
+    }
+
+    private static String column(List<String> fields, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        return index != null && index < fields.size() ? fields.get(index) : null;
+    }
+
+    // 단건 등록(ProductDTO.Request)과 같은 규칙으로 검증
+    private void accept(ProductDTO.ImportRow row, CategoryLookup categories, Import state) {
+        String title = row.getTitle() != null ? row.getTitle().trim() : "";
+        String content = row.getContent() != null ? row.getContent().trim() : "";
+        if (title.isEmpty()) {
+            state.reject(ErrorCode.PRODUCT_NAME_EMPTY);
+        } else if (title.length() > 50) {
+            state.reject(ErrorCode.PRODUCT_NAME_TOO_LONG);
+        } else if (content.isEmpty()) {
+            state.reject(ErrorCode.PRODUCT_CONTENT_EMPTY);
+        } else if (content.length() > 255) {
+            state.reject(ErrorCode.PRODUCT_CONTENT_TOO_LONG);
+        } else if (row.getPrice() == null) {
+            state.rejectWithMessage(ErrorCode.INVALID_INPUT_VALUE, "가격은 필수입니다.");
+        } else if (row.getPrice() < 0) {
+            state.reject(ErrorCode.PRODUCT_PRICE_NEGATIVE);
+        } else {
+            Integer categoryId = categories.resolve(row.getCategoryId(), row.getCategory());
+            if (categoryId == null) {
+                Object key = row.getCategoryId() != null ? row.getCategoryId() : row.getCategory();
+                state.reject(ErrorCode.CATEGORY_NOT_FOUND, key);
+                return;
+            }
+            state.add(new PendingRow(state.line, title, content, row.getPrice(), categoryId));
+        }
+    }
+
+    /**
+     * 모인 행을 다중 행 INSERT 한 번으로 저장하고 생성된 ID로 등록 이벤트를 발행합니다.
+     * 드라이버가 첫 번째 키만 돌려주면 ID를 계산하지 않고(autoinc_lock_mode 2에서는 연속이 아님) 방금 넣은 행을 다시 읽으며,
+     * 읽은 ID 수가 행 수와 다르면 배치를 롤백합니다.
+     */
+    private void insertBatch(List<PendingRow> rows, Long userId, Integer areaId) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp timestamp = Timestamp.valueOf(now);
+        String sql = INSERT_PREFIX + rows.stream().map(row -> INSERT_ROW).collect(Collectors.joining(", "));
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+                int i = 1;
+                for (PendingRow row : rows) {
+                    ps.setInt(i++, row.categoryId);
+                    ps.setLong(i++, userId);
+                    ps.setString(i++, row.title);
+                    ps.setString(i++, row.content);
+                    ps.setInt(i++, row.price);
+                    ps.setTimestamp(i++, timestamp);
+                    ps.setTimestamp(i++, timestamp);
+                    ps.setTimestamp(i++, timestamp);
+                }
+                return ps;
+            }, keyHolder);
+
+            List<Long> productIds = generatedIds(keyHolder, rows.size(), userId, timestamp);
+            for (int i = 0; i < rows.size(); i++) {
+                PendingRow row = rows.get(i);
+                eventPublisher.publishEvent(ProductChangedEvent.builder()
+                        .type(ProductChangedEvent.Type.CREATED)
+                        .productId(productIds.get(i))
+                        .sellerId(userId)
+                        .categoryId(row.categoryId)
+                        .areaId(areaId)
+                        .title(row.title)
+                        .content(row.content)
+                        .price(row.price)
+                        .viewCount(0)
+                        .createdAt(now)
+                        .bumpedAt(now)
+                        .build());
+            }
+        });
+    }
+
+    // 다중 행 INSERT의 ID는 VALUES 순서대로 커지므로, ID 오름차순이 곧 행 순서
+    private List<Long> generatedIds(KeyHolder keyHolder, int rowCount, Long userId, Timestamp createdAt) {
+        List<Long> ids = keyHolder.getKeyList().stream()
+                .map(key -> ((Number) key.values().iterator().next()).longValue())
+                .collect(Collectors.toList());
+        if (ids.size() != rowCount && !ids.isEmpty()) {
+            ids = jdbcTemplate.queryForList(SELECT_INSERTED_IDS, Long.class, ids.get(0), userId, createdAt, rowCount);
+        }
+        if (ids.size() != rowCount) {
+            throw new IllegalStateException("Expected " + rowCount + " generated product ids but got " + ids.size());
+        }
+        return ids;
+    }
+
+    /**
+     * 한 번의 가져오기 진행 상태입니다.
+     */
+    private final class Import {
+        private final Long userId;
+        private final Integer areaId;
+        private final Writer out;
+        private final List<PendingRow> pending = new ArrayList<>();
+        private long line;
+        private int processed;
+        private int imported;
+        private int failed;
+
+        private Import(Long userId, Integer areaId, Writer out) {
+            this.userId = userId;
+            this.areaId = areaId;
+            this.out = out;
+        }
+
+        // 아직 커밋되지 않은 배치가 있으면 그 첫 행부터 다시 올려야 함
+        private long resumeLine() {
+            return pending.isEmpty() ? line : pending.get(0).line;
+        }
+
+        private boolean limitReached() {
+            return processed >= maxRows;
+        }
+
+        private void add(PendingRow row) {
+            processed++;
+            pending.add(row);
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        private void reject(ErrorCode errorCode, Object... args) {
+            rejectWithMessage(errorCode, errorCode.formatMessage(args).trim());
+        }
+
+        private void rejectWithMessage(ErrorCode errorCode, String message) {
+            processed++;
+            failed++;
+            if (failed <= MAX_REPORTED_ERRORS) {
+                write(ProductDTO.ImportProgress.builder()
+                        .type("ERROR")
+                        .line(line)
+                        .errorCode(errorCode.getCode())
+                        .message(message)
+                        .build());
+            }
+        }
+
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            insertBatch(pending, userId, areaId);
+            imported += pending.size();
+            pending.clear();
+            write(progress("PROGRESS", null));
+        }
+
+        private ProductDTO.ImportProgress progress(String type, String message) {
+            return ProductDTO.ImportProgress.builder()
+                    .type(type)
+                    .line(line)
+                    .processed(processed)
+                    .imported(imported)
+                    .failed(failed)
+                    .message(message)
+                    .build();
+        }
+
+        private void write(ProductDTO.ImportProgress progress) {
+            try {
+                out.write(objectMapper.writeValueAsString(progress));
+                out.write('\n');
+                if (!"ERROR".equals(progress.getType())) {
+                    out.flush();
+                }
+            } catch (IOException e) {
+                // 클라이언트 연결이 끊기면 가져오기도 중단 (커밋된 배치는 유지)
+                throw new IllegalStateException("Failed to write import progress", e);
+            }
+        }
+    }
+
+    private static final class PendingRow {
+        private final long line;
+        private final String title;
+        private final String content;
+        private final int price;
+        private final int categoryId;
+
+        private PendingRow(long line, String title, String content, int price, int categoryId) {
+            this.line = line;
+            this.title = title;
+            this.content = content;
+            this.price = price;
+            this.categoryId = categoryId;
+        }
+    }
+
+    /**
+     * 가져오기 동안 카테고리 ID/이름을 DB 조회 없이 확인하기 위한 조회표입니다.
+     */
+    private static final class CategoryLookup {
+        private final Map<Integer, Integer> ids = new HashMap<>();
+        private final Map<String, Integer> names = new HashMap<>();
+
+        private CategoryLookup(List<Category> categories) {
+            for (Category category : categories) {
+                ids.put(category.getCategoryId(), category.getCategoryId());
+                if (category.getCategoryName() != null) {
+                    names.put(category.getCategoryName().trim().toLowerCase(Locale.ROOT), category.getCategoryId());
+                }
+            }
+        }
+
+        private Integer resolve(Integer categoryId, String categoryName) {
+            if (categoryId != null) {
+                return ids.get(categoryId);
+            }
+            return categoryName != null ? names.get(categoryName.trim().toLowerCase(Locale.ROOT)) : null;
+        }
+    }
+
+    /**
+     * RFC 4180 형식의 CSV를 한 레코드씩 읽습니다. 큰따옴표로 감싼 필드 안의 쉼표/줄바꿈/이중 큰따옴표를 지원합니다.
+     */
+    private static final class CsvReader {
+        private final Reader reader;
+        private long line;
+        private int peeked = -2;
+
+        private CsvReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        private List<String> next() throws IOException {
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+            line++;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        break; // 닫히지 않은 따옴표는 파일 끝에서 종료
+                    }
+                    if (c == '"') {
+                        int next = read();
+                        if (next == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            c = next;
+                            continue;
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.length() == 0) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\r' || c == '\n' || c == -1) {
+                    if (c == '\r') {
+                        int next = read();
+                        if (next != '\n') {
+                            peeked = next;
+                        }
+                    }
+                    break;
+                } else {
+                    field.append((char) c);
+                }
+                c = read();
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+
+        private int read() throws IOException {
+            if (peeked != -2) {
+                int c = peeked;
+                peeked = -2;
+                return c;
+            }
+            return reader.read();
+        }
+    }
+}
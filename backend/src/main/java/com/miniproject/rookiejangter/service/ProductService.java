@@ -1,19 +1,43 @@
 package com.miniproject.rookiejangter.service;
 
+import com.miniproject.rookiejangter.cache.ProductDetailCache;
+import com.miniproject.rookiejangter.dto.CursorDTO;
 import com.miniproject.rookiejangter.dto.ProductDTO;
 import com.miniproject.rookiejangter.entity.*;
+import com.miniproject.rookiejangter.event.ProductChangedEvent;
 import com.miniproject.rookiejangter.exception.BusinessException;
 import com.miniproject.rookiejangter.exception.ErrorCode;
 import com.miniproject.rookiejangter.repository.*;
+import com.miniproject.rookiejangter.search.FacetResult;
+import com.miniproject.rookiejangter.search.ProductCountIndex;
+import com.miniproject.rookiejangter.search.ProductAutocompleteIndex;
+import com.miniproject.rookiejangter.search.ProductChosungIndex;
+import com.miniproject.rookiejangter.search.ProductFacetIndex;
+import com.miniproject.rookiejangter.search.ProductFeedIndex;
+import com.miniproject.rookiejangter.search.ProductFilter;
+import com.miniproject.rookiejangter.search.ProductSearchIndex;
+import com.miniproject.rookiejangter.search.ProductSimilarityIndex;
+import com.miniproject.rookiejangter.search.ProductTrendingIndex;
+import com.miniproject.rookiejangter.search.SearchResult;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,6 +49,25 @@ public class ProductService {
     private final CategoryRepository categoryRepository;
     private final ImageRepository imageRepository;
     private final DibsRepository dibsRepository;
+    private final BumpRepository bumpRepository;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductFeedIndex productFeedIndex;
+    private final ProductCountIndex productCountIndex;
+    private final ProductFacetIndex productFacetIndex;
+    private final ProductAutocompleteIndex productAutocompleteIndex;
+    private final ProductChosungIndex productChosungIndex;
+    private final ProductTrendingIndex productTrendingIndex;
+    private final ProductSimilarityIndex productSimilarityIndex;
+    private final ProductViewCountService productViewCountService;
+    private final ProductDetailCache productDetailCache;
+    private final FileCleanupService fileCleanupService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${product.trending.size:50}")
+    private int trendingSize;
+
+    // 주기적으로 갱신되는 인기 상품 목록 (조회 시 DB 접근 없음)
+    private volatile List<ProductDTO.Response> trendingSnapshot = Collections.emptyList();
 
     /**
      * 상품을 생성합니다.
@@ -52,6 +95,7 @@ public class ProductService {
                 .isCompleted(false)
                 .build();
         Product savedProduct = productRepository.save(product);
+        eventPublisher.publishEvent(ProductChangedEvent.of(ProductChangedEvent.Type.CREATED, savedProduct));
 
         return mapToProductDTOResponse(savedProduct, userId);
     }
@@ -63,16 +107,34 @@ public class ProductService {
      * @param currentUserId  현재 사용자 ID (조회 시 사용)
      * @return 조회된 상품 정보 DTO
      */
-    @Transactional
     public ProductDTO.Response getProductById(Long productId, Long currentUserId) {
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND, productId));
+        // 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 조회 (미스 시 로더의 쿼리만 실행)
+        ProductDTO.Response response = productDetailCache.get(productId, () -> loadProductDetail(productId, currentUserId));
+
+        // 조회수는 메모리에 누적 후 주기적으로 일괄 반영 (조회 경로에서 행 잠금 없음)
+        productViewCountService.increment(productId);
+        productTrendingIndex.recordView(productId);
+        response.setViewCount(productViewCountService.currentViewCount(productId, response.getViewCount()));
+        return response;
+    }
 
-        product.incrementViewCount();
-        productRepository.save(product);
+    /**
+     * 상품 상세 캐시에 저장할 응답을 DB에서 만듭니다.
+     * 조회수는 DB에 저장된 값만 담고, 반영 대기 중인 조회수는 응답 시점에 더합니다.
+     *
+     * @param productId     상품 ID
+     * @param currentUserId 현재 사용자 ID (조회 시 사용)
+     * @return 캐시할 상품 정보 DTO
+     */
+    private ProductDTO.Response loadProductDetail(Long productId, Long currentUserId) {
+        Product product = productRepository.findDetailById(productId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND, productId));
 
         List<Image> images = imageRepository.findByProduct_ProductId(productId);
-        return mapToProductDTOResponse(product, currentUserId);
+        ProductDTO.Response response = mapToProductDTOResponse(product, currentUserId);
+        response.setThumbnailUrl(images.isEmpty() ? null : images.get(0).getImageUrl());
+        response.setViewCount(product.getViewCount() != null ? product.getViewCount() : 0);
+        return response;
     }
 
     /**
@@ -104,6 +166,7 @@ public class ProductService {
                 requestDto.getPrice() != null ? requestDto.getPrice() : product.getPrice()
         );
         // Product updatedProduct = productRepository.save(product); // 필요에 따라 호출
+        eventPublisher.publishEvent(ProductChangedEvent.of(ProductChangedEvent.Type.UPDATED, product));
 
         return mapToProductDTOResponse(product, userId);
     }
@@ -127,10 +190,15 @@ public class ProductService {
             throw new BusinessException(ErrorCode.RESERVATION_REMAIN_CANNOT_DELETE);
         }
 
-        imageRepository.deleteAll(imageRepository.findByProduct_ProductId(productId));
-        dibsRepository.deleteAll(dibsRepository.findByProduct_ProductId(productId));
+        // 연관 행은 엔티티를 읽지 않고 상품 단위 DELETE 한 번씩으로 삭제, 이미지 파일은 커밋 후 정리 큐에서 삭제
+        List<String> imageUrls = imageRepository.findImageUrlsByProductId(productId);
+        imageRepository.deleteAllByProductId(productId);
+        dibsRepository.deleteAllByProductId(productId);
+        bumpRepository.deleteByProduct_ProductId(productId);
 
         productRepository.delete(product);
+        fileCleanupService.deleteAfterCommit(imageUrls);
+        eventPublisher.publishEvent(ProductChangedEvent.of(ProductChangedEvent.Type.DELETED, product));
     }
 
     /**
@@ -145,7 +213,12 @@ public class ProductService {
     public ProductDTO.ProductListData getProductsByUser(Long targetUserId, Pageable pageable, Long currentUserId) {
         User user = userRepository.findById(targetUserId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, targetUserId));
-        Page<Product> productPage = productRepository.findByUser(user, pageable);
+        if (!productCountIndex.isReady()) {
+            return convertToProductListData(productRepository.findByUser(user, pageable), currentUserId);
+        }
+        // 판매자별 상품 수는 이벤트로 유지되는 건수를 사용 (목록마다 COUNT(*) 없음)
+        Page<Product> productPage = new PageImpl<>(productRepository.findAllByUser(user, pageable),
+                pageable, productCountIndex.countBySeller(targetUserId));
         return convertToProductListData(productPage, currentUserId);
     }
 
@@ -167,24 +240,53 @@ public class ProductService {
         }
 
         List<Image> images = imageRepository.findByProduct_ProductId(productId);
-        return mapToProductDTOResponse(product, userId);
+        ProductDTO.Response response = mapToProductDTOResponse(product, userId);
+        response.setThumbnailUrl(images.isEmpty() ? null : images.get(0).getImageUrl());
+        return response;
     }
 
     /**
-     * 모든 상품을 페이지네이션하여 조회합니다.
+     * 모든 상품을 피드 순서(끌어올린 시각 반영 최신순)로 페이지네이션하여 조회합니다.
      *
-     * @param pageable      페이지네이션 정보
+     * @param pageable      페이지네이션 정보 (정렬 조건은 무시되고 피드 순서로 고정)
      * @param currentUserId 현재 사용자 ID (조회 시 사용)
      * @return 상품 목록 데이터 DTO
      */
     @Transactional(readOnly = true)
     public ProductDTO.ProductListData getAllProducts(Pageable pageable, Long currentUserId) {
-        Page<Product> productPage = productRepository.findAllByOrderByCreatedAtDesc(pageable);
-        return convertToProductListData(productPage, currentUserId);
+        Pageable feedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        if (!productFeedIndex.isReady()) {
+            // 기동 직후 피드 인덱스 적재가 끝나기 전에는 (bumped_at, product_id) 인덱스로 DB 조회
+            return convertToProductListData(productRepository.findFeed(feedPageable), currentUserId);
+        }
+        SearchResult result = productFeedIndex.page(null, (int) feedPageable.getOffset(), feedPageable.getPageSize());
+        return convertToProductListData(toProductPage(result, feedPageable), currentUserId);
+    }
+
+    /**
+     * 모든 상품을 커서 기반으로 피드 순서(끌어올린 시각 반영 최신순)로 조회합니다. 전체 건수를 세지 않으므로 페이지 깊이와 무관하게 비용이 일정합니다.
+     *
+     * @param cursor        이전 응답의 nextCursor (첫 페이지는 null 또는 빈 값)
+     * @param size          페이지 크기
+     * @param currentUserId 현재 사용자 ID (조회 시 사용)
+     * @return 상품 목록 슬라이스 DTO
+     */
+    @Transactional(readOnly = true)
+    public CursorDTO.SliceResponse<ProductDTO.Response> getAllProductsByCursor(String cursor, int size, Long currentUserId) {
+        CursorDTO.Cursor position = CursorDTO.decode(cursor);
+        Pageable pageable = CursorDTO.pageRequest(size);
+        Slice<Product> productSlice = position == null
+                ? productRepository.findFirstSlice(pageable)
+                : productRepository.findSliceBefore(position.getCreatedAt(), position.getId(), pageable); // 상품 커서의 시각은 bumpedAt
+        Map<Long, String> thumbnails = findThumbnails(productSlice.getContent());
+        return CursorDTO.SliceResponse.of(productSlice,
+                product -> mapToProductListItem(product, thumbnails, currentUserId),
+                Product::getBumpedAt,
+                Product::getProductId);
     }
 
     /**
-     * 특정 카테고리의 상품을 페이지네이션하여 조회합니다.
+     * 특정 카테고리의 상품을 피드 순서(끌어올린 시각 반영 최신순)로 페이지네이션하여 조회합니다.
      *
      * @param categoryId   카테고리 ID
      * @param pageable     페이지네이션 정보
@@ -195,12 +297,16 @@ public class ProductService {
     public ProductDTO.ProductListData getProductsByCategory(Integer categoryId, Pageable pageable, Long currentUserId) {
         Category category = categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CATEGORY_NOT_FOUND, categoryId));
-        Page<Product> productPage = productRepository.findByCategory(category, pageable);
-        return convertToProductListData(productPage, currentUserId);
+        Pageable feedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        if (!productFeedIndex.isReady()) {
+            return convertToProductListData(productRepository.findFeedByCategory(category, feedPageable), currentUserId);
+        }
+        SearchResult result = productFeedIndex.page(categoryId, (int) feedPageable.getOffset(), feedPageable.getPageSize());
+        return convertToProductListData(toProductPage(result, feedPageable), currentUserId);
     }
 
     /**
-     * 상품 제목으로 상품을 검색합니다.
+     * 상품 제목으로 상품을 검색합니다. 초성만 입력하거나 초성이 섞인 검색어("ㅇㅇㅍ", "아ㅇ폰")도 지원합니다.
      *
      * @param title         상품 제목
      * @param pageable      페이지네이션 정보
@@ -209,13 +315,25 @@ public class ProductService {
      */
     @Transactional(readOnly = true)
     public ProductDTO.ProductListData searchProductsByTitle(String title, Pageable pageable, Long currentUserId) {
-        List<Product> productList = productRepository.findByTitleContainsIgnoreCase(title);
-        Page<Product> productPage = paginateList(productList, pageable);
-        return convertToProductListData(productPage, currentUserId);
+        if (ProductChosungIndex.isChosungQuery(title) && productChosungIndex.isReady()) {
+            // 초성이 섞인 검색어 ("ㅇㅇㅍ", "아ㅇ폰")는 초성 인덱스로 검색
+            SearchResult result = productChosungIndex.search(title, (int) pageable.getOffset(), pageable.getPageSize());
+            return convertToProductListData(toProductPage(result, pageable), currentUserId);
+        }
+        if (!productSearchIndex.isReady()) {
+            // 기동 직후 인덱스 적재가 끝나기 전에는 DB 검색으로 처리
+            List<Product> productList = productRepository.findByTitleContainsIgnoreCase(title);
+            Page<Product> productPage = paginateList(productList, pageable);
+            return convertToProductListData(productPage, currentUserId);
+        }
+        SearchResult result = productSearchIndex.search(title, false, ProductSearchIndex.Order.LATEST, (int) pageable.getOffset(), pageable.getPageSize());
+        ProductDTO.ProductListData productListData = convertToProductListData(toProductPage(result, pageable), currentUserId);
+        productListData.setDidYouMean(result.getDidYouMean());
+        return productListData;
     }
 
     /**
-     * 상품 내용으로 상품을 검색합니다.
+     * 상품 제목/내용으로 상품을 검색합니다. 결과는 관련도순(제목 일치 우선, 최신/인기 상품 가중)입니다.
      *
      * @param keyword       상품 내용
      * @param pageable      페이지네이션 정보
@@ -224,9 +342,141 @@ public class ProductService {
      */
     @Transactional(readOnly = true)
     public ProductDTO.ProductListData searchProductsByKeyword(String keyword, Pageable pageable, Long currentUserId) {
-        List<Product> productList = productRepository.findByTitleContainsIgnoreCaseOrContentContainsIgnoreCase(keyword, keyword);
-        Page<Product> productPage = paginateList(productList, pageable);
-        return convertToProductListData(productPage, currentUserId);
+        if (!productSearchIndex.isReady()) {
+            // 기동 직후 인덱스 적재가 끝나기 전에는 DB 검색으로 처리
+            List<Product> productList = productRepository.findByTitleContainsIgnoreCaseOrContentContainsIgnoreCase(keyword, keyword);
+            Page<Product> productPage = paginateList(productList, pageable);
+            return convertToProductListData(productPage, currentUserId);
+        }
+        SearchResult result = productSearchIndex.search(keyword, true, ProductSearchIndex.Order.RELEVANCE, (int) pageable.getOffset(), pageable.getPageSize());
+        ProductDTO.ProductListData productListData = convertToProductListData(toProductPage(result, pageable), currentUserId);
+        productListData.setDidYouMean(result.getDidYouMean());
+        return productListData;
+    }
+
+    /**
+     * 지금 인기 있는 상품 목록을 반환합니다. 주기적으로 갱신된 스냅샷에서 꺼내므로 DB를 조회하지 않습니다.
+     *
+     * @param limit 최대 상품 수
+     * @return 인기 점수순 상품 목록
+     */
+    public List<ProductDTO.Response> getTrendingProducts(int limit) {
+        return trendingSnapshot.stream()
+                .limit(Math.max(0, limit))
+                .map(response -> response.toBuilder().build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 인기 점수 상위 상품으로 인기 상품 스냅샷을 다시 만듭니다.
+     * 거래 완료/삭제된 상품을 걸러내고도 목록이 차도록 필요한 수의 두 배를 후보로 읽습니다.
+     */
+    @Scheduled(fixedDelayString = "${product.trending.refresh-interval-ms:60000}")
+    @Transactional(readOnly = true)
+    public void refreshTrendingProducts() {
+        List<Long> candidateIds = productTrendingIndex.top(trendingSize * 2);
+        if (candidateIds.isEmpty()) {
+            trendingSnapshot = Collections.emptyList();
+            return;
+        }
+        Map<Long, Product> productsById = productRepository.findByProductIdIn(candidateIds).stream()
+                .collect(Collectors.toMap(Product::getProductId, Function.identity()));
+        List<Product> products = candidateIds.stream()
+                .map(productsById::get)
+                .filter(Objects::nonNull)
+                .filter(product -> !Boolean.TRUE.equals(product.getIsCompleted()))
+                .limit(trendingSize)
+                .collect(Collectors.toList());
+        Map<Long, String> thumbnails = findThumbnails(products);
+        trendingSnapshot = products.stream()
+                .map(product -> mapToProductListItem(product, thumbnails, null))
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * 이 상품을 찜한 사용자들이 함께 찜한 상품을 유사도순으로 반환합니다.
+     * 유사 상품 목록은 주기적으로 계산해 둔 메모리 값이며, 거래 완료/삭제된 상품은 제외합니다.
+     *
+     * @param productId 상품 ID
+     * @param limit     최대 상품 수
+     * @return 유사 상품 목록 (계산된 목록이 없으면 빈 목록)
+     */
+    @Transactional(readOnly = true)
+    public List<ProductDTO.Response> getSimilarProducts(Long productId, int limit) {
+        List<Long> similarIds = productSimilarityIndex.similar(productId, Integer.MAX_VALUE);
+        if (similarIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, Product> productsById = productRepository.findByProductIdIn(similarIds).stream()
+                .collect(Collectors.toMap(Product::getProductId, Function.identity()));
+        List<Product> products = similarIds.stream()
+                .map(productsById::get)
+                .filter(Objects::nonNull)
+                .filter(product -> !Boolean.TRUE.equals(product.getIsCompleted()))
+                .limit(Math.max(0, limit))
+                .collect(Collectors.toList());
+        Map<Long, String> thumbnails = findThumbnails(products);
+        return products.stream()
+                .map(product -> mapToProductListItem(product, thumbnails, null))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 입력 중인 검색어로 시작하는 상품 제목/카테고리를 인기순으로 추천합니다. DB를 조회하지 않습니다.
+     *
+     * @param prefix 입력 중인 검색어
+     * @param limit  최대 추천어 수
+     * @return 추천어 목록 (인덱스 준비 전에는 빈 목록)
+     */
+    public List<ProductDTO.Suggestion> autocomplete(String prefix, int limit) {
+        return productAutocompleteIndex.suggest(prefix, Math.max(1, limit)).stream()
+                .map(entry -> ProductDTO.Suggestion.builder()
+                        .text(entry.getText())
+                        .type(entry.getType().name())
+                        .categoryId(entry.getCategoryId())
+                        .count(entry.getCount())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 카테고리, 판매자 지역, 가격 범위, 판매 상태로 상품을 필터링하고 패싯별 건수를 함께 반환합니다.
+     *
+     * @param request       필터 조건
+     * @param pageable      페이지네이션 정보 (최신 등록순 고정)
+     * @param currentUserId 현재 사용자 ID (조회 시 사용)
+     * @return 필터 결과 상품 목록과 패싯별 건수
+     */
+    @Transactional(readOnly = true)
+    public ProductDTO.FilterResponse filterProducts(ProductDTO.FilterRequest request, Pageable pageable, Long currentUserId) {
+        ProductFilter filter = toProductFilter(request);
+        Pageable filterPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+
+        if (!productFacetIndex.isReady()) {
+            // 기동 직후 패싯 인덱스 적재가 끝나기 전에는 DB로 필터링하고 패싯 건수는 생략
+            ProductFilter.Status status = filter.getStatus();
+            Page<Product> productPage = productRepository.findByFilter(
+                    filter.getCategoryId(), filter.getAreaId(), filter.getMinPrice(), filter.getMaxPrice(),
+                    status == null || status == ProductFilter.Status.COMPLETED ? null : status == ProductFilter.Status.RESERVED,
+                    status == null ? null : status == ProductFilter.Status.COMPLETED,
+                    filterPageable);
+            return ProductDTO.FilterResponse.builder()
+                    .products(convertToProductListData(productPage, currentUserId))
+                    .build();
+        }
+
+        FacetResult result = productFacetIndex.filter(filter, (int) filterPageable.getOffset(), filterPageable.getPageSize());
+        Map<String, Long> statusCounts = new LinkedHashMap<>();
+        result.getStatusCounts().forEach((status, count) -> statusCounts.put(status.name(), count));
+        return ProductDTO.FilterResponse.builder()
+                .products(convertToProductListData(toProductPage(result.getPage(), filterPageable), currentUserId))
+                .facets(ProductDTO.FacetCounts.builder()
+                        .categories(result.getCategoryCounts())
+                        .areas(result.getAreaCounts())
+                        .priceRanges(result.getPriceRangeCounts())
+                        .statuses(statusCounts)
+                        .build())
+                .build();
     }
 
     /**
@@ -248,6 +498,35 @@ public class ProductService {
             product.markAsReserved(isReserved);
             product.markAsCompleted(isCompleted);
         productRepository.save(product);
+        eventPublisher.publishEvent(ProductChangedEvent.of(ProductChangedEvent.Type.STATUS_CHANGED, product));
+    }
+
+    /**
+     * 필터 요청 DTO를 검증하여 패싯 필터 조건으로 변환합니다.
+     *
+     * @param request 필터 요청 DTO
+     * @return 패싯 필터 조건
+     */
+    private ProductFilter toProductFilter(ProductDTO.FilterRequest request) {
+        if (request.getMinPrice() != null && request.getMaxPrice() != null
+                && request.getMinPrice() > request.getMaxPrice()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        ProductFilter.Status status = null;
+        if (request.getStatus() != null && !request.getStatus().isBlank()) {
+            try {
+                status = ProductFilter.Status.valueOf(request.getStatus().trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new BusinessException(ErrorCode.INVALID_TYPE_VALUE);
+            }
+        }
+        return ProductFilter.builder()
+                .categoryId(request.getCategoryId())
+                .areaId(request.getAreaId())
+                .minPrice(request.getMinPrice())
+                .maxPrice(request.getMaxPrice())
+                .status(status)
+                .build();
     }
 
     /**
@@ -265,6 +544,25 @@ public class ProductService {
         return new PageImpl<>(list.subList(start, end), pageable, list.size());
     }
 
+    /**
+     * 검색 결과의 상품 ID 순서를 유지한 채 해당 페이지의 상품만 조회합니다.
+     *
+     * @param result   인메모리 검색 결과
+     * @param pageable 페이지네이션 정보
+     */
+    private Page<Product> toProductPage(SearchResult result, Pageable pageable) {
+        if (result.getProductIds().isEmpty()) {
+            return new PageImpl<>(Collections.emptyList(), pageable, result.getTotalHits());
+        }
+        Map<Long, Product> productsById = productRepository.findByProductIdIn(result.getProductIds()).stream()
+                .collect(Collectors.toMap(Product::getProductId, Function.identity()));
+        List<Product> ordered = result.getProductIds().stream()
+                .map(productsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new PageImpl<>(ordered, pageable, result.getTotalHits());
+    }
+
     /**
      * 상품 페이지 정보를 ProductDTO.ProductListData로 변환합니다.
      *
@@ -273,11 +571,9 @@ public class ProductService {
      * @return 변환된 상품 목록 데이터 DTO
      */
     private ProductDTO.ProductListData convertToProductListData(Page<Product> productPage, Long currentUserId) {
+        Map<Long, String> thumbnails = findThumbnails(productPage.getContent());
         List<ProductDTO.Response> productResponses = productPage.getContent().stream()
-                .map(product -> {
-                    List<Image> images = imageRepository.findByProduct_ProductId(product.getProductId());
-                    return mapToProductDTOResponse(product, currentUserId);
-                })
+                .map(product -> mapToProductListItem(product, thumbnails, currentUserId))
                 .collect(Collectors.toList());
 
         ProductDTO.ProductListPagination pagination = ProductDTO.ProductListPagination.builder()
@@ -295,6 +591,38 @@ public class ProductService {
                 .build();
     }
 
+    /**
+     * 목록에 포함된 상품들의 썸네일(첫 번째 이미지)을 한 번의 쿼리로 조회합니다.
+     *
+     * @param products 목록에 포함된 상품들
+     * @return 상품 ID별 썸네일 URL
+     */
+    private Map<Long, String> findThumbnails(List<Product> products) {
+        if (products.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<Long> productIds = products.stream()
+                .map(Product::getProductId)
+                .collect(Collectors.toList());
+        return imageRepository.findThumbnailsByProductIds(productIds).stream()
+                .collect(Collectors.toMap(ImageRepository.ProductThumbnail::getProductId,
+                        ImageRepository.ProductThumbnail::getImageUrl));
+    }
+
+    /**
+     * 목록용 상품 응답을 만듭니다. 판매자/지역/카테고리는 목록 쿼리에서 함께 조회된 상태여야 합니다.
+     *
+     * @param product       변환할 Product 엔티티
+     * @param thumbnails    상품 ID별 썸네일 URL
+     * @param currentUserId 현재 사용자 ID (조회 시 사용)
+     * @return 변환된 상품 정보 DTO
+     */
+    private ProductDTO.Response mapToProductListItem(Product product, Map<Long, String> thumbnails, Long currentUserId) {
+        ProductDTO.Response response = mapToProductDTOResponse(product, currentUserId);
+        response.setThumbnailUrl(thumbnails.get(product.getProductId()));
+        return response;
+    }
+
     /**
      * Product 엔티티를 ProductDTO.Response로 변환합니다.
      *
@@ -313,7 +641,8 @@ public class ProductService {
                 .seller(ProductDTO.SellerInfo.fromEntity(product.getUser()))
                 .createdAt(product.getCreatedAt())
                 .updatedAt(product.getUpdatedAt())
-                .viewCount(product.getViewCount())
+                .bumpedAt(product.getBumpedAt())
+                .viewCount(productViewCountService.currentViewCount(product.getProductId(), product.getViewCount()))
                 .isReserved(product.getIsReserved() != null ? product.getIsReserved() : false)
                 .isCompleted(product.getIsCompleted() != null ? product.getIsCompleted() : false)
                 .build();
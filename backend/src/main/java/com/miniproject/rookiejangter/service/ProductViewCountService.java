@@ -0,0 +1,124 @@
+package com.miniproject.rookiejangter.service;
+
+import com.miniproject.rookiejangter.cache.ProductDetailCache;
+import com.miniproject.rookiejangter.search.ProductSearchIndex;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 조회수를 메모리에 모았다가 주기적으로 DB에 일괄 반영합니다.
+ * 상세 조회마다 products 행을 UPDATE(행 잠금)하지 않도록 하기 위함이며,
+ * 장애 시 유실될 수 있는 조회수는 최대 한 번의 반영 주기 분량입니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductViewCountService {
+
+    private static final String FLUSH_SQL =
+            "UPDATE products SET view_count = COALESCE(view_count, 0) + ? WHERE product_id = ?";
+    private static final String SELECT_VIEW_COUNTS_PREFIX =
+            "SELECT product_id, view_count FROM products WHERE product_id IN (";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductDetailCache productDetailCache;
+    private final ProductSearchIndex productSearchIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    // 상품별 반영 대기 조회수: 반영이 끝난 뒤 반영한 만큼만 빼므로 그 사이의 증가분은 남고, 반영 중에도 조회수가 줄어 보이지 않음
+    private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 상품 조회수를 1 증가시킵니다. DB에는 다음 반영 주기에 기록됩니다.
+     *
+     * @param productId 상품 ID
+     */
+    public void increment(Long productId) {
+        pending.merge(productId, 1L, Long::sum);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수를 반환합니다.
+     *
+     * @param productId 상품 ID
+     * @return 반영 대기 중인 조회수
+     */
+    public long pendingCount(Long productId) {
+        return pending.getOrDefault(productId, 0L);
+    }
+
+    /**
+     * DB에 저장된 조회수에 반영 대기 중인 조회수를 더한 값을 반환합니다.
+     *
+     * @param productId       상품 ID
+     * @param storedViewCount DB에 저장된 조회수
+     * @return 현재 조회수
+     */
+    public int currentViewCount(Long productId, Integer storedViewCount) {
+        long stored = storedViewCount != null ? storedViewCount : 0;
+        return (int) Math.min(Integer.MAX_VALUE, stored + pendingCount(productId));
+    }
+
+    /**
+     * 누적된 조회수를 한 트랜잭션 안의 JDBC 배치 UPDATE로 반영합니다.
+     * 반영한 뒤 DB의 조회수를 다시 읽어 상품 상세 캐시(로컬, Redis)에 반영하므로 다른 서버도 반영된 조회수를 봅니다.
+     * 반영에 실패하면 트랜잭션이 통째로 롤백되고 대기 조회수도 그대로 남아 다음 주기에 다시 시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${product.view-count.flush-interval-ms:3000}")
+    public synchronized void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        for (var entry : pending.entrySet()) {
+            if (entry.getValue() > 0) {
+                batch.add(new Object[]{entry.getValue(), entry.getKey()});
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batch));
+        } catch (RuntimeException e) {
+            log.error("Failed to flush view counts for {} products, will retry: {}", batch.size(), e.getMessage());
+            return;
+        }
+        for (Object[] row : batch) {
+            long delta = (Long) row[0];
+            pending.computeIfPresent((Long) row[1], (productId, count) -> count - delta == 0 ? null : count - delta);
+        }
+
+        for (Object[] row : batch) {
+            productSearchIndex.addViewCount((Long) row[1], (Long) row[0]);
+        }
+        try {
+            jdbcTemplate.query(SELECT_VIEW_COUNTS_PREFIX
+                            + batch.stream().map(row -> "?").collect(Collectors.joining(", ")) + ")",
+                    rs -> {
+                        productDetailCache.raiseViewCount(rs.getLong("product_id"), rs.getInt("view_count"));
+                    },
+                    batch.stream().map(row -> row[1]).toArray());
+        } catch (RuntimeException e) {
+            // 이미 반영됨: 캐시된 조회수는 캐시 만료 후 DB 값으로 맞춰짐
+            log.warn("Failed to refresh cached view counts: {}", e.getMessage());
+        }
+        log.debug("Flushed view counts for {} products", batch.size());
+    }
+
+    /**
+     * 정상 종료 시 남은 조회수를 모두 반영합니다.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
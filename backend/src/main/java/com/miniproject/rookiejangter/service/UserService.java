@@ -3,14 +3,18 @@ package com.miniproject.rookiejangter.service;
 import com.miniproject.rookiejangter.dto.UserDTO;
 import com.miniproject.rookiejangter.entity.Area;
 import com.miniproject.rookiejangter.entity.Ban;
+import com.miniproject.rookiejangter.entity.Product;
 import com.miniproject.rookiejangter.entity.User;
+import com.miniproject.rookiejangter.event.ProductChangedEvent;
 import com.miniproject.rookiejangter.exception.BusinessException;
 import com.miniproject.rookiejangter.exception.ErrorCode;
 import com.miniproject.rookiejangter.repository.AreaRepository;
 import com.miniproject.rookiejangter.repository.BanRepository;
+import com.miniproject.rookiejangter.repository.ProductRepository;
 import com.miniproject.rookiejangter.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -18,6 +22,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,6 +33,8 @@ public class UserService {
     private final AreaRepository areaRepository;
     private final BanRepository banRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 사용자 생성 메서드
@@ -122,6 +129,8 @@ public class UserService {
             newArea = user.getArea(); // 지역 정보가 업데이트되지 않으면 기존 지역 유지
         }
 
+        String previousUserName = user.getUserName();
+        Area previousArea = user.getArea();
         user.updateUserInfo(
                 newArea,
                 requestDto.getUserName() != null ? requestDto.getUserName() : user.getUserName(),
@@ -129,6 +138,7 @@ public class UserService {
         );
 
         User updatedUser = userRepository.save(user);
+        publishSellerChanged(updatedUser, previousUserName, previousArea);
         return UserDTO.Response.fromEntity(updatedUser);
     }
 
@@ -152,6 +162,8 @@ public class UserService {
             newArea = user.getArea(); // 지역 정보가 업데이트되지 않으면 기존 지역 유지
         }
 
+        String previousUserName = user.getUserName();
+        Area previousArea = user.getArea();
         user.updateUserInfo(
                 newArea,
                 requestDto.getUserName() != null ? requestDto.getUserName() : user.getUserName(),
@@ -159,9 +171,23 @@ public class UserService {
                 );
 
         User updatedUser = userRepository.save(user);
+        publishSellerChanged(updatedUser, previousUserName, previousArea);
         return UserDTO.Response.fromEntity(updatedUser);
     }
 
+    // 상품 목록/상세에 판매자 이름과 지역이 나오고 지역은 패싯 인덱스에도 쓰이므로, 바뀌었으면 판매자의 상품마다 변경 이벤트를 발행
+    private void publishSellerChanged(User user, String previousUserName, Area previousArea) {
+        boolean nameChanged = !Objects.equals(previousUserName, user.getUserName());
+        boolean areaChanged = !Objects.equals(previousArea != null ? previousArea.getAreaId() : null,
+                user.getArea() != null ? user.getArea().getAreaId() : null);
+        if (!nameChanged && !areaChanged) {
+            return;
+        }
+        for (Product product : productRepository.findAllByUser(user)) {
+            eventPublisher.publishEvent(ProductChangedEvent.of(ProductChangedEvent.Type.UPDATED, product));
+        }
+    }
+
     @Transactional
     public UserDTO.Response updateUserStatus(Long userId, UserDTO.StatusUpdateRequest requestDto) {
         User user = userRepository.findById(userId)
@@ -0,0 +1,3 @@
+-- src/main/resources/db/migration/V10__drop_products_created_at_index.sql
+-- 피드는 (bumped_at, product_id) 순서로 읽으므로 created_at 순 피드용 인덱스는 더 이상 쓰이지 않음 (쓰기마다 유지 비용만 듦)
+DROP INDEX IF EXISTS `idx_products_created_at_id` ON `products`;
@@ -0,0 +1,15 @@
+-- src/main/resources/db/migration/V3__add_keyset_pagination_indexes.sql
+-- 커서(keyset) 페이지네이션용 복합 인덱스: (필터 컬럼, created_at, PK) 순서로 정렬을 인덱스에서 해결
+
+-- 전체 상품 최신순 피드
+CREATE INDEX IF NOT EXISTS `idx_products_created_at_id` ON `products` (`created_at`, `product_id`);
+
+-- 채팅방별 메시지
+CREATE INDEX IF NOT EXISTS `idx_messages_chat_created_at_id` ON `messages` (`chat_id`, `created_at`, `message_id`);
+
+-- 사용자별 채팅방 목록 (구매자/판매자 양쪽)
+CREATE INDEX IF NOT EXISTS `idx_chats_buyer_created_at_id` ON `chats` (`buyer_id`, `created_at`, `chat_id`);
+CREATE INDEX IF NOT EXISTS `idx_chats_seller_created_at_id` ON `chats` (`seller_id`, `created_at`, `chat_id`);
+
+-- 사용자별 알림
+CREATE INDEX IF NOT EXISTS `idx_notifications_user_created_at_id` ON `notifications` (`user_id`, `created_at`, `notification_id`);
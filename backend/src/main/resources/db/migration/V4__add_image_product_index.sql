@@ -0,0 +1,3 @@
+-- src/main/resources/db/migration/V4__add_image_product_index.sql
+-- 상품 목록 썸네일 조회(상품별 MIN(image_id))와 상품별 이미지 조회용 인덱스
+CREATE INDEX IF NOT EXISTS `idx_images_product_id_image_id` ON `images` (`product_id`, `image_id`);
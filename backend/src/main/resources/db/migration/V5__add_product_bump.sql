@@ -0,0 +1,17 @@
+-- src/main/resources/db/migration/V5__add_product_bump.sql
+-- 끌어올리기: 피드 정렬 기준 시각(bumped_at = max(created_at, 마지막 끌어올린 시각))과 상품별 끌어올리기 횟수
+
+ALTER TABLE `products` ADD COLUMN IF NOT EXISTS `bumped_at` TIMESTAMP NULL;
+UPDATE `products` SET `bumped_at` = COALESCE(`created_at`, CURRENT_TIMESTAMP) WHERE `bumped_at` IS NULL;
+
+-- 전체/카테고리별 피드를 인덱스 순서로 읽기 위한 인덱스 (filesort 방지)
+CREATE INDEX IF NOT EXISTS `idx_products_bumped_at_id` ON `products` (`bumped_at`, `product_id`);
+CREATE INDEX IF NOT EXISTS `idx_products_category_bumped_at_id` ON `products` (`category_id`, `bumped_at`, `product_id`);
+
+-- bumps table
+CREATE TABLE IF NOT EXISTS `bumps` (
+  `bump_id` BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+  `product_id` BIGINT NULL,
+  `bump_count` INT NULL,
+  CONSTRAINT `uk_bumps_product_id` UNIQUE (`product_id`)
+);
@@ -0,0 +1,3 @@
+-- src/main/resources/db/migration/V6__add_dibs_product_index.sql
+-- 상품 삭제 시 찜 일괄 삭제(DELETE ... WHERE product_id = ?)와 상품별 찜 조회용 인덱스
+CREATE INDEX IF NOT EXISTS `idx_dibs_product_id` ON `dibs` (`product_id`);
@@ -0,0 +1,32 @@
+-- src/main/resources/db/migration/V7__add_chat_summaries.sql
+-- 채팅방 목록용 요약(참여자별 한 행): 마지막 메시지, 마지막 활동 시각, 안 읽은 메시지 수
+-- 목록은 (user_id, last_message_at, chat_id) 인덱스 하나로 최근 활동순 조회
+
+CREATE TABLE IF NOT EXISTS `chat_summaries` (
+  `chat_summary_id` BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+  `chat_id` BIGINT NOT NULL,
+  `user_id` BIGINT NOT NULL,
+  `last_message` VARCHAR(255) NULL,
+  `last_message_id` BIGINT NULL,
+  `last_message_at` TIMESTAMP NULL,
+  `unread_count` INT NOT NULL DEFAULT 0,
+  CONSTRAINT `uk_chat_summaries_chat_user` UNIQUE (`chat_id`, `user_id`)
+);
+
+CREATE INDEX IF NOT EXISTS `idx_chat_summaries_user_last_message_at_chat` ON `chat_summaries` (`user_id`, `last_message_at`, `chat_id`);
+
+-- 기존 채팅방 요약 채우기 (구매자/판매자 각각)
+INSERT INTO `chat_summaries` (`chat_id`, `user_id`, `last_message`, `last_message_id`, `last_message_at`, `unread_count`)
+SELECT c.`chat_id`,
+       p.`user_id`,
+       m.`content`,
+       m.`message_id`,
+       COALESCE(m.`created_at`, c.`created_at`, CURRENT_TIMESTAMP),
+       (SELECT COUNT(*) FROM `messages` u
+         WHERE u.`chat_id` = c.`chat_id` AND COALESCE(u.`is_read`, FALSE) = FALSE AND u.`sender_id` <> p.`user_id`)
+FROM `chats` c
+JOIN (SELECT `chat_id`, `buyer_id` AS `user_id` FROM `chats`
+      UNION ALL
+      SELECT `chat_id`, `seller_id` AS `user_id` FROM `chats`) p ON p.`chat_id` = c.`chat_id`
+LEFT JOIN `messages` m ON m.`message_id` = (SELECT MAX(m2.`message_id`) FROM `messages` m2 WHERE m2.`chat_id` = c.`chat_id`)
+WHERE p.`user_id` IS NOT NULL;
@@ -0,0 +1,12 @@
+-- src/main/resources/db/migration/V8__add_chat_read_watermark.sql
+-- 채팅방 참여자별 읽은 위치(마지막으로 읽은 메시지 ID): 읽음 처리는 이 한 행만 갱신하고, 메시지별 읽음 여부는 이 값으로 판단
+
+ALTER TABLE `chat_summaries` ADD COLUMN IF NOT EXISTS `last_read_message_id` BIGINT NULL;
+
+-- 기존 읽음 상태에서 읽은 위치 채우기: 안 읽은 메시지가 없으면 마지막 메시지, 있으면 가장 오래된 안 읽은 메시지 직전
+UPDATE `chat_summaries` s
+SET `last_read_message_id` = CASE
+    WHEN s.`unread_count` = 0 THEN s.`last_message_id`
+    ELSE (SELECT MIN(u.`message_id`) - 1 FROM `messages` u
+           WHERE u.`chat_id` = s.`chat_id` AND COALESCE(u.`is_read`, FALSE) = FALSE AND u.`sender_id` <> s.`user_id`)
+END;
@@ -0,0 +1,18 @@
+-- src/main/resources/db/migration/V9__add_message_archive.sql
+-- 오래된 채팅방 메시지 보관소의 희소 인덱스: 압축 블록마다 한 행 (메시지마다가 아님)
+-- 블록 본문은 chat.archive.dir 아래 세그먼트 파일에 있고, 이 행은 파일 위치와 블록에 든 메시지 범위를 가리킴
+
+CREATE TABLE IF NOT EXISTS `message_archive_blocks` (
+  `block_id` BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+  `chat_id` BIGINT NOT NULL,
+  `first_message_id` BIGINT NOT NULL,
+  `last_message_id` BIGINT NOT NULL,
+  `first_created_at` TIMESTAMP NULL,
+  `last_created_at` TIMESTAMP NULL,
+  `message_count` INT NOT NULL,
+  `segment_no` INT NOT NULL,
+  `block_offset` BIGINT NOT NULL,
+  `block_length` INT NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS `idx_message_archive_blocks_chat_first_message` ON `message_archive_blocks` (`chat_id`, `first_message_id`);
@@ -0,0 +1,121 @@
+package com.miniproject.rookiejangter.archive;
+
+import com.miniproject.rookiejangter.entity.MessageArchiveBlock;
+import com.miniproject.rookiejangter.repository.MessageArchiveBlockRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * MessageArchiveService.findMergedPage 테스트
+ * 보관된 메시지(1~5)와 테이블에 남은 메시지(6~9)를 이어 붙인 순서에서, 경계를 걸친 페이지도 빠짐없이 겹침 없이 조회해야 한다.
+ */
+class MessageArchiveServiceTest {
+
+    private static final Long CHAT_ID = 7L;
+    private static final long ARCHIVED = 5;
+
+    @TempDir
+    Path dir;
+
+    private MessageSegmentStore segmentStore;
+    private MessageArchiveService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        segmentStore = new MessageSegmentStore();
+        ReflectionTestUtils.setField(segmentStore, "enabled", true);
+        ReflectionTestUtils.setField(segmentStore, "dir", dir.toString());
+        ReflectionTestUtils.setField(segmentStore, "blockBytes", 65536);
+        ReflectionTestUtils.setField(segmentStore, "segmentBytes", 1L << 20);
+        segmentStore.open();
+
+        // 블록 경계도 페이지 안에 오도록 2, 2, 1개씩 나눠 보관
+        List<MessageArchiveBlock> blocks = new ArrayList<>();
+        blocks.addAll(segmentStore.append(CHAT_ID, MessageSegmentStoreTest.messages(1, 2)));
+        blocks.addAll(segmentStore.append(CHAT_ID, MessageSegmentStoreTest.messages(3, 2)));
+        blocks.addAll(segmentStore.append(CHAT_ID, MessageSegmentStoreTest.messages(5, 1)));
+        MessageArchiveBlockRepository blockRepository = mock(MessageArchiveBlockRepository.class);
+        when(blockRepository.findByChatIdOrderByFirstMessageIdAsc(CHAT_ID)).thenReturn(blocks);
+
+        List<MessageRecord> live = MessageSegmentStoreTest.messages(6, 4);
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq(CHAT_ID))).thenReturn((long) live.size());
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(CHAT_ID), anyInt(), anyLong()))
+                .thenAnswer(invocation -> {
+                    String sql = invocation.getArgument(0);
+                    int limit = invocation.getArgument(3);
+                    long offset = invocation.getArgument(4);
+                    List<MessageRecord> ordered = new ArrayList<>(live);
+                    if (sql.contains("DESC")) {
+                        Collections.reverse(ordered);
+                    }
+                    int from = (int) Math.min(offset, ordered.size());
+                    return ordered.subList(from, Math.min(ordered.size(), from + limit));
+                });
+
+        service = new MessageArchiveService(segmentStore, blockRepository, jdbcTemplate, null, null);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        segmentStore.close();
+    }
+
+    @Test
+    @DisplayName("오름차순이면 보관된 메시지 다음에 남은 메시지가 이어진다")
+    void pagesAscendingAcrossBoundary() {
+        assertThat(ids(0, 4, Sort.Direction.ASC)).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(ids(1, 4, Sort.Direction.ASC)).containsExactly(5L, 6L, 7L, 8L);
+        assertThat(ids(2, 4, Sort.Direction.ASC)).containsExactly(9L);
+        assertThat(ids(3, 4, Sort.Direction.ASC)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("내림차순이면 남은 메시지 다음에 보관된 메시지가 최신순으로 이어진다")
+    void pagesDescendingAcrossBoundary() {
+        assertThat(ids(0, 3, Sort.Direction.DESC)).containsExactly(9L, 8L, 7L);
+        assertThat(ids(1, 3, Sort.Direction.DESC)).containsExactly(6L, 5L, 4L);
+        assertThat(ids(2, 3, Sort.Direction.DESC)).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("전체 개수는 보관된 메시지와 남은 메시지의 합이다")
+    void countsArchivedAndLive() {
+        Page<MessageRecord> page = service.findMergedPage(CHAT_ID, ARCHIVED,
+                PageRequest.of(0, 4, Sort.by(Sort.Direction.ASC, "createdAt")));
+
+        assertThat(page.getTotalElements()).isEqualTo(9);
+        assertThat(page.getTotalPages()).isEqualTo(3);
+    }
+
+    private List<Long> ids(int page, int size, Sort.Direction direction) {
+        return service.findMergedPage(CHAT_ID, ARCHIVED, PageRequest.of(page, size, Sort.by(direction, "createdAt")))
+                .getContent().stream()
+                .map(MessageRecord::getMessageId)
+                .toList();
+    }
+}
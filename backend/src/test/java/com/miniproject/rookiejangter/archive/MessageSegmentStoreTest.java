@@ -0,0 +1,137 @@
+package com.miniproject.rookiejangter.archive;
+
+import com.miniproject.rookiejangter.entity.MessageArchiveBlock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * MessageSegmentStore 테스트
+ * 덧붙인 블록은 반환한 인덱스로 그대로 읽혀야 하고, 세그먼트가 차면 다음 파일로 넘어가며, 손상된 블록은 읽지 않아야 한다.
+ */
+class MessageSegmentStoreTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 12, 0, 0, 123_000_000);
+
+    @TempDir
+    Path dir;
+
+    private MessageSegmentStore store;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    @Test
+    @DisplayName("덧붙인 메시지를 블록 인덱스로 같은 값 그대로 읽는다")
+    void appendAndReadRoundTrip() throws IOException {
+        store = open(65536, 1 << 20);
+        List<MessageRecord> messages = List.of(
+                new MessageRecord(1L, 10L, "안녕하세요, 아직 판매 중인가요?", BASE),
+                new MessageRecord(2L, 20L, "네 판매 중입니다", BASE.plusSeconds(30)),
+                new MessageRecord(3L, null, "", null));
+
+        List<MessageArchiveBlock> blocks = store.append(7L, messages);
+
+        assertThat(blocks).hasSize(1);
+        MessageArchiveBlock block = blocks.get(0);
+        assertThat(block.getChatId()).isEqualTo(7L);
+        assertThat(block.getFirstMessageId()).isEqualTo(1L);
+        assertThat(block.getLastMessageId()).isEqualTo(3L);
+        assertThat(block.getFirstCreatedAt()).isEqualTo(BASE);
+        assertThat(block.getMessageCount()).isEqualTo(3);
+        assertThat(block.getSegmentNo()).isEqualTo(1);
+
+        List<MessageRecord> read = store.read(block);
+        assertThat(read).extracting(MessageRecord::getMessageId).containsExactly(1L, 2L, 3L);
+        assertThat(read).extracting(MessageRecord::getSenderId).containsExactly(10L, 20L, null);
+        assertThat(read).extracting(MessageRecord::getContent)
+                .containsExactly("안녕하세요, 아직 판매 중인가요?", "네 판매 중입니다", "");
+        assertThat(read).extracting(MessageRecord::getCreatedAt).containsExactly(BASE, BASE.plusSeconds(30), null);
+    }
+
+    @Test
+    @DisplayName("세그먼트 크기를 넘으면 다음 세그먼트에 덧붙이고, 다시 열어도 모든 블록을 읽는다")
+    void rollsOverToNextSegment() throws IOException {
+        store = open(64, 256);
+        List<MessageRecord> messages = messages(1, 60);
+
+        List<MessageArchiveBlock> blocks = new ArrayList<>(store.append(7L, messages));
+
+        assertThat(blocks).hasSizeGreaterThan(1);
+        assertThat(blocks.get(blocks.size() - 1).getSegmentNo()).isGreaterThan(1);
+        assertThat(blocks).allSatisfy(block ->
+                assertThat(block.getBlockOffset() + block.getBlockLength()).isLessThanOrEqualTo(256L));
+
+        // 다시 열면 마지막 세그먼트에 이어서 덧붙임
+        int lastSegment = blocks.get(blocks.size() - 1).getSegmentNo();
+        store.close();
+        store = open(64, 256);
+        List<MessageArchiveBlock> more = store.append(8L, messages(61, 1));
+        assertThat(more.get(0).getSegmentNo()).isGreaterThanOrEqualTo(lastSegment);
+        blocks.addAll(more);
+
+        List<Long> ids = new ArrayList<>();
+        for (MessageArchiveBlock block : blocks) {
+            ids.addAll(store.read(block).stream().map(MessageRecord::getMessageId).toList());
+        }
+        assertThat(ids).hasSize(61).isSorted().startsWith(1L).endsWith(61L);
+    }
+
+    @Test
+    @DisplayName("저장된 체크섬과 압축 해제한 내용이 다르면 IOException을 던진다")
+    void rejectsChecksumMismatch() throws IOException {
+        store = open(65536, 1 << 20);
+        MessageArchiveBlock block = store.append(7L, messages(1, 5)).get(0);
+
+        // 블록 헤더의 CRC32(원본 길이, 압축 길이 다음 4바이트)를 바꿈
+        Path segment = dir.resolve(String.format("segment-%06d.seg", block.getSegmentNo()));
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer crc = ByteBuffer.allocate(4);
+            channel.read(crc, block.getBlockOffset() + 8);
+            crc.flip();
+            int corrupted = crc.getInt() ^ 1;
+            channel.write(ByteBuffer.allocate(4).putInt(corrupted).flip(), block.getBlockOffset() + 8);
+        }
+
+        assertThatThrownBy(() -> store.read(block))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Checksum mismatch");
+    }
+
+    private MessageSegmentStore open(int blockBytes, long segmentBytes) throws IOException {
+        MessageSegmentStore segmentStore = new MessageSegmentStore();
+        ReflectionTestUtils.setField(segmentStore, "enabled", true);
+        ReflectionTestUtils.setField(segmentStore, "dir", dir.toString());
+        ReflectionTestUtils.setField(segmentStore, "blockBytes", blockBytes);
+        ReflectionTestUtils.setField(segmentStore, "segmentBytes", segmentBytes);
+        segmentStore.open();
+        return segmentStore;
+    }
+
+    static List<MessageRecord> messages(long firstId, int count) {
+        List<MessageRecord> messages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long id = firstId + i;
+            messages.add(new MessageRecord(id, id % 2 == 0 ? 10L : 20L, "메시지 " + id, BASE.plusSeconds(id)));
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,50 @@
+package com.miniproject.rookiejangter.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * KoreanTokenizer 테스트
+ * 색인은 1-gram과 2-gram, 검색은 두 글자 이상이면 2-gram만 만든다.
+ */
+class KoreanTokenizerTest {
+
+    @Test
+    @DisplayName("한글은 색인 시 1-gram과 2-gram을 모두 만든다")
+    void hangulIndexTermsIncludeUnigramsAndBigrams() {
+        assertThat(KoreanTokenizer.indexTerms("아이폰"))
+                .containsExactlyInAnyOrder("아", "이", "폰", "아이", "이폰");
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어는 1-gram, 두 글자 이상은 2-gram으로 검색한다")
+    void queryTermsUseUnigramOnlyForSingleCharacter() {
+        assertThat(KoreanTokenizer.queryTerms("폰")).containsExactly("폰");
+        assertThat(KoreanTokenizer.queryTerms("아이폰")).containsExactly("아이", "이폰");
+    }
+
+    @Test
+    @DisplayName("한글과 영문/숫자가 붙은 구간은 경계를 걸친 n-gram까지 만든다")
+    void mixedRunIsTokenizedAsOneRun() {
+        assertThat(KoreanTokenizer.indexTerms("아이폰13"))
+                .contains("폰1", "13", "1", "3");
+        assertThat(KoreanTokenizer.queryWords("아이폰13 프로")).containsExactly("아이폰13", "프로");
+    }
+
+    @Test
+    @DisplayName("영문은 소문자 n-gram으로 나누어 단어 앞부분만으로도 검색된다")
+    void latinRunIsTokenizedIntoLowercaseGrams() {
+        assertThat(KoreanTokenizer.indexTerms("iPhone"))
+                .contains("ip", "ph", "ho", "on", "ne", "i", "p");
+        assertThat(KoreanTokenizer.queryTerms("IPH")).containsExactly("ip", "ph");
+    }
+
+    @Test
+    @DisplayName("구두점과 공백은 토큰에 포함되지 않는다")
+    void separatorsAreIgnored() {
+        assertThat(KoreanTokenizer.queryWords("  갤럭시, S24! ")).containsExactly("갤럭시", "s24");
+        assertThat(KoreanTokenizer.queryTerms("!!")).isEmpty();
+    }
+}
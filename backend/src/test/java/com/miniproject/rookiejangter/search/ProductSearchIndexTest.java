@@ -0,0 +1,120 @@
+package com.miniproject.rookiejangter.search;
+
+import com.miniproject.rookiejangter.event.ProductChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ProductSearchIndex 테스트
+ * 인덱스 검색 결과는 DB의 부분 문자열(LIKE) 검색과 같아야 하고, 수정/삭제된 상품은 이전 토큰으로 검색되지 않아야 한다.
+ */
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        SearchResultCache cache = new SearchResultCache();
+        ReflectionTestUtils.setField(cache, "maxSize", 100);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 30L);
+        cache.init();
+        index = new ProductSearchIndex(new ProductVocabulary(), cache);
+
+        index.apply(event(ProductChangedEvent.Type.CREATED, 1L, "아이폰13 미니", "배터리 성능 좋아요"));
+        index.apply(event(ProductChangedEvent.Type.CREATED, 2L, "iPhone 15 Pro", "거의 새것"));
+        index.apply(event(ProductChangedEvent.Type.CREATED, 3L, "갤럭시 S24", "아이가 쓰던 폰"));
+        index.markReady();
+    }
+
+    @Test
+    @DisplayName("한글 한 글자/두 글자 검색어로 제목을 찾는다")
+    void findsHangulUnigramAndBigram() {
+        assertThat(titleSearch("폰")).containsExactly(1L);
+        assertThat(titleSearch("갤럭")).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("한글과 숫자가 붙은 제목을 숫자나 경계를 걸친 부분 문자열로 찾는다")
+    void findsMixedRunBySubstring() {
+        assertThat(titleSearch("13")).containsExactly(1L);
+        assertThat(titleSearch("아이폰13")).containsExactly(1L);
+        assertThat(titleSearch("폰1")).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("영문 단어의 앞부분만으로 대소문자 구분 없이 찾는다")
+    void findsLatinPrefix() {
+        assertThat(titleSearch("iph")).containsExactly(2L);
+        assertThat(titleSearch("PRO")).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("2-gram이 모두 있어도 이어져 있지 않으면 찾지 않는다")
+    void rejectsNonContiguousBigrams() {
+        // "이폰 아이"는 "아이"와 "이폰"을 모두 포함하지만 "아이폰"은 포함하지 않음
+        index.apply(event(ProductChangedEvent.Type.CREATED, 4L, "이폰 아이", "abba"));
+
+        assertThat(titleSearch("아이폰")).containsExactly(1L);
+        assertThat(keywordSearch("aba")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색 범위가 제목/내용이면 내용의 부분 문자열로도 찾는다")
+    void keywordSearchIncludesContent() {
+        assertThat(keywordSearch("배터리")).containsExactly(1L);
+        assertThat(titleSearch("배터리")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("제목이 바뀌면 이전 제목으로는 찾지 않고 새 제목으로 찾는다")
+    void updateReplacesTerms() {
+        assertThat(titleSearch("iph")).containsExactly(2L);
+
+        index.apply(event(ProductChangedEvent.Type.UPDATED, 2L, "맥북 에어", "거의 새것"));
+
+        assertThat(titleSearch("iph")).isEmpty();
+        assertThat(titleSearch("맥북")).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("삭제된 상품은 검색되지 않는다")
+    void deleteRemovesDocument() {
+        assertThat(titleSearch("갤럭")).containsExactly(3L);
+
+        index.apply(ProductChangedEvent.builder().type(ProductChangedEvent.Type.DELETED).productId(3L).build());
+
+        assertThat(titleSearch("갤럭")).isEmpty();
+        assertThat(keywordSearch("폰")).containsExactly(1L);
+    }
+
+    private List<Long> titleSearch(String query) {
+        return index.search(query, false, ProductSearchIndex.Order.LATEST, 0, 10).getProductIds();
+    }
+
+    private List<Long> keywordSearch(String query) {
+        return index.search(query, true, ProductSearchIndex.Order.LATEST, 0, 10).getProductIds();
+    }
+
+    private static ProductChangedEvent event(ProductChangedEvent.Type type, Long productId, String title, String content) {
+        LocalDateTime now = LocalDateTime.now();
+        return ProductChangedEvent.builder()
+                .type(type)
+                .productId(productId)
+                .sellerId(1L)
+                .categoryId(1)
+                .title(title)
+                .content(content)
+                .price(1000)
+                .viewCount(0)
+                .createdAt(now)
+                .bumpedAt(now)
+                .build();
+    }
+}
@@ -0,0 +1,257 @@
+package com.miniproject.rookiejangter.service;
+
+import com.miniproject.rookiejangter.cache.ProductDetailCache;
+import com.miniproject.rookiejangter.dto.ProductDTO;
+import com.miniproject.rookiejangter.entity.Area;
+import com.miniproject.rookiejangter.entity.Category;
+import com.miniproject.rookiejangter.entity.Image;
+import com.miniproject.rookiejangter.entity.Product;
+import com.miniproject.rookiejangter.entity.User;
+import com.miniproject.rookiejangter.repository.BumpRepository;
+import com.miniproject.rookiejangter.repository.CategoryRepository;
+import com.miniproject.rookiejangter.repository.DibsRepository;
+import com.miniproject.rookiejangter.repository.ImageRepository;
+import com.miniproject.rookiejangter.repository.ProductRepository;
+import com.miniproject.rookiejangter.repository.UserRepository;
+import com.miniproject.rookiejangter.search.ProductAutocompleteIndex;
+import com.miniproject.rookiejangter.search.ProductChosungIndex;
+import com.miniproject.rookiejangter.search.ProductCountIndex;
+import com.miniproject.rookiejangter.search.ProductFacetIndex;
+import com.miniproject.rookiejangter.search.ProductFeedIndex;
+import com.miniproject.rookiejangter.search.ProductSearchIndex;
+import com.miniproject.rookiejangter.search.ProductSimilarityIndex;
+import com.miniproject.rookiejangter.search.ProductTrendingIndex;
+import com.miniproject.rookiejangter.search.SearchResult;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 상품 목록 조회 쿼리 수 회귀 테스트
+ * ProductService의 목록 메서드를 그대로 호출해, 판매자/지역/카테고리/썸네일을 포함한 응답까지 만드는 데 쓰인 SQL 수를 고정한다.
+ * DB 경로(인덱스 적재 전)는 [조회 대상 확인 +] 페이지 쿼리 + count 쿼리 + 썸네일 쿼리,
+ * 인덱스 경로는 [조회 대상 확인 +] 상품 쿼리 + 썸네일 쿼리로 끝나야 하며, 상품 수에 따라 늘어나면 안 된다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ProductListQueryCountTest {
+
+    // 판매자 4명 x 3개, 카테고리 4개 x 3개: 한 판매자의 상품은 카테고리가, 한 카테고리의 상품은 판매자가 모두 달라
+    // 연관 엔티티가 1차 캐시로 합쳐지지 않는다
+    private static final int PRODUCT_COUNT = 12;
+    private static final int SELLER_COUNT = 4;
+    private static final int CATEGORY_COUNT = 4;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ImageRepository imageRepository;
+
+    private final ProductFeedIndex productFeedIndex = mock(ProductFeedIndex.class);
+    private final ProductCountIndex productCountIndex = mock(ProductCountIndex.class);
+
+    private ProductService productService;
+    private List<User> sellers;
+    private List<Category> categories;
+    private List<Long> productIds;
+
+    @BeforeEach
+    void setUp() {
+        sellers = new ArrayList<>();
+        categories = new ArrayList<>();
+        for (int i = 0; i < SELLER_COUNT; i++) {
+            Area area = em.persist(Area.builder().areaName("지역" + i).build());
+            sellers.add(em.persist(User.builder()
+                    .area(area)
+                    .loginId("seller" + i)
+                    .password("password")
+                    .userName("판매자" + i)
+                    .phone("0100000000" + i)
+                    .isBanned(false)
+                    .isAdmin(false)
+                    .build()));
+        }
+        for (int i = 0; i < CATEGORY_COUNT; i++) {
+            categories.add(em.persist(Category.builder().categoryName("카테고리" + i).build()));
+        }
+        productIds = new ArrayList<>();
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            Product product = em.persist(Product.builder()
+                    .category(categories.get(i % CATEGORY_COUNT))
+                    .user(sellers.get(i / (PRODUCT_COUNT / SELLER_COUNT)))
+                    .title("상품" + i)
+                    .content("상품 설명" + i)
+                    .price(1000 * (i + 1))
+                    .viewCount(0)
+                    .isBumped(false)
+                    .isReserved(false)
+                    .isCompleted(false)
+                    .build());
+            em.persist(Image.builder().product(product).imageUrl("/images/" + i + "-1.jpg").build());
+            em.persist(Image.builder().product(product).imageUrl("/images/" + i + "-2.jpg").build());
+            productIds.add(product.getProductId());
+        }
+        em.flush();
+        em.clear();
+
+        ProductViewCountService productViewCountService = mock(ProductViewCountService.class);
+        when(productViewCountService.currentViewCount(anyLong(), any())).thenReturn(0);
+        productService = new ProductService(
+                productRepository,
+                userRepository,
+                categoryRepository,
+                imageRepository,
+                mock(DibsRepository.class),
+                mock(BumpRepository.class),
+                mock(ProductSearchIndex.class),
+                productFeedIndex,
+                productCountIndex,
+                mock(ProductFacetIndex.class),
+                mock(ProductAutocompleteIndex.class),
+                mock(ProductChosungIndex.class),
+                mock(ProductTrendingIndex.class),
+                mock(ProductSimilarityIndex.class),
+                productViewCountService,
+                mock(ProductDetailCache.class),
+                mock(FileCleanupService.class),
+                mock(ApplicationEventPublisher.class));
+    }
+
+    @Test
+    @DisplayName("getAllProducts: 피드 인덱스 적재 전 DB 피드 한 페이지는 3개의 쿼리로 조회된다")
+    void allProductsFromDatabase() {
+        when(productFeedIndex.isReady()).thenReturn(false);
+
+        Statistics statistics = clearedStatistics();
+        ProductDTO.ProductListData data = productService.getAllProducts(PageRequest.of(0, 5), null);
+
+        assertListed(data, 5, PRODUCT_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("getAllProducts: 피드 인덱스가 고른 상품 ID로 만드는 목록은 2개의 쿼리로 조회된다")
+    void allProductsFromIndex() {
+        when(productFeedIndex.isReady()).thenReturn(true);
+        when(productFeedIndex.page(null, 0, 5)).thenReturn(new SearchResult(productIds.subList(0, 5), PRODUCT_COUNT));
+
+        Statistics statistics = clearedStatistics();
+        ProductDTO.ProductListData data = productService.getAllProducts(PageRequest.of(0, 5), null);
+
+        assertListed(data, 5, PRODUCT_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("getProductsByCategory: DB 경로는 카테고리 확인을 포함해 4개의 쿼리로 조회된다")
+    void productsByCategoryFromDatabase() {
+        when(productFeedIndex.isReady()).thenReturn(false);
+        Integer categoryId = categories.get(0).getCategoryId();
+
+        Statistics statistics = clearedStatistics();
+        ProductDTO.ProductListData data = productService.getProductsByCategory(categoryId, PageRequest.of(0, 2), null);
+
+        assertListed(data, 2, PRODUCT_COUNT / CATEGORY_COUNT);
+        assertThat(data.getContent()).extracting(ProductDTO.Response::getCategoryName).containsOnly("카테고리0");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("getProductsByCategory: 인덱스 경로는 카테고리 확인을 포함해 3개의 쿼리로 조회된다")
+    void productsByCategoryFromIndex() {
+        Integer categoryId = categories.get(0).getCategoryId();
+        List<Long> inCategory = List.of(productIds.get(0), productIds.get(CATEGORY_COUNT));
+        when(productFeedIndex.isReady()).thenReturn(true);
+        when(productFeedIndex.page(categoryId, 0, 2)).thenReturn(new SearchResult(inCategory, PRODUCT_COUNT / CATEGORY_COUNT));
+
+        Statistics statistics = clearedStatistics();
+        ProductDTO.ProductListData data = productService.getProductsByCategory(categoryId, PageRequest.of(0, 2), null);
+
+        assertListed(data, 2, PRODUCT_COUNT / CATEGORY_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("getProductsByUser: 건수 인덱스 적재 전에는 판매자 확인을 포함해 4개의 쿼리로 조회된다")
+    void productsByUserFromDatabase() {
+        when(productCountIndex.isReady()).thenReturn(false);
+        Long sellerId = sellers.get(0).getUserId();
+
+        Statistics statistics = clearedStatistics();
+        ProductDTO.ProductListData data = productService.getProductsByUser(sellerId, PageRequest.of(0, 2), null);
+
+        assertListed(data, 2, PRODUCT_COUNT / SELLER_COUNT);
+        assertThat(data.getContent()).extracting(response -> response.getSeller().getUserName()).containsOnly("판매자0");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("getProductsByUser: 건수 인덱스를 쓰면 COUNT 없이 판매자 확인을 포함해 3개의 쿼리로 조회된다")
+    void productsByUserWithCountIndex() {
+        Long sellerId = sellers.get(0).getUserId();
+        when(productCountIndex.isReady()).thenReturn(true);
+        when(productCountIndex.countBySeller(sellerId)).thenReturn((long) (PRODUCT_COUNT / SELLER_COUNT));
+
+        Statistics statistics = clearedStatistics();
+        ProductDTO.ProductListData data = productService.getProductsByUser(sellerId, PageRequest.of(0, 2), null);
+
+        assertListed(data, 2, PRODUCT_COUNT / SELLER_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    private Statistics clearedStatistics() {
+        em.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    // 응답 변환 중 판매자/지역/카테고리에 접근하므로, 지연 로딩이 남아 있으면 위의 쿼리 수를 넘는다
+    private static void assertListed(ProductDTO.ProductListData data, int size, long totalElements) {
+        assertThat(data.getContent()).hasSize(size)
+                .allSatisfy(response -> {
+                    assertThat(response.getSeller().getArea()).isNotNull();
+                    assertThat(response.getCategoryName()).isNotNull();
+                    assertThat(response.getThumbnailUrl()).endsWith("-1.jpg");
+                });
+        assertThat(data.getPagination().getTotalElements()).isEqualTo(totalElements);
+        assertThat(data.getContent().stream().map(ProductDTO.Response::getId).collect(Collectors.toSet())).hasSize(size);
+    }
+}